@@ -0,0 +1,64 @@
+package com.github.anhem.testpopulator.benchmark;
+
+import com.github.anhem.testpopulator.PopulateFactory;
+import com.github.anhem.testpopulator.config.PopulateConfig;
+import com.github.anhem.testpopulator.model.java.setter.Pojo;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Populates the same model with random or fixed values and with the object factory on or off. Generated code is
+ * written to a temporary directory, and deleted before every call, since fixed values would otherwise find the
+ * generated file up to date and skip generating code.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConfigBenchmark {
+
+    @Param({"true", "false"})
+    private boolean randomValues;
+
+    @Param({"false", "true"})
+    private boolean objectFactory;
+
+    private Path path;
+    private PopulateFactory populateFactory;
+
+    @Setup
+    public void setUp() throws IOException {
+        path = Files.createTempDirectory("test-populator-benchmark");
+        populateFactory = new PopulateFactory(PopulateConfig.builder()
+                .randomValues(randomValues)
+                .objectFactory(objectFactory)
+                .path(path.toString())
+                .and()
+                .build());
+    }
+
+    @Setup(Level.Invocation)
+    public void deleteGeneratedFiles() throws IOException {
+        List<Path> generatedFiles;
+        try (Stream<Path> paths = Files.walk(path)) {
+            generatedFiles = paths.filter(file -> file.toString().endsWith(".java")).collect(Collectors.toList());
+        }
+        for (Path generatedFile : generatedFiles) {
+            Files.delete(generatedFile);
+        }
+    }
+
+    @Benchmark
+    public Pojo populate() {
+        return populateFactory.populate(Pojo.class);
+    }
+}
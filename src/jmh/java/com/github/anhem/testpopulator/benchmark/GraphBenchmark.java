@@ -0,0 +1,55 @@
+package com.github.anhem.testpopulator.benchmark;
+
+import com.github.anhem.testpopulator.PopulateFactory;
+import com.github.anhem.testpopulator.config.PopulateConfig;
+import com.github.anhem.testpopulator.model.circular.A;
+import com.github.anhem.testpopulator.model.java.DiverseJavaTypes;
+import com.github.anhem.testpopulator.model.java.constructor.NestedCollections;
+import com.github.anhem.testpopulator.model.java.setter.Pojo;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Populates models of different shapes: a flat POJO, a wide class with many JDK types, nested collections and a deep
+ * graph with circular dependencies.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GraphBenchmark {
+
+    private PopulateFactory populateFactory;
+    private PopulateFactory nullOnCircularDependencyPopulateFactory;
+
+    @Setup
+    public void setUp() {
+        populateFactory = new PopulateFactory();
+        nullOnCircularDependencyPopulateFactory = new PopulateFactory(PopulateConfig.builder()
+                .nullOnCircularDependency(true)
+                .build());
+    }
+
+    @Benchmark
+    public Pojo flat() {
+        return populateFactory.populate(Pojo.class);
+    }
+
+    @Benchmark
+    public DiverseJavaTypes wide() {
+        return populateFactory.populate(DiverseJavaTypes.class);
+    }
+
+    @Benchmark
+    public NestedCollections collections() {
+        return populateFactory.populate(NestedCollections.class);
+    }
+
+    @Benchmark
+    public A deep() {
+        return nullOnCircularDependencyPopulateFactory.populate(A.class);
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.anhem.testpopulator.benchmark;
+
+import com.github.anhem.testpopulator.PopulateFactory;
+import com.github.anhem.testpopulator.config.MethodType;
+import com.github.anhem.testpopulator.config.PopulateConfig;
+import com.github.anhem.testpopulator.model.immutables.ImmutableImmutablesInterface;
+import com.github.anhem.testpopulator.model.java.constructor.AllArgsConstructor;
+import com.github.anhem.testpopulator.model.java.field.Fields;
+import com.github.anhem.testpopulator.model.java.mutator.Mutator;
+import com.github.anhem.testpopulator.model.java.setter.Pojo;
+import com.github.anhem.testpopulator.model.java.stc.Users;
+import com.github.anhem.testpopulator.model.lombok.LombokImmutable;
+import com.github.anhem.testpopulator.model.proto.complex.UserProfile;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.anhem.testpopulator.config.BuilderPattern.*;
+import static com.github.anhem.testpopulator.config.Strategy.BUILDER;
+
+/**
+ * Populates a model of each strategy with a PopulateFactory configured for that strategy.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StrategyBenchmark {
+
+    private PopulateFactory constructorPopulateFactory;
+    private PopulateFactory setterPopulateFactory;
+    private PopulateFactory mutatorPopulateFactory;
+    private PopulateFactory fieldPopulateFactory;
+    private PopulateFactory lombokPopulateFactory;
+    private PopulateFactory immutablesPopulateFactory;
+    private PopulateFactory protobufPopulateFactory;
+    private PopulateFactory staticMethodPopulateFactory;
+
+    @Setup
+    public void setUp() {
+        constructorPopulateFactory = new PopulateFactory(PopulateConfig.builder()
+                .constructorStrategy()
+                .and()
+                .build());
+        setterPopulateFactory = new PopulateFactory(PopulateConfig.builder()
+                .setterStrategy()
+                .and()
+                .build());
+        mutatorPopulateFactory = new PopulateFactory(PopulateConfig.builder()
+                .mutatorStrategy()
+                .and()
+                .build());
+        fieldPopulateFactory = new PopulateFactory(PopulateConfig.builder()
+                .fieldStrategy()
+                .and()
+                .build());
+        lombokPopulateFactory = new PopulateFactory(PopulateConfig.builder()
+                .builderStrategy()
+                .pattern(LOMBOK)
+                .and()
+                .build());
+        immutablesPopulateFactory = new PopulateFactory(PopulateConfig.builder()
+                .builderStrategy()
+                .pattern(IMMUTABLES)
+                .and()
+                .build());
+        protobufPopulateFactory = new PopulateFactory(PopulateConfig.builder()
+                .builderStrategy()
+                .pattern(PROTOBUF)
+                .and()
+                .staticMethodStrategy()
+                .methodType(MethodType.SIMPLEST)
+                .and()
+                .reorderStrategies(BUILDER)
+                .build());
+        staticMethodPopulateFactory = new PopulateFactory(PopulateConfig.builder()
+                .staticMethodStrategy()
+                .and()
+                .build());
+    }
+
+    @Benchmark
+    public AllArgsConstructor constructor() {
+        return constructorPopulateFactory.populate(AllArgsConstructor.class);
+    }
+
+    @Benchmark
+    public Pojo setter() {
+        return setterPopulateFactory.populate(Pojo.class);
+    }
+
+    @Benchmark
+    public Mutator mutator() {
+        return mutatorPopulateFactory.populate(Mutator.class);
+    }
+
+    @Benchmark
+    public Fields field() {
+        return fieldPopulateFactory.populate(Fields.class);
+    }
+
+    @Benchmark
+    public LombokImmutable lombokBuilder() {
+        return lombokPopulateFactory.populate(LombokImmutable.class);
+    }
+
+    @Benchmark
+    public ImmutableImmutablesInterface immutablesBuilder() {
+        return immutablesPopulateFactory.populate(ImmutableImmutablesInterface.class);
+    }
+
+    @Benchmark
+    public UserProfile protobufBuilder() {
+        return protobufPopulateFactory.populate(UserProfile.class);
+    }
+
+    @Benchmark
+    public Users staticMethod() {
+        return staticMethodPopulateFactory.populate(Users.class);
+    }
+}
@@ -3,16 +3,31 @@ package com.github.anhem.testpopulator;
 import com.github.anhem.testpopulator.config.OverridePopulate;
 import com.github.anhem.testpopulator.config.OverrideTarget;
 import com.github.anhem.testpopulator.config.PopulateConfig;
+import com.github.anhem.testpopulator.config.RandomSource;
 import com.github.anhem.testpopulator.internal.object.ObjectFactory;
 import com.github.anhem.testpopulator.internal.object.ObjectFactoryImpl;
 import com.github.anhem.testpopulator.internal.object.ObjectFactoryVoid;
+import com.github.anhem.testpopulator.internal.populate.PopulateSpliterator;
 import com.github.anhem.testpopulator.internal.populate.Populator;
+import com.github.anhem.testpopulator.internal.random.SeededRandomSource;
+import com.github.anhem.testpopulator.internal.util.AggregatedFileWriter;
+import com.github.anhem.testpopulator.internal.util.BackgroundFileWriter;
+import com.github.anhem.testpopulator.internal.util.GeneratedFileIndex;
+import com.github.anhem.testpopulator.internal.value.PayloadFactory;
 import com.github.anhem.testpopulator.internal.value.ValueFactory;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.Map;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import static com.github.anhem.testpopulator.config.PopulateConfig.SEEDED_REFERENCE_DATE;
 import static com.github.anhem.testpopulator.internal.carrier.CollectionCarrier.initialize;
 
 /**
@@ -20,7 +35,19 @@ import static com.github.anhem.testpopulator.internal.carrier.CollectionCarrier.
  */
 public class PopulateFactory {
 
+    public static final String INVALID_COUNT = "count must be 0 or more, but was %d";
+    private static final ObjectFactory OBJECT_FACTORY_VOID = new ObjectFactoryVoid();
+    private static final int CHUNKS_PER_PROCESSOR = 4;
+    /**
+     * Sequence numbers reserved by each stream, so that streams and other populate calls never share one
+     */
+    private static final long STREAM_SEQUENCES = 1L << 40;
+
     private final PopulateConfig populateConfig;
+    private final SeededRandomSource seededRandomSource;
+    private final RandomSource randomSource;
+    private final Clock clock;
+    private final ValueFactory valueFactory;
     private final Populator populator;
 
     /**
@@ -37,7 +64,11 @@ public class PopulateFactory {
      */
     public PopulateFactory(PopulateConfig populateConfig) {
         this.populateConfig = populateConfig;
-        this.populator = new Populator(createValueFactory(populateConfig));
+        this.seededRandomSource = populateConfig.getSeed() != null ? new SeededRandomSource(populateConfig.getSeed()) : null;
+        this.randomSource = seededRandomSource != null ? seededRandomSource : populateConfig.getRandomSource();
+        this.clock = populateConfig.getSeed() != null ? Clock.fixed(SEEDED_REFERENCE_DATE.atStartOfDay(ZoneOffset.UTC).toInstant(), ZoneOffset.UTC) : Clock.systemDefaultZone();
+        this.valueFactory = createValueFactory(populateConfig);
+        this.populator = new Populator(valueFactory, populateConfig);
     }
 
     /**
@@ -84,16 +115,82 @@ public class PopulateFactory {
      * @return object of clazz
      */
     public <T> T populate(Class<T> clazz, Map<Class<?>, OverridePopulate<?>> classOverrides, Map<OverrideTarget, OverridePopulate<?>> nameOverrides) {
-        boolean noOverrides = classOverrides.isEmpty() && nameOverrides.isEmpty();
-        PopulateConfig config = noOverrides ? populateConfig : populateConfig.toBuilder()
-                .addClassOverrides(classOverrides)
-                .addNameOverrides(nameOverrides)
-                .build();
-        Populator p = noOverrides ? populator : new Populator(createValueFactory(config));
-        ObjectFactory objectFactory = config.isObjectFactoryEnabled() ? new ObjectFactoryImpl(config) : new ObjectFactoryVoid();
-        T result = p.populate(initialize(clazz, objectFactory, config));
-        objectFactory.writeToFile();
-        return result;
+        Populator p = populator.withValueFactory(valueFactory.withOverrides(classOverrides, nameOverrides));
+        return populate(p, withOverrides(classOverrides, nameOverrides), clazz, reserveSequences(clazz, 1));
+    }
+
+    /**
+     * Call to create many fully populated objects from a class. Configuration and strategies are resolved once for
+     * all objects, which makes this cheaper than calling populate in a loop. With a seed, the objects are the same as
+     * those from calling populate count times.
+     *
+     * @param clazz Class that should be populated
+     * @param count number of objects to create
+     * @param <T>   type of objects to return
+     * @return list of count objects of clazz
+     * @throws IllegalArgumentException if count is negative
+     */
+    public <T> List<T> populateMany(Class<T> clazz, int count) {
+        validateCount(count);
+        long firstSequence = reserveSequences(clazz, count);
+        return StreamSupport.stream(new PopulateSpliterator<>(i -> populate(populator, populateConfig, clazz, firstSequence + i), 0, count), false)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Call to create many fully populated objects from a class, populating in parallel using executor. The objects are
+     * returned in the same order, and with a seed they are the same objects, as when calling populateMany without an
+     * executor.
+     *
+     * @param clazz    Class that should be populated
+     * @param count    number of objects to create
+     * @param executor Executor to populate on
+     * @param <T>      type of objects to return
+     * @return list of count objects of clazz
+     * @throws IllegalArgumentException if count is negative
+     */
+    @SuppressWarnings("unchecked")
+    public <T> List<T> populateMany(Class<T> clazz, int count, Executor executor) {
+        validateCount(count);
+        long firstSequence = reserveSequences(clazz, count);
+        Object[] result = new Object[count];
+        int chunkSize = Math.max(1, count / (Runtime.getRuntime().availableProcessors() * CHUNKS_PER_PROCESSOR));
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int start = 0; start < count; start += chunkSize) {
+            int from = start;
+            int to = Math.min(count, start + chunkSize);
+            chunks.add(CompletableFuture.runAsync(() -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = populate(populator, populateConfig, clazz, firstSequence + i);
+                }
+            }, executor));
+        }
+        try {
+            CompletableFuture.allOf(chunks.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return (List<T>) new ArrayList<>(Arrays.asList(result));
+    }
+
+    /**
+     * Call to create an endless stream of fully populated objects from a class. Configuration and strategies are
+     * resolved once for the whole stream. The stream can be made parallel, in which case it is split to populate on
+     * all workers of the common fork-join pool. With a seed, element i is the same object regardless of how the stream
+     * is split. Each stream reserves 2^40 sequence numbers of clazz, so with a seed it does not repeat objects of
+     * other streams or populate calls of this PopulateFactory. The first stream of a new PopulateFactory creates the
+     * same objects as calling populate on a new PopulateFactory.
+     *
+     * @param clazz Class that should be populated
+     * @param <T>   type of objects in the stream
+     * @return stream of objects of clazz
+     */
+    public <T> Stream<T> stream(Class<T> clazz) {
+        long firstSequence = reserveSequences(clazz, STREAM_SEQUENCES);
+        return StreamSupport.stream(new PopulateSpliterator<>(i -> populate(populator, populateConfig, clazz, firstSequence + i), 0, STREAM_SEQUENCES), false);
     }
 
     /**
@@ -124,12 +221,103 @@ public class PopulateFactory {
         return populate(clazz, Collections.emptyMap(), Map.of(OverrideTarget.of(overrideName, overrideClass), overridePopulate));
     }
 
-    private static ValueFactory createValueFactory(PopulateConfig populateConfig) {
+    /**
+     * Call to resolve how classes, and every class reachable from them, are populated ahead of the first populate call,
+     * e.g. before a timed test or a load test. Constructor and method parameters, fields, builder methods, array
+     * components and type arguments are followed. What is resolved is cached and shared with every PopulateFactory
+     * that has the same strategy configuration.
+     *
+     * @param classes classes that will be populated
+     * @return report of the resolved classes
+     */
+    public WarmUpReport warmUp(Class<?>... classes) {
+        return warmUp(Runnable::run, classes);
+    }
+
+    /**
+     * Call to resolve how classes, and every class reachable from them, are populated ahead of the first populate call,
+     * resolving the classes at each depth of the type graph in parallel using executor.
+     *
+     * @param executor Executor to resolve classes on
+     * @param classes  classes that will be populated
+     * @return report of the resolved classes
+     */
+    public WarmUpReport warmUp(Executor executor, Class<?>... classes) {
+        long start = System.nanoTime();
+        Map<Class<?>, String> strategies = populator.warmUp(Arrays.asList(classes), executor);
+        return new WarmUpReport(strategies, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Call to write aggregated classes and wait until generated files queued for writing in the background have been
+     * written. Only needed when the object factory is configured with aggregate or background writes, and the files
+     * are read before the JVM exits.
+     *
+     * @throws com.github.anhem.testpopulator.exception.ObjectException if a file could not be written
+     */
+    public void flush() {
+        AggregatedFileWriter.getInstance().flush();
+        BackgroundFileWriter.getInstance().flush();
+    }
+
+    private <T> T populate(Populator populator, PopulateConfig config, Class<T> clazz, long sequence) {
+        ObjectFactory objectFactory = createObjectFactory(config, clazz);
+        T result;
+        if (seededRandomSource != null) {
+            try (SeededRandomSource.Stream ignored = seededRandomSource.open(clazz, sequence)) {
+                result = populator.populate(initialize(clazz, objectFactory, config));
+            }
+        } else {
+            result = populator.populate(initialize(clazz, objectFactory, config));
+        }
+        objectFactory.writeToFile();
+        return result;
+    }
+
+    /**
+     * Code is not generated again when the generated file is known to already have the code it would get. Code for
+     * aggregated classes is always generated, since an aggregated class is rewritten with the code of the whole session.
+     */
+    private static ObjectFactory createObjectFactory(PopulateConfig config, Class<?> clazz) {
+        if (!config.isObjectFactoryEnabled() || !config.isObjectFactoryAggregate() && GeneratedFileIndex.isUpToDate(clazz, config)) {
+            return OBJECT_FACTORY_VOID;
+        }
+        return new ObjectFactoryImpl(config);
+    }
+
+    /**
+     * Overrides only need to be part of the configuration when the object factory generates code for them. Otherwise
+     * they are applied by the ValueFactory alone and the configuration of this PopulateFactory is reused.
+     */
+    private PopulateConfig withOverrides(Map<Class<?>, OverridePopulate<?>> classOverrides, Map<OverrideTarget, OverridePopulate<?>> nameOverrides) {
+        if (!populateConfig.isObjectFactoryEnabled() || (classOverrides.isEmpty() && nameOverrides.isEmpty())) {
+            return populateConfig;
+        }
+        return populateConfig.toBuilder()
+                .addClassOverrides(classOverrides)
+                .addNameOverrides(nameOverrides)
+                .build();
+    }
+
+    private long reserveSequences(Class<?> clazz, long count) {
+        return seededRandomSource != null ? seededRandomSource.reserve(clazz, count) : 0;
+    }
+
+    private static void validateCount(int count) {
+        if (count < 0) {
+            throw new IllegalArgumentException(String.format(INVALID_COUNT, count));
+        }
+    }
+
+    private ValueFactory createValueFactory(PopulateConfig populateConfig) {
         return new ValueFactory(
                 populateConfig.isRandomValues(),
                 populateConfig.getClassOverrides(),
                 populateConfig.getNameOverrides(),
-                populateConfig.getBuilderPattern()
+                populateConfig.getBuilderPattern(),
+                randomSource,
+                clock,
+                new PayloadFactory(populateConfig.getPayloadSizes(), populateConfig.isDirectByteBuffers(), populateConfig.isSharedPayloads(), populateConfig.getSeed())
         );
     }
 }
@@ -0,0 +1,61 @@
+package com.github.anhem.testpopulator;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Result of {@link PopulateFactory#warmUp(Class[])}: every class that was resolved and how it will be populated.
+ */
+public class WarmUpReport {
+
+    /**
+     * How classes that are created as values, e.g. String, primitives, enums and overridden classes, are reported
+     */
+    public static final String VALUE = "VALUE";
+    /**
+     * How classes that no strategy matches are reported
+     */
+    public static final String UNSUPPORTED = "UNSUPPORTED";
+
+    private final Map<Class<?>, String> strategies;
+    private final Duration duration;
+
+    WarmUpReport(Map<Class<?>, String> strategies, Duration duration) {
+        this.strategies = Collections.unmodifiableMap(strategies);
+        this.duration = duration;
+    }
+
+    /**
+     * @return name of the strategy (e.g. CONSTRUCTOR, SETTER, BUILDER), or of the kind of type (e.g. VALUE, ARRAY,
+     * COLLECTION_LIKE), that each resolved class is populated with
+     */
+    public Map<Class<?>, String> getStrategies() {
+        return strategies;
+    }
+
+    public Set<Class<?>> getClasses() {
+        return strategies.keySet();
+    }
+
+    /**
+     * @return classes that populating would fail for, unless they are only reached through a path that is overridden
+     */
+    public Set<Class<?>> getUnsupportedClasses() {
+        return strategies.entrySet().stream()
+                .filter(entry -> UNSUPPORTED.equals(entry.getValue()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Resolved %d classes in %d ms, %d unsupported", strategies.size(), duration.toMillis(), getUnsupportedClasses().size());
+    }
+}
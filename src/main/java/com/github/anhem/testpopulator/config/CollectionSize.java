@@ -0,0 +1,69 @@
+package com.github.anhem.testpopulator.config;
+
+import java.util.Objects;
+
+/**
+ * Range of the number of elements in populated collections, maps and arrays.
+ */
+public class CollectionSize {
+    public static final String INVALID_COLLECTION_SIZE = "collection size must be a range of 0 or more elements, but was %d to %d";
+
+    private final int min;
+    private final int max;
+
+    private CollectionSize(int min, int max) {
+        if (min < 0 || max < min) {
+            throw new IllegalArgumentException(String.format(INVALID_COLLECTION_SIZE, min, max));
+        }
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Create a range of exactly one size.
+     *
+     * @param size number of elements
+     * @return a new collection size
+     */
+    public static CollectionSize of(int size) {
+        return new CollectionSize(size, size);
+    }
+
+    /**
+     * Create a range of sizes. A size within the range is picked at random when randomValues is enabled, otherwise min
+     * is used.
+     *
+     * @param min smallest number of elements (inclusive)
+     * @param max largest number of elements (inclusive)
+     * @return a new collection size
+     */
+    public static CollectionSize of(int min, int max) {
+        return new CollectionSize(min, max);
+    }
+
+    public int getMin() {
+        return min;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CollectionSize that = (CollectionSize) o;
+        return min == that.min && max == that.max;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(min, max);
+    }
+
+    @Override
+    public String toString() {
+        return min + ".." + max;
+    }
+}
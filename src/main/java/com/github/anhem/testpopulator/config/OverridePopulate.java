@@ -1,7 +1,7 @@
 package com.github.anhem.testpopulator.config;
 
 import com.github.anhem.testpopulator.exception.ObjectException;
-import com.github.anhem.testpopulator.internal.value.TypeSupplier;
+import com.github.anhem.testpopulator.internal.value.*;
 
 import java.util.Collections;
 import java.util.Set;
@@ -55,5 +55,33 @@ public interface OverridePopulate<T> extends TypeSupplier<T> {
     default Set<String> createStaticImports() {
         return Collections.emptySet();
     }
-}
 
+    /**
+     * Override of int or Integer that creates a primitive int, so that primitive fields and setter parameters are
+     * populated without boxing.
+     */
+    @FunctionalInterface
+    interface OfInt extends OverridePopulate<Integer>, IntTypeSupplier {
+    }
+
+    /**
+     * Override of long or Long that creates a primitive long, see {@link OfInt}
+     */
+    @FunctionalInterface
+    interface OfLong extends OverridePopulate<Long>, LongTypeSupplier {
+    }
+
+    /**
+     * Override of double or Double that creates a primitive double, see {@link OfInt}
+     */
+    @FunctionalInterface
+    interface OfDouble extends OverridePopulate<Double>, DoubleTypeSupplier {
+    }
+
+    /**
+     * Override of boolean or Boolean that creates a primitive boolean, see {@link OfInt}
+     */
+    @FunctionalInterface
+    interface OfBoolean extends OverridePopulate<Boolean>, BooleanTypeSupplier {
+    }
+}
@@ -1,8 +1,10 @@
 package com.github.anhem.testpopulator.config;
 
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.util.*;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -19,13 +21,28 @@ import static com.github.anhem.testpopulator.config.Strategy.*;
 public class PopulateConfig {
     public static final String INVALID_CONFIG_NON_PUBLIC_CONSTRUCTOR_AND_OBJECT_FACTORY = "objectFactory can not be enabled while accessNonPublicConstructors is true";
     public static final String INVALID_CONFIG_FIELD_STRATEGY_AND_OBJECT_FACTORY = "objectFactory can not be enabled while strategyOrder contains FIELD";
+    public static final String INVALID_CONFIG_SEED_AND_RANDOM_SOURCE = "seed can not be combined with a custom randomSource";
+    public static final String INVALID_PAYLOAD_CLASS = "payload size can only be set for byte[], ByteBuffer, String and BitSet, but was %s";
+    public static final String INVALID_PAYLOAD_SIZE = "payload size must be 0 or more, but was %d";
+    public static final String INVALID_SHARED_PAYLOAD_SIZE = "shared ByteBuffer payload size can be at most %d, but was %d";
+    public static final String INVALID_CONFIG_PAYLOAD_SIZE_AND_OBJECT_FACTORY = "payload size of %s can be at most %d while objectFactory is enabled, but was %d";
+    public static final int MAX_SHARED_PAYLOAD_SIZE = Integer.MAX_VALUE / 2;
+    public static final int MAX_OBJECT_FACTORY_PAYLOAD_SIZE = 1024;
+    public static final Set<Class<?>> PAYLOAD_CLASSES = Set.of(byte[].class, ByteBuffer.class, String.class, BitSet.class);
     public static final Set<String> DEFAULT_BLACKLISTED_METHODS = Set.of("$jacocoInit");
     public static final Set<String> DEFAULT_BLACKLISTED_FIELDS = Set.of("__$lineHits$__", "$jacocoData");
     public static final List<Strategy> DEFAULT_STRATEGY_ORDER = List.of(CONSTRUCTOR, SETTER, STATIC_METHOD);
     public static final boolean DEFAULT_RANDOM_VALUES = true;
+    public static final RandomSource DEFAULT_RANDOM_SOURCE = RandomSource.threadLocal();
+    public static final LocalDate SEEDED_REFERENCE_DATE = LocalDate.of(2000, 1, 1);
     public static final boolean DEFAULT_ACCESS_NON_PUBLIC_CONSTRUCTORS = false;
     public static final Set<String> DEFAULT_SETTER_PREFIXES = Set.of("set");
     public static final boolean DEFAULT_OBJECT_FACTORY_ENABLED = false;
+    public static final boolean DEFAULT_OBJECT_FACTORY_BACKGROUND_WRITES = false;
+    public static final boolean DEFAULT_OBJECT_FACTORY_AGGREGATE = false;
+    public static final boolean DEFAULT_PERSISTENT_PLANS_ENABLED = false;
+    public static final boolean DEFAULT_DIRECT_BYTE_BUFFERS = false;
+    public static final boolean DEFAULT_SHARED_PAYLOADS = false;
     public static final boolean DEFAULT_NULL_ON_CIRCULAR_DEPENDENCY = false;
     public static final ConstructorType DEFAULT_CONSTRUCTOR_TYPE = NO_ARGS;
     public static final BuilderPattern DEFAULT_BUILDER_PATTERN = CUSTOM;
@@ -42,8 +59,16 @@ public class PopulateConfig {
         private List<Strategy> strategyOrder = null;
         private Map<Class<?>, OverridePopulate<?>> classOverrides = new HashMap<>();
         private Map<OverrideTarget, OverridePopulate<?>> nameOverrides = new HashMap<>();
+        private CollectionSize collectionSize;
+        private Map<Class<?>, CollectionSize> classCollectionSizes = new HashMap<>();
+        private Map<OverrideTarget, CollectionSize> nameCollectionSizes = new HashMap<>();
+        private Map<Class<?>, Integer> payloadSizes = new HashMap<>();
+        private Boolean directByteBuffers;
+        private Boolean sharedPayloads;
         private BuilderPattern builderPattern;
         private Boolean randomValues;
+        private RandomSource randomSource;
+        private Long seed;
         private Boolean accessNonPublicConstructors;
         private Set<String> setterPrefixes = null;
         private Boolean objectFactoryEnabled;
@@ -52,6 +77,10 @@ public class PopulateConfig {
         private String builderMethod;
         private String buildMethod;
         private String objectFactoryPath;
+        private Boolean objectFactoryBackgroundWrites;
+        private Boolean objectFactoryAggregate;
+        private Boolean persistentPlansEnabled;
+        private String persistentPlansPath;
         private MethodType methodType;
         private Boolean kotlinSupport;
         private Boolean useKotlinDefaultValues;
@@ -284,6 +313,44 @@ public class PopulateConfig {
             return clearClassOverrides().clearNameOverrides();
         }
 
+        /**
+         * Set the number of elements of populated collections, maps and arrays that have no size of their own. Without
+         * a size they get one element each.
+         *
+         * @param collectionSize number of elements
+         * @return PopulateConfigBuilder
+         */
+        public PopulateConfigBuilder collectionSize(CollectionSize collectionSize) {
+            this.collectionSize = collectionSize;
+            return this;
+        }
+
+        /**
+         * Set the number of elements of populated collections, maps or arrays of a class.
+         *
+         * @param clazz collection, map or array class, e.g. List.class or String[].class
+         * @param collectionSize number of elements
+         * @return PopulateConfigBuilder
+         */
+        public PopulateConfigBuilder collectionSize(Class<?> clazz, CollectionSize collectionSize) {
+            this.classCollectionSizes.put(clazz, collectionSize);
+            return this;
+        }
+
+        /**
+         * Set the number of elements of populated collections, maps or arrays of a class with a field or parameter
+         * name. Takes precedence over a size for the class alone.
+         *
+         * @param name name of the field or parameter
+         * @param clazz collection, map or array class, e.g. List.class or String[].class
+         * @param collectionSize number of elements
+         * @return PopulateConfigBuilder
+         */
+        public PopulateConfigBuilder collectionSize(String name, Class<?> clazz, CollectionSize collectionSize) {
+            this.nameCollectionSizes.put(OverrideTarget.of(name, clazz), collectionSize);
+            return this;
+        }
+
         /**
          * Declares if random or fixed values should be used. Random values are not created entirely at random. They are created to be random enough.
          *
@@ -295,6 +362,33 @@ public class PopulateConfig {
             return this;
         }
 
+        /**
+         * Source to draw random values from when randomValues is enabled. Defaults to {@link RandomSource#threadLocal()}.
+         * Use {@link RandomSource#secure()} if values must be hard to predict.
+         *
+         * @param randomSource source of random values
+         * @return PopulateConfigBuilder
+         */
+        public PopulateConfigBuilder randomSource(RandomSource randomSource) {
+            this.randomSource = randomSource;
+            return this;
+        }
+
+        /**
+         * Seed random values to make them reproducible. Every top level populate call draws from its own stream derived
+         * from the seed, the populated class and how many times that class has been populated by the same
+         * PopulateFactory. Calls therefore create the same values on every run, also when running concurrently, as
+         * long as each class is populated in the same order. Random dates are created around
+         * {@link #SEEDED_REFERENCE_DATE} in UTC instead of around the current date.
+         *
+         * @param seed seed for random values
+         * @return PopulateConfigBuilder
+         */
+        public PopulateConfigBuilder seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
         /**
          * Controls whether to allow access to private or protected constructors when populating.
          *
@@ -403,6 +497,27 @@ public class PopulateConfig {
             return new ObjectFactoryConfig(this);
         }
 
+        /**
+         * Configure a plan cache file that keeps how classes are populated between runs, so that later test JVMs load
+         * the plans instead of resolving them again.
+         *
+         * @param enabled true/false
+         * @return configuration for persistent plans
+         */
+        public PersistentPlansConfig persistentPlans(boolean enabled) {
+            this.persistentPlansEnabled = enabled;
+            return new PersistentPlansConfig(this);
+        }
+
+        /**
+         * Configure the size of payloads, e.g. for load tests that need ByteBuffers of several megabytes.
+         *
+         * @return PayloadConfig
+         */
+        public PayloadConfig payloads() {
+            return new PayloadConfig(this);
+        }
+
         /**
          * Build and validate a configuration
          * @return built PopulateConfig
@@ -428,10 +543,18 @@ public class PopulateConfig {
     }
 
     private static Path resolveDefaultObjectFactoryPath() {
+        return resolveBuildDirectory().resolve("generated-test-sources/test-populator");
+    }
+
+    private static Path resolveDefaultPersistentPlansPath() {
+        return resolveBuildDirectory().resolve("test-populator");
+    }
+
+    private static Path resolveBuildDirectory() {
         if (Files.exists(Paths.get("build.gradle")) || Files.exists(Paths.get("build.gradle.kts"))) {
-            return Paths.get("build/generated-test-sources/test-populator");
+            return Paths.get("build");
         }
-        return Paths.get("target/generated-test-sources/test-populator");
+        return Paths.get("target");
     }
 
     private final Set<String> blacklistedMethods;
@@ -439,8 +562,16 @@ public class PopulateConfig {
     private final List<Strategy> strategyOrder;
     private final Map<Class<?>, OverridePopulate<?>> classOverrides;
     private final Map<OverrideTarget, OverridePopulate<?>> nameOverrides;
+    private final CollectionSize collectionSize;
+    private final Map<Class<?>, CollectionSize> classCollectionSizes;
+    private final Map<OverrideTarget, CollectionSize> nameCollectionSizes;
+    private final Map<Class<?>, Integer> payloadSizes;
+    private final boolean directByteBuffers;
+    private final boolean sharedPayloads;
     private final BuilderPattern builderPattern;
     private final boolean randomValues;
+    private final RandomSource randomSource;
+    private final Long seed;
     private final boolean accessNonPublicConstructors;
     private final Set<String> setterPrefixes;
     private final boolean objectFactoryEnabled;
@@ -449,6 +580,10 @@ public class PopulateConfig {
     private final String builderMethod;
     private final String buildMethod;
     private final String objectFactoryPath;
+    private final boolean objectFactoryBackgroundWrites;
+    private final boolean objectFactoryAggregate;
+    private final boolean persistentPlansEnabled;
+    private final String persistentPlansPath;
     private final MethodType methodType;
     private final boolean kotlinSupport;
     private final boolean useKotlinDefaultValues;
@@ -459,8 +594,16 @@ public class PopulateConfig {
         this.strategyOrder = collectionOrDefault(populateConfigBuilder.strategyOrder, DEFAULT_STRATEGY_ORDER);
         this.classOverrides = populateConfigBuilder.classOverrides;
         this.nameOverrides = populateConfigBuilder.nameOverrides;
+        this.collectionSize = populateConfigBuilder.collectionSize;
+        this.classCollectionSizes = populateConfigBuilder.classCollectionSizes;
+        this.nameCollectionSizes = populateConfigBuilder.nameCollectionSizes;
+        this.payloadSizes = populateConfigBuilder.payloadSizes;
+        this.directByteBuffers = valueOrDefault(populateConfigBuilder.directByteBuffers, DEFAULT_DIRECT_BYTE_BUFFERS);
+        this.sharedPayloads = valueOrDefault(populateConfigBuilder.sharedPayloads, DEFAULT_SHARED_PAYLOADS);
         this.builderPattern = valueOrDefault(populateConfigBuilder.builderPattern, DEFAULT_BUILDER_PATTERN);
         this.randomValues = valueOrDefault(populateConfigBuilder.randomValues, DEFAULT_RANDOM_VALUES);
+        this.randomSource = valueOrDefault(populateConfigBuilder.randomSource, DEFAULT_RANDOM_SOURCE);
+        this.seed = populateConfigBuilder.seed;
         this.accessNonPublicConstructors = valueOrDefault(populateConfigBuilder.accessNonPublicConstructors, DEFAULT_ACCESS_NON_PUBLIC_CONSTRUCTORS);
         this.setterPrefixes = collectionOrDefault(populateConfigBuilder.setterPrefixes, DEFAULT_SETTER_PREFIXES);
         this.objectFactoryEnabled = valueOrDefault(populateConfigBuilder.objectFactoryEnabled, DEFAULT_OBJECT_FACTORY_ENABLED);
@@ -471,6 +614,12 @@ public class PopulateConfig {
         this.objectFactoryPath = this.objectFactoryEnabled ?
                 valueOrDefault(populateConfigBuilder.objectFactoryPath, resolveDefaultObjectFactoryPath().toString()) :
                 null;
+        this.objectFactoryBackgroundWrites = valueOrDefault(populateConfigBuilder.objectFactoryBackgroundWrites, DEFAULT_OBJECT_FACTORY_BACKGROUND_WRITES);
+        this.objectFactoryAggregate = valueOrDefault(populateConfigBuilder.objectFactoryAggregate, DEFAULT_OBJECT_FACTORY_AGGREGATE);
+        this.persistentPlansEnabled = valueOrDefault(populateConfigBuilder.persistentPlansEnabled, DEFAULT_PERSISTENT_PLANS_ENABLED);
+        this.persistentPlansPath = this.persistentPlansEnabled ?
+                valueOrDefault(populateConfigBuilder.persistentPlansPath, resolveDefaultPersistentPlansPath().toString()) :
+                null;
         this.methodType = valueOrDefault(populateConfigBuilder.methodType, DEFAULT_METHOD_TYPE);
         this.kotlinSupport = valueOrDefault(populateConfigBuilder.kotlinSupport, DEFAULT_KOTLIN_SUPPORT);
         this.useKotlinDefaultValues = valueOrDefault(populateConfigBuilder.useKotlinDefaultValues, DEFAULT_USE_KOTLIN_DEFAULT_VALUES);
@@ -496,6 +645,54 @@ public class PopulateConfig {
         return nameOverrides;
     }
 
+    public CollectionSize getCollectionSize() {
+        return collectionSize;
+    }
+
+    public Map<Class<?>, CollectionSize> getClassCollectionSizes() {
+        return classCollectionSizes;
+    }
+
+    public Map<OverrideTarget, CollectionSize> getNameCollectionSizes() {
+        return nameCollectionSizes;
+    }
+
+    /**
+     * @param clazz collection, map or array class
+     * @param name  name of the field or parameter, if any
+     * @return number of elements for clazz by name, or null if no size is configured for it
+     */
+    public CollectionSize getCollectionSize(Class<?> clazz, String name) {
+        if (name != null && !nameCollectionSizes.isEmpty()) {
+            CollectionSize nameCollectionSize = nameCollectionSizes.get(OverrideTarget.of(name, clazz));
+            if (nameCollectionSize != null) {
+                return nameCollectionSize;
+            }
+        }
+        return classCollectionSizes.getOrDefault(clazz, collectionSize);
+    }
+
+    /**
+     * @return size of ByteBuffers in bytes, Strings in characters and BitSets in bits, by class
+     */
+    public Map<Class<?>, Integer> getPayloadSizes() {
+        return payloadSizes;
+    }
+
+    /**
+     * @return true if ByteBuffers with a payload size are allocated outside of the heap
+     */
+    public boolean isDirectByteBuffers() {
+        return directByteBuffers;
+    }
+
+    /**
+     * @return true if ByteBuffers with a payload size are read-only slices of one shared region
+     */
+    public boolean isSharedPayloads() {
+        return sharedPayloads;
+    }
+
     public BuilderPattern getBuilderPattern() {
         return builderPattern;
     }
@@ -504,6 +701,17 @@ public class PopulateConfig {
         return randomValues;
     }
 
+    public RandomSource getRandomSource() {
+        return randomSource;
+    }
+
+    /**
+     * @return seed for random values, or null if random values are not seeded
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
     public boolean isAccessNonPublicConstructors() {
         return accessNonPublicConstructors;
     }
@@ -540,6 +748,31 @@ public class PopulateConfig {
         return objectFactoryPath;
     }
 
+    /**
+     * @return true if generated files are written on a background thread
+     */
+    public boolean isObjectFactoryBackgroundWrites() {
+        return objectFactoryBackgroundWrites;
+    }
+
+    /**
+     * @return true if generated code is collected into one aggregated class per package
+     */
+    public boolean isObjectFactoryAggregate() {
+        return objectFactoryAggregate;
+    }
+
+    public boolean isPersistentPlansEnabled() {
+        return persistentPlansEnabled;
+    }
+
+    /**
+     * @return directory of the plan cache file, or null if persistent plans are disabled
+     */
+    public String getPersistentPlansPath() {
+        return persistentPlansPath;
+    }
+
     public boolean isKotlinSupport() {
         return kotlinSupport;
     }
@@ -560,15 +793,27 @@ public class PopulateConfig {
                 .setClassOverrides(new HashMap<>(classOverrides))
                 .setNameOverrides(new HashMap<>(nameOverrides))
                 .randomValues(randomValues)
+                .randomSource(randomSource)
                 .accessNonPublicConstructors(accessNonPublicConstructors)
                 .nullOnCircularDependency(nullOnCircularDependency);
+        populateConfigBuilder.collectionSize = collectionSize;
+        populateConfigBuilder.classCollectionSizes = new HashMap<>(classCollectionSizes);
+        populateConfigBuilder.nameCollectionSizes = new HashMap<>(nameCollectionSizes);
+        populateConfigBuilder.payloadSizes = new HashMap<>(payloadSizes);
+        populateConfigBuilder.directByteBuffers = directByteBuffers;
+        populateConfigBuilder.sharedPayloads = sharedPayloads;
         populateConfigBuilder.builderPattern = builderPattern;
+        populateConfigBuilder.seed = seed;
         populateConfigBuilder.setterPrefixes = setterPrefixes != null ? new HashSet<>(setterPrefixes) : null;
         populateConfigBuilder.objectFactoryEnabled = objectFactoryEnabled;
         populateConfigBuilder.constructorType = constructorType;
         populateConfigBuilder.builderMethod = builderMethod;
         populateConfigBuilder.buildMethod = buildMethod;
         populateConfigBuilder.objectFactoryPath = objectFactoryPath;
+        populateConfigBuilder.objectFactoryBackgroundWrites = objectFactoryBackgroundWrites;
+        populateConfigBuilder.objectFactoryAggregate = objectFactoryAggregate;
+        populateConfigBuilder.persistentPlansEnabled = persistentPlansEnabled;
+        populateConfigBuilder.persistentPlansPath = persistentPlansPath;
         populateConfigBuilder.methodType = methodType;
         populateConfigBuilder.kotlinSupport = kotlinSupport;
         populateConfigBuilder.useKotlinDefaultValues = useKotlinDefaultValues;
@@ -583,6 +828,33 @@ public class PopulateConfig {
         if (strategyOrder.contains(FIELD) && objectFactoryEnabled) {
             throw new IllegalArgumentException(INVALID_CONFIG_FIELD_STRATEGY_AND_OBJECT_FACTORY);
         }
+        if (seed != null && randomSource != DEFAULT_RANDOM_SOURCE) {
+            throw new IllegalArgumentException(INVALID_CONFIG_SEED_AND_RANDOM_SOURCE);
+        }
+        Integer byteBufferSize = payloadSizes.get(ByteBuffer.class);
+        if (sharedPayloads && byteBufferSize != null && byteBufferSize > MAX_SHARED_PAYLOAD_SIZE) {
+            throw new IllegalArgumentException(String.format(INVALID_SHARED_PAYLOAD_SIZE, MAX_SHARED_PAYLOAD_SIZE, byteBufferSize));
+        }
+        if (objectFactoryEnabled) {
+            validateObjectFactoryPayloadSizes();
+        }
+    }
+
+    /**
+     * Generated code holds every byte of a payload as a literal, and a byte[] gets one builder per byte, so large
+     * payloads would not compile.
+     */
+    private void validateObjectFactoryPayloadSizes() {
+        CollectionSize byteArraySize = classCollectionSizes.get(byte[].class);
+        if (byteArraySize != null && byteArraySize.getMax() > MAX_OBJECT_FACTORY_PAYLOAD_SIZE) {
+            throw new IllegalArgumentException(String.format(INVALID_CONFIG_PAYLOAD_SIZE_AND_OBJECT_FACTORY, byte[].class.getTypeName(), MAX_OBJECT_FACTORY_PAYLOAD_SIZE, byteArraySize.getMax()));
+        }
+        payloadSizes.entrySet().stream()
+                .filter(payloadSize -> payloadSize.getValue() > MAX_OBJECT_FACTORY_PAYLOAD_SIZE)
+                .min(Map.Entry.comparingByKey(Comparator.comparing(Class::getTypeName)))
+                .ifPresent(payloadSize -> {
+                    throw new IllegalArgumentException(String.format(INVALID_CONFIG_PAYLOAD_SIZE_AND_OBJECT_FACTORY, payloadSize.getKey().getTypeName(), MAX_OBJECT_FACTORY_PAYLOAD_SIZE, payloadSize.getValue()));
+                });
     }
 
     private static <T> T valueOrDefault(T value, T defaultValue) {
@@ -593,6 +865,24 @@ public class PopulateConfig {
         return collection == null ? defaultCollection : collection;
     }
 
+    /**
+     * Entries are sorted, so that the same sizes always give the same string and with it the same generated file names.
+     */
+    private static String toSortedString(Map<?, ?> sizes) {
+        return sizes.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .sorted()
+                .collect(Collectors.joining(", ", "{", "}"));
+    }
+
+    /**
+     * Only the class of the random source, and only when random values are used, since the string of an instance
+     * differs between runs and would give generated files new names every run.
+     */
+    private String toRandomSourceName() {
+        return randomValues ? randomSource.getClass().getName() : null;
+    }
+
     private String getDefaultBuilderMethod(BuilderPattern builderPattern) {
         return builderPattern == BuilderPattern.PROTOBUF ? PROTOBUF_BUILDER_METHOD : DEFAULT_BUILDER_METHOD;
     }
@@ -605,8 +895,16 @@ public class PopulateConfig {
                 ", strategyOrder=" + strategyOrder +
                 ", classOverrides=" + classOverrides +
                 ", nameOverrides=" + nameOverrides +
+                ", collectionSize=" + collectionSize +
+                ", classCollectionSizes=" + toSortedString(classCollectionSizes) +
+                ", nameCollectionSizes=" + toSortedString(nameCollectionSizes) +
+                ", payloadSizes=" + toSortedString(payloadSizes) +
+                ", directByteBuffers=" + directByteBuffers +
+                ", sharedPayloads=" + sharedPayloads +
                 ", builderPattern=" + builderPattern +
                 ", randomValues=" + randomValues +
+                ", randomSource=" + toRandomSourceName() +
+                ", seed=" + seed +
                 ", accessNonPublicConstructors=" + accessNonPublicConstructors +
                 ", setterPrefixes=" + setterPrefixes +
                 ", objectFactoryEnabled=" + objectFactoryEnabled +
@@ -838,5 +1136,112 @@ public class PopulateConfig {
             parent.objectFactoryPath = path;
             return this;
         }
+
+        /**
+         * Write generated files on a background thread instead of in the populate call. Writes to the same file are
+         * coalesced. Call {@code PopulateFactory.flush()} to wait for queued writes, which are also flushed when the JVM
+         * shuts down.
+         *
+         * @param backgroundWrites true/false
+         * @return ObjectFactoryConfig
+         */
+        public ObjectFactoryConfig backgroundWrites(boolean backgroundWrites) {
+            parent.objectFactoryBackgroundWrites = backgroundWrites;
+            return this;
+        }
+
+        /**
+         * Collect the generated code of all populated classes into one aggregated class per package, with a factory
+         * method per populated class, instead of writing a file per populated class. Call
+         * {@code PopulateFactory.flush()} to write the aggregated classes, which are also written when the JVM shuts
+         * down.
+         *
+         * @param aggregate true/false
+         * @return ObjectFactoryConfig
+         */
+        public ObjectFactoryConfig aggregate(boolean aggregate) {
+            parent.objectFactoryAggregate = aggregate;
+            return this;
+        }
+    }
+
+    /**
+     * Configuration for persistent plans
+     */
+    public static class PersistentPlansConfig extends SubBuilder {
+
+        PersistentPlansConfig(PopulateConfigBuilder parent) {
+            super(parent);
+        }
+
+        /**
+         * Set the directory of the plan cache file. Defaults to {@code target/test-populator}, or
+         * {@code build/test-populator} for Gradle builds.
+         *
+         * @param path directory to keep the plan cache file in
+         * @return PersistentPlansConfig
+         */
+        public PersistentPlansConfig path(String path) {
+            parent.persistentPlansPath = path;
+            return this;
+        }
+    }
+
+    /**
+     * Configuration for payloads
+     */
+    public static class PayloadConfig extends SubBuilder {
+
+        PayloadConfig(PopulateConfigBuilder parent) {
+            super(parent);
+        }
+
+        /**
+         * Set the size of populated byte[], ByteBuffer, String or BitSet. For byte[] this is the same as
+         * {@code collectionSize(byte[].class, CollectionSize.of(size))}.
+         *
+         * @param clazz byte[].class, ByteBuffer.class, String.class or BitSet.class
+         * @param size  number of bytes, characters or bits
+         * @return PayloadConfig
+         */
+        public PayloadConfig size(Class<?> clazz, int size) {
+            if (!PAYLOAD_CLASSES.contains(clazz)) {
+                throw new IllegalArgumentException(String.format(INVALID_PAYLOAD_CLASS, clazz.getTypeName()));
+            }
+            if (size < 0) {
+                throw new IllegalArgumentException(String.format(INVALID_PAYLOAD_SIZE, size));
+            }
+            if (clazz.equals(byte[].class)) {
+                parent.collectionSize(clazz, CollectionSize.of(size));
+            } else {
+                parent.payloadSizes.put(clazz, size);
+            }
+            return this;
+        }
+
+        /**
+         * Allocate ByteBuffers with a payload size outside of the heap. They are filled through a small reusable chunk
+         * instead of a heap array of the full size.
+         *
+         * @param direct true/false
+         * @return PayloadConfig
+         */
+        public PayloadConfig direct(boolean direct) {
+            parent.directByteBuffers = direct;
+            return this;
+        }
+
+        /**
+         * Create ByteBuffers with a payload size as read-only slices of one region that is filled once, instead of
+         * allocating and filling a new buffer for every object. The region holds twice the ByteBuffer size, which
+         * can therefore be at most {@link PopulateConfig#MAX_SHARED_PAYLOAD_SIZE}.
+         *
+         * @param shared true/false
+         * @return PayloadConfig
+         */
+        public PayloadConfig shared(boolean shared) {
+            parent.sharedPayloads = shared;
+            return this;
+        }
     }
 }
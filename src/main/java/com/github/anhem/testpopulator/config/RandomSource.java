@@ -0,0 +1,62 @@
+package com.github.anhem.testpopulator.config;
+
+import com.github.anhem.testpopulator.internal.random.RandomWrapperSource;
+import com.github.anhem.testpopulator.internal.random.ThreadLocalRandomSource;
+
+import java.security.SecureRandom;
+import java.util.Random;
+
+/**
+ * Source of the random values used when randomValues is enabled. Implementations must be safe to use from multiple
+ * threads at the same time, since one PopulateFactory can be shared between threads.
+ */
+public interface RandomSource {
+
+    /**
+     * @param bound upper bound (exclusive), must be positive
+     * @return random int between 0 (inclusive) and bound (exclusive)
+     */
+    int nextInt(int bound);
+
+    long nextLong();
+
+    /**
+     * @return random float between 0 (inclusive) and 1 (exclusive)
+     */
+    float nextFloat();
+
+    boolean nextBoolean();
+
+    void nextBytes(byte[] bytes);
+
+    /**
+     * Default random source. Backed by {@link java.util.concurrent.ThreadLocalRandom}, which is fast and never
+     * contended between threads.
+     *
+     * @return RandomSource
+     */
+    static RandomSource threadLocal() {
+        return ThreadLocalRandomSource.INSTANCE;
+    }
+
+    /**
+     * Random source backed by a shared {@link SecureRandom}. Slower than the default and only needed if values must be
+     * hard to predict.
+     *
+     * @return RandomSource
+     */
+    static RandomSource secure() {
+        return of(new SecureRandom());
+    }
+
+    /**
+     * Random source backed by the given {@link Random}. Note that a shared {@link Random} is a point of contention
+     * when populating from many threads at once.
+     *
+     * @param random Random to draw values from
+     * @return RandomSource
+     */
+    static RandomSource of(Random random) {
+        return new RandomWrapperSource(random);
+    }
+}
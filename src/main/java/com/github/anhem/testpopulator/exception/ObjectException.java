@@ -8,4 +8,8 @@ public class ObjectException extends RuntimeException {
     public ObjectException(String message, Exception e) {
         super(message, e);
     }
+
+    public ObjectException(String message, Throwable cause) {
+        super(message, cause);
+    }
 }
@@ -4,20 +4,18 @@ import com.github.anhem.testpopulator.config.PopulateConfig;
 import com.github.anhem.testpopulator.internal.object.ObjectFactory;
 
 import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.List;
 
 public abstract class Carrier {
 
     protected final ObjectFactory objectFactory;
-    protected final List<String> visited;
+    protected final VisitedClasses visited;
     protected final PopulateConfig populateConfig;
 
     public static <T> ClassCarrier<T> initialize(Class<T> clazz, ObjectFactory objectFactory, PopulateConfig populateConfig) {
-        return new ClassCarrier<>(clazz, objectFactory, new ArrayList<>(), populateConfig);
+        return new ClassCarrier<>(clazz, objectFactory, new VisitedClasses(), populateConfig);
     }
 
-    protected Carrier(ObjectFactory objectFactory, List<String> visited, PopulateConfig populateConfig) {
+    protected Carrier(ObjectFactory objectFactory, VisitedClasses visited, PopulateConfig populateConfig) {
         this.objectFactory = objectFactory;
         this.visited = visited;
         this.populateConfig = populateConfig;
@@ -5,8 +5,6 @@ import com.github.anhem.testpopulator.internal.object.ObjectFactory;
 
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
-import java.util.ArrayList;
-import java.util.List;
 
 import static com.github.anhem.testpopulator.internal.util.PopulateUtil.isJavaBaseClass;
 import static com.github.anhem.testpopulator.internal.util.PopulateUtil.toArgumentTypes;
@@ -19,7 +17,7 @@ public class ClassCarrier<T> extends Carrier {
     public ClassCarrier(
             Class<T> clazz,
             ObjectFactory objectFactory,
-            List<String> visited,
+            VisitedClasses visited,
             PopulateConfig populateConfig
     ) {
         this(clazz, null, objectFactory, visited, populateConfig);
@@ -29,7 +27,7 @@ public class ClassCarrier<T> extends Carrier {
             Class<T> clazz,
             String name,
             ObjectFactory objectFactory,
-            List<String> visited,
+            VisitedClasses visited,
             PopulateConfig populateConfig
     ) {
         super(objectFactory, visited, populateConfig);
@@ -46,11 +44,11 @@ public class ClassCarrier<T> extends Carrier {
     }
 
     public <V> ClassCarrier<V> toClassCarrier(Class<V> clazz) {
-        return new ClassCarrier<>(clazz, name, objectFactory, new ArrayList<>(visited), populateConfig);
+        return new ClassCarrier<>(clazz, name, objectFactory, visited, populateConfig);
     }
 
     public <V> ClassCarrier<V> toClassCarrier(Class<V> clazz, String name) {
-        return new ClassCarrier<>(clazz, name, objectFactory, new ArrayList<>(visited), populateConfig);
+        return new ClassCarrier<>(clazz, name, objectFactory, visited, populateConfig);
     }
 
     @SuppressWarnings("unchecked")
@@ -59,14 +57,14 @@ public class ClassCarrier<T> extends Carrier {
                 parameter.getType(),
                 parameter.getName(),
                 objectFactory,
-                new ArrayList<>(visited),
+                visited,
                 populateConfig
         );
     }
 
     @SuppressWarnings("unchecked")
     public <V> ClassCarrier<V> toClassCarrier(Parameter parameter, String name) {
-        return (ClassCarrier<V>) new ClassCarrier<>(parameter.getType(), name, objectFactory, new ArrayList<>(visited), populateConfig);
+        return (ClassCarrier<V>) new ClassCarrier<>(parameter.getType(), name, objectFactory, visited, populateConfig);
     }
 
     public TypeCarrier toTypeCarrier(Type type) {
@@ -103,7 +101,21 @@ public class ClassCarrier<T> extends Carrier {
     }
 
     public boolean alreadyVisited() {
-        return populateConfig.isNullOnCircularDependency() && !isJavaBaseClass(clazz) && !addVisited();
+        return isTrackingVisited() && !addVisited();
+    }
+
+    /**
+     * Call when population of a class that was not already visited is done, so that siblings of it are not mistaken
+     * for circular dependencies.
+     */
+    public void removeVisited() {
+        if (isTrackingVisited()) {
+            visited.remove(clazz);
+        }
+    }
+
+    private boolean isTrackingVisited() {
+        return populateConfig.isNullOnCircularDependency() && !isJavaBaseClass(clazz);
     }
 
     public boolean hasConstructors() {
@@ -111,11 +123,7 @@ public class ClassCarrier<T> extends Carrier {
     }
 
     public boolean addVisited() {
-        if (visited.contains(clazz.getName())) {
-            return false;
-        }
-        visited.add(clazz.getName());
-        return true;
+        return visited.add(clazz);
     }
 }
 
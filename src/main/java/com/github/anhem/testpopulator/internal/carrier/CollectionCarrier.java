@@ -18,7 +18,7 @@ public class CollectionCarrier<T> extends ClassCarrier<T> {
             Class<T> clazz,
             Type[] typeArguments,
             ObjectFactory objectFactory,
-            List<String> visited,
+            VisitedClasses visited,
             PopulateConfig populateConfig
     ) {
         super(clazz, objectFactory, visited, populateConfig);
@@ -30,7 +30,7 @@ public class CollectionCarrier<T> extends ClassCarrier<T> {
             String name,
             Type[] typeArguments,
             ObjectFactory objectFactory,
-            List<String> visited,
+            VisitedClasses visited,
             PopulateConfig populateConfig
     ) {
         super(clazz, name, objectFactory, visited, populateConfig);
@@ -41,7 +41,7 @@ public class CollectionCarrier<T> extends ClassCarrier<T> {
             Class<T> clazz,
             Parameter parameter,
             ObjectFactory objectFactory,
-            List<String> visited,
+            VisitedClasses visited,
             PopulateConfig populateConfig
     ) {
         super(clazz, parameter.getName(), objectFactory, visited, populateConfig);
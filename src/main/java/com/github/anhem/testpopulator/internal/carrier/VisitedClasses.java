@@ -0,0 +1,26 @@
+package com.github.anhem.testpopulator.internal.carrier;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+/**
+ * Classes on the path from the populated class down to the class currently being populated. Population is depth
+ * first, so a class is added when population of it starts and removed when it is done. All carriers of a populate call
+ * share the same instance, and finding a circular dependency is a single lookup by class identity.
+ */
+public class VisitedClasses {
+
+    private final Set<Class<?>> classes = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    /**
+     * @return false if clazz is already on the path
+     */
+    boolean add(Class<?> clazz) {
+        return classes.add(clazz);
+    }
+
+    void remove(Class<?> clazz) {
+        classes.remove(clazz);
+    }
+}
@@ -0,0 +1,33 @@
+package com.github.anhem.testpopulator.internal.event;
+
+import jdk.jfr.*;
+
+/**
+ * Flight recorder event for the population of a class that is not created by the ValueFactory. The duration and the
+ * number of reflective calls include the classes populated for it.
+ */
+@Name("com.github.anhem.testpopulator.Populate")
+@Label("Populate")
+@Description("Population of a class, including the classes populated for it")
+@Category("Test Populator")
+@Enabled(false)
+@StackTrace(false)
+public class PopulateEvent extends Event {
+
+    @Label("Class")
+    Class<?> populatedClass;
+
+    @Label("Name")
+    @Description("Name of the field or parameter the class is populated for")
+    String name;
+
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Depth")
+    int depth;
+
+    @Label("Reflective Calls")
+    @Description("Calls to constructors, methods and fields, including those for nested classes")
+    long reflectiveCalls;
+}
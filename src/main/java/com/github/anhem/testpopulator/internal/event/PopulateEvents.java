@@ -0,0 +1,80 @@
+package com.github.anhem.testpopulator.internal.event;
+
+import java.nio.file.Path;
+
+/**
+ * Emits the flight recorder events of test-populator. Events are disabled by default and are enabled in a recording
+ * settings file or with {@code jfr configure}, for example {@code com.github.anhem.testpopulator.Populate#enabled=true}.
+ * While disabled, beginning and ending an event only checks whether it is enabled and allocates nothing.
+ */
+public final class PopulateEvents {
+
+    private static final PopulateEvent NOT_RECORDED_POPULATE_EVENT = new PopulateEvent();
+    private static final WriteToFileEvent NOT_RECORDED_WRITE_TO_FILE_EVENT = new WriteToFileEvent();
+    private static final ThreadLocal<Counters> COUNTERS = ThreadLocal.withInitial(Counters::new);
+
+    private PopulateEvents() {
+    }
+
+    public static PopulateEvent beginPopulate() {
+        if (!NOT_RECORDED_POPULATE_EVENT.isEnabled()) {
+            return NOT_RECORDED_POPULATE_EVENT;
+        }
+        Counters counters = COUNTERS.get();
+        PopulateEvent event = new PopulateEvent();
+        event.depth = counters.depth++;
+        event.reflectiveCalls = counters.reflectiveCalls;
+        event.begin();
+        return event;
+    }
+
+    public static void endPopulate(PopulateEvent event, Class<?> clazz, String name, String strategy) {
+        if (event == NOT_RECORDED_POPULATE_EVENT) {
+            return;
+        }
+        Counters counters = COUNTERS.get();
+        counters.depth--;
+        event.end();
+        if (event.shouldCommit()) {
+            event.populatedClass = clazz;
+            event.name = name;
+            event.strategy = strategy;
+            event.reflectiveCalls = counters.reflectiveCalls - event.reflectiveCalls;
+            event.commit();
+        }
+    }
+
+    /**
+     * Count a call to a constructor, method or field for the populate events in progress on this thread.
+     */
+    public static void reflectiveCall() {
+        if (NOT_RECORDED_POPULATE_EVENT.isEnabled()) {
+            COUNTERS.get().reflectiveCalls++;
+        }
+    }
+
+    public static WriteToFileEvent beginWriteToFile() {
+        if (!NOT_RECORDED_WRITE_TO_FILE_EVENT.isEnabled()) {
+            return NOT_RECORDED_WRITE_TO_FILE_EVENT;
+        }
+        WriteToFileEvent event = new WriteToFileEvent();
+        event.begin();
+        return event;
+    }
+
+    public static void endWriteToFile(WriteToFileEvent event, Path path) {
+        if (event == NOT_RECORDED_WRITE_TO_FILE_EVENT) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.path = path != null ? path.toString() : null;
+            event.commit();
+        }
+    }
+
+    private static final class Counters {
+        private int depth;
+        private long reflectiveCalls;
+    }
+}
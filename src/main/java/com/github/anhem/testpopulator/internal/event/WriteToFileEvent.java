@@ -0,0 +1,18 @@
+package com.github.anhem.testpopulator.internal.event;
+
+import jdk.jfr.*;
+
+/**
+ * Flight recorder event for the object factory writing generated code to file.
+ */
+@Name("com.github.anhem.testpopulator.WriteToFile")
+@Label("Write To File")
+@Description("Object factory writing generated code to file")
+@Category("Test Populator")
+@Enabled(false)
+@StackTrace(false)
+public class WriteToFileEvent extends Event {
+
+    @Label("Path")
+    String path;
+}
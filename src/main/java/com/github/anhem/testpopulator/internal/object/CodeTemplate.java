@@ -7,6 +7,7 @@ public enum CodeTemplate {
     SETTER("%1$s %2$s %4$s = new %2$s();"),
     COLLECTION("%1$s %2$s %4$s = new %2$s();"),
     TYPED_COLLECTION("%1$s %2$s<%3$s> %4$s = new %2$s<>();"),
+    INTERFACE_COLLECTION("%1$s %2$s<%3$s> %4$s = new %5$s<>();"),
     ENUM_SET("%1$s %2$s<%3$s> %4$s = EnumSet.noneOf(%5$s.class);"),
     ENUM_MAP("%1$s %2$s<%3$s> %4$s = new EnumMap<>(%5$s.class);"),
     VALUE("%1$s %2$s %4$s = %7$s;"),
@@ -10,11 +10,17 @@ public class ContainerObjectBuilder extends ObjectBuilder {
 
     private final String template;
     private final String referencedClassName;
+    private final String elementMethodName;
+    private final int elementMethodChildren;
+    private final boolean empty;
 
     private ContainerObjectBuilder(Builder builder) {
         super(builder.clazz, builder.name, builder.buildType, builder.useFullyQualifiedName, builder.expectedChildren, builder.parameterized);
         this.template = builder.template;
         this.referencedClassName = builder.referencedClassName;
+        this.elementMethodName = builder.elementMethodName;
+        this.elementMethodChildren = builder.elementMethodChildren;
+        this.empty = builder.empty;
         for (Class<?> referencedClass : builder.referencedClasses) {
             addReferencedClass(referencedClass);
         }
@@ -24,6 +30,17 @@ public class ContainerObjectBuilder extends ObjectBuilder {
         return new Builder();
     }
 
+    /**
+     * @return name of the method that adds each element, or null if methods are added as children explicitly
+     */
+    public String getElementMethodName() {
+        return elementMethodName;
+    }
+
+    public int getElementMethodChildren() {
+        return elementMethodChildren;
+    }
+
     @Override
     protected Stream<String> getInstantiationLine(List<ObjectBuilder> argumentChildren) {
         if (template == null) {
@@ -32,6 +49,15 @@ public class ContainerObjectBuilder extends ObjectBuilder {
         return Stream.of(String.format(template, PSF, getClassName(), formatTypes(), getName(), referencedClassName));
     }
 
+    /**
+     * Elements all have the same types, so the types of the first element are the types of the container
+     */
+    @Override
+    protected List<ObjectBuilder> getTypeChildren() {
+        List<ObjectBuilder> children = getChildren();
+        return elementMethodName != null && children.size() > 1 ? children.subList(0, 1) : children;
+    }
+
     @Override
     protected List<ObjectBuilder> getArgumentChildren() {
         return Collections.emptyList();
@@ -44,7 +70,7 @@ public class ContainerObjectBuilder extends ObjectBuilder {
 
     @Override
     protected boolean shouldSkipMethods(List<ObjectBuilder> methodChildren) {
-        return super.shouldSkipMethods(methodChildren) || collectionHasNullValues(this);
+        return empty || super.shouldSkipMethods(methodChildren) || collectionHasNullValues(this);
     }
 
     @Override
@@ -55,6 +81,9 @@ public class ContainerObjectBuilder extends ObjectBuilder {
     public static class Builder extends BaseBuilder<Builder> {
         private String template;
         private String referencedClassName;
+        private String elementMethodName;
+        private int elementMethodChildren;
+        private boolean empty;
 
         public Builder template(String template) {
             this.template = template;
@@ -66,6 +95,20 @@ public class ContainerObjectBuilder extends ObjectBuilder {
             return this;
         }
 
+        public Builder elementMethod(String elementMethodName, int elementMethodChildren) {
+            this.elementMethodName = elementMethodName;
+            this.elementMethodChildren = elementMethodChildren;
+            return this;
+        }
+
+        /**
+         * An empty container has one element that is never added, only to get the types of the container from
+         */
+        public Builder empty(boolean empty) {
+            this.empty = empty;
+            return this;
+        }
+
         @Override
         public ContainerObjectBuilder build() {
             return new ContainerObjectBuilder(this);
@@ -1,6 +1,7 @@
 package com.github.anhem.testpopulator.internal.object;
 
 import java.util.*;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import static com.github.anhem.testpopulator.internal.util.ObjectBuilderUtil.*;
@@ -11,6 +12,9 @@ public abstract class ObjectBuilder {
     public static final String NULL = "null";
     public static final String PSF = "public static final";
     protected static final String ARGUMENT_DELIMITER = ", ";
+    private static final Set<BuildType> UNIQUE_ELEMENT_TYPES = EnumSet.of(BuildType.SET, BuildType.ENUM_SET, BuildType.MAP, BuildType.ENUM_MAP);
+    private static final String NAME_PLACEHOLDER = "\u0000";
+    static final int UNTIL_ENDED = -1;
     private final Class<?> clazz;
     private final String name;
     private final BuildType buildType;
@@ -22,11 +26,13 @@ public abstract class ObjectBuilder {
     private final Set<String> extraMethods = new HashSet<>();
     private final Set<String> extraImports = new HashSet<>();
     private final Set<String> extraStaticImports = new HashSet<>();
-    private final int expectedChildren;
+    private int expectedChildren;
     private final boolean parameterized;
     private boolean skipNullMethods;
     private ObjectBuilder parent;
     private String value;
+    private String sharedName;
+    private Released released;
 
     protected ObjectBuilder(Class<?> clazz, String name, BuildType buildType, boolean useFullyQualifiedName, int expectedChildren) {
         this(clazz, name, buildType, useFullyQualifiedName, expectedChildren, false);
@@ -69,7 +75,7 @@ public abstract class ObjectBuilder {
                 dependencies,
                 getInstantiationLine(argumentChildren),
                 methodBlock
-        ).collect(java.util.stream.Collectors.toList());
+        ).collect(Collectors.toList());
     }
 
     protected List<ObjectBuilder> getArgumentChildren() {
@@ -96,6 +102,9 @@ public abstract class ObjectBuilder {
     protected Stream<String> createMethods(List<ObjectBuilder> methodChildren) {
         return methodChildren.stream()
                 .flatMap(child -> {
+                    if (child.released != null && child.released.methods != null) {
+                        return child.released.methods.stream();
+                    }
                     if (!child.methodChildren.isEmpty()) {
                         return child.createMethods(child.methodChildren);
                     }
@@ -136,12 +145,116 @@ public abstract class ObjectBuilder {
         this.extraStaticImports.addAll(staticImports);
     }
 
+    /**
+     * Ends a builder that takes children until they are ended, with the children it has so far
+     */
+    public void endChildren() {
+        expectedChildren = children.size();
+    }
+
     public boolean hasAllChildren() {
-        return expectedChildren == children.size();
+        return released != null || expectedChildren == children.size();
+    }
+
+    public boolean isReleased() {
+        return released != null;
+    }
+
+    /**
+     * Emits the code of this completed builder to emitted and releases everything below its children. The children
+     * of all its children have already been released, so only the code of this builder itself is emitted. Values the
+     * parent still needs from this builder are kept, so it no longer has to walk the released part of the tree.
+     * <p>
+     * If the same code, apart from the name of this builder, has already been emitted, nothing is emitted and this
+     * builder refers to the existing constant instead.
+     *
+     * @param emitted   collects code, imports and methods of released builders
+     * @param constants names of emitted constants by their code
+     */
+    public void release(ObjectResult emitted, Map<String, String> constants) {
+        if (!isBasicValue(this)) {
+            List<String> objects = build();
+            String existingName = !objects.isEmpty() && isShareable() ? constants.putIfAbsent(toConstantKey(objects), name) : null;
+            if (existingName != null) {
+                sharedName = existingName;
+            } else {
+                emitted.getObjects().addAll(objects);
+            }
+        }
+        addImport(getClazz(), value, isUseFullyQualifiedName(), emitted.getImports(), emitted.getStaticImports());
+        referencedClasses.forEach(c -> addImport(c, null, isUseFullyQualifiedName(), emitted.getImports(), emitted.getStaticImports()));
+        emitted.getImports().addAll(extraImports);
+        emitted.getStaticImports().addAll(extraStaticImports);
+        emitted.getMethods().addAll(extraMethods);
+        Optional.ofNullable(getHelperMethod(getClazz())).ifPresent(emitted.getMethods()::add);
+        released = new Released(
+                buildArguments(),
+                formatTypes(),
+                anyArgumentIsNull(),
+                methodChildren.isEmpty() ? null : createMethods(methodChildren).collect(Collectors.toList())
+        );
+        children.forEach(ObjectBuilder::clearChildren);
+    }
+
+    /**
+     * Elements of sets and entries of maps are never shared, since one constant in place of several equal objects would
+     * change the size of a collection that relies on identity.
+     */
+    private boolean isShareable() {
+        ObjectBuilder container = parent != null && parent.buildType == BuildType.METHOD ? parent.parent : parent;
+        return container == null || !UNIQUE_ELEMENT_TYPES.contains(container.buildType);
+    }
+
+    /**
+     * Code of objects with every identifier that is the name of this builder replaced by a placeholder. String and
+     * character literals are copied as they are, so a value that happens to contain the name still tells objects apart.
+     */
+    private String toConstantKey(List<String> objects) {
+        String code = String.join(System.lineSeparator(), objects);
+        StringBuilder key = new StringBuilder(code.length());
+        int index = 0;
+        while (index < code.length()) {
+            char c = code.charAt(index);
+            int end;
+            if (c == '"' || c == '\'') {
+                end = getLiteralEnd(code, index);
+                key.append(code, index, end);
+            } else if (Character.isJavaIdentifierPart(c)) {
+                end = index + 1;
+                while (end < code.length() && Character.isJavaIdentifierPart(code.charAt(end))) {
+                    end++;
+                }
+                if (end - index == name.length() && code.startsWith(name, index)) {
+                    key.append(NAME_PLACEHOLDER);
+                } else {
+                    key.append(code, index, end);
+                }
+            } else {
+                end = index + 1;
+                key.append(c);
+            }
+            index = end;
+        }
+        return key.toString();
+    }
+
+    private static int getLiteralEnd(String code, int start) {
+        char quote = code.charAt(start);
+        int index = start + 1;
+        while (index < code.length() && code.charAt(index) != quote) {
+            index += code.charAt(index) == '\\' ? 2 : 1;
+        }
+        return Math.min(index + 1, code.length());
+    }
+
+    private void clearChildren() {
+        children.clear();
+        argumentChildren.clear();
+        methodChildren.clear();
     }
 
     public String getName() {
-        return name;
+        return sharedName != null ? sharedName : name;
     }
 
     public BuildType getBuildType() {
@@ -165,13 +278,23 @@ public abstract class ObjectBuilder {
     }
 
     public ObjectResult buildAll() {
+        return buildAll(ObjectResult.EMPTY_OBJECT_RESULT);
+    }
+
+    /**
+     * @param emitted code, imports and methods of builders below this one that have already been released
+     * @return ObjectResult with the emitted code followed by the code of the builders that have not been released
+     */
+    public ObjectResult buildAll(ObjectResult emitted) {
         String packageName = getPackageName(getClazz());
         String className = formatClassName(getClazz());
-        Set<String> imports = new HashSet<>();
-        Set<String> staticImports = new HashSet<>();
+        Set<String> imports = new HashSet<>(emitted.getImports());
+        Set<String> staticImports = new HashSet<>(emitted.getStaticImports());
         getImports(imports, staticImports);
-        List<String> objects = build();
+        List<String> objects = new ArrayList<>(emitted.getObjects());
+        objects.addAll(build());
         Set<String> methods = getMethods();
+        methods.addAll(emitted.getMethods());
 
         return new ObjectResult(packageName, className, imports, staticImports, objects, methods);
     }
@@ -197,7 +320,7 @@ public abstract class ObjectBuilder {
 
     protected Stream<String> buildChildren(List<ObjectBuilder> children) {
         return children.stream()
-                .filter(child -> !isBasicValue(child))
+                .filter(child -> !isBasicValue(child) && !child.isReleased())
                 .map(ObjectBuilder::build)
                 .flatMap(Collection::stream);
     }
@@ -206,6 +329,9 @@ public abstract class ObjectBuilder {
     }
 
     public boolean anyArgumentIsNull() {
+        if (released != null) {
+            return released.argumentIsNull;
+        }
         if (buildType == BuildType.VALUE) {
             return isNullValue();
         }
@@ -229,6 +355,9 @@ public abstract class ObjectBuilder {
 
 
     public String buildArguments() {
+        if (released != null) {
+            return released.arguments;
+        }
         if (children.isEmpty()) {
             if (getBuildType() == BuildType.VALUE) {
                 return value == null ? NULL : value;
@@ -256,8 +385,18 @@ public abstract class ObjectBuilder {
         return List.of(value == null ? NULL : value);
     }
 
+    /**
+     * @return children whose types make up the type arguments of this builder
+     */
+    protected List<ObjectBuilder> getTypeChildren() {
+        return children;
+    }
+
     protected String formatTypes() {
-        return children.stream()
+        if (released != null) {
+            return released.types;
+        }
+        return getTypeChildren().stream()
                 .map(child -> {
                     if (child.getClazz() == null) {
                         return child.formatTypes();
@@ -269,4 +408,21 @@ public abstract class ObjectBuilder {
                     }
                 }).collect(joining(ARGUMENT_DELIMITER));
     }
+
+    /**
+     * Values of a released builder that its parent uses when building its own code
+     */
+    private static class Released {
+        private final String arguments;
+        private final String types;
+        private final boolean argumentIsNull;
+        private final List<String> methods;
+
+        private Released(String arguments, String types, boolean argumentIsNull, List<String> methods) {
+            this.arguments = arguments;
+            this.types = types;
+            this.argumentIsNull = argumentIsNull;
+            this.methods = methods;
+        }
+    }
 }
@@ -14,27 +14,38 @@ public interface ObjectFactory {
 
     <T> void staticMethod(Class<T> clazz, String methodName, int expectedChildren);
 
-    <T> void set(Class<T> clazz);
+    <T> void set(Class<T> clazz, int size);
 
     void setOf();
 
-    <T> void enumSet(Class<T> clazz, Class<?> enumClazz);
+    <T> void enumSet(Class<T> clazz, Class<?> enumClazz, int size);
 
-    <T> void list(Class<T> clazz);
+    <T> void list(Class<T> clazz, int size);
 
     void listOf();
 
-    <T> void map(Class<T> clazz);
+    <T> void map(Class<T> clazz, int size);
 
     void mapOf();
 
-    <T> void enumMap(Class<T> clazz, Class<?> enumClazz);
+    <T> void enumMap(Class<T> clazz, Class<?> enumClazz, int size);
+
+    /**
+     * Ends the elements of the current set or map, which takes elements until they are ended since an element that is
+     * equal to an earlier one is populated again
+     */
+    void endElements();
 
     <T> void mapEntry(Class<T> clazz);
 
     void optional();
 
-    <T> void array(Class<T> clazz);
+    <T> void array(Class<T> clazz, int length);
+
+    /**
+     * Array of a primitive type that has already been filled, given as a whole instead of a value per element
+     */
+    void primitiveArray(Object array);
 
     <T> void stream(Class<T> clazz);
 
@@ -4,9 +4,15 @@ import com.github.anhem.testpopulator.config.OverridePopulate;
 import com.github.anhem.testpopulator.config.OverrideTarget;
 import com.github.anhem.testpopulator.config.PopulateConfig;
 import com.github.anhem.testpopulator.exception.ObjectException;
+import com.github.anhem.testpopulator.internal.event.PopulateEvents;
+import com.github.anhem.testpopulator.internal.event.WriteToFileEvent;
+import com.github.anhem.testpopulator.internal.util.AggregatedFileWriter;
+import com.github.anhem.testpopulator.internal.util.BackgroundFileWriter;
+import com.github.anhem.testpopulator.internal.util.GeneratedFileIndex;
 import com.github.anhem.testpopulator.internal.util.KotlinUtil;
 import com.github.anhem.testpopulator.internal.util.ProtobufUtil;
 
+import java.lang.reflect.Array;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
@@ -14,6 +20,7 @@ import java.util.stream.*;
 
 import static com.github.anhem.testpopulator.internal.object.BuildType.*;
 import static com.github.anhem.testpopulator.internal.object.ObjectBuilder.NULL;
+import static com.github.anhem.testpopulator.internal.object.ObjectBuilder.UNTIL_ENDED;
 import static com.github.anhem.testpopulator.internal.util.FileWriterUtil.*;
 import static com.github.anhem.testpopulator.internal.util.ObjectBuilderUtil.useFullyQualifiedName;
 
@@ -25,12 +32,16 @@ public class ObjectFactoryImpl implements ObjectFactory {
     private final PopulateConfig populateConfig;
     private final Map<String, Integer> classNameCounters;
     private final Map<String, Class<?>> classNames;
+    private final ObjectResult emitted;
+    private final Map<String, String> constants;
     private ObjectBuilder currentObjectBuilder;
 
     public ObjectFactoryImpl(PopulateConfig populateConfig) {
         this.populateConfig = populateConfig;
         this.classNameCounters = new HashMap<>();
         this.classNames = new HashMap<>();
+        this.emitted = new ObjectResult(null, null, new HashSet<>(), new HashSet<>(), new ArrayList<>(), new HashSet<>());
+        this.constants = new HashMap<>();
     }
 
     @Override
@@ -81,12 +92,10 @@ public class ObjectFactoryImpl implements ObjectFactory {
     }
 
     @Override
-    public <T> void set(Class<T> clazz) {
-        setNextObjectBuilder(containerBuilder(clazz, SET, 1)
-                .template(CodeTemplate.TYPED_COLLECTION.getFormat())
+    public <T> void set(Class<T> clazz, int size) {
+        setNextObjectBuilder(collectionBuilder(clazz, HashSet.class, SET, size, "add", 1)
                 .parameterized(true)
                 .build());
-        method("add", 1);
     }
 
     @Override
@@ -101,23 +110,20 @@ public class ObjectFactoryImpl implements ObjectFactory {
     }
 
     @Override
-    public <T> void enumSet(Class<T> clazz, Class<?> enumClazz) {
-        setNextObjectBuilder(containerBuilder(clazz, ENUM_SET, 1)
+    public <T> void enumSet(Class<T> clazz, Class<?> enumClazz, int size) {
+        setNextObjectBuilder(elementContainerBuilder(clazz, ENUM_SET, size, "add", 1)
                 .template(CodeTemplate.ENUM_SET.getFormat())
                 .parameterized(true)
                 .referencedClassName(enumClazz.getSimpleName())
                 .referencedClasses(enumClazz)
                 .build());
-        method("add", 1);
     }
 
     @Override
-    public <T> void list(Class<T> clazz) {
-        setNextObjectBuilder(containerBuilder(clazz, LIST, 1)
-                .template(CodeTemplate.TYPED_COLLECTION.getFormat())
+    public <T> void list(Class<T> clazz, int size) {
+        setNextObjectBuilder(collectionBuilder(clazz, ArrayList.class, LIST, size, "add", 1)
                 .parameterized(true)
                 .build());
-        method("add", 1);
     }
 
     @Override
@@ -132,14 +138,15 @@ public class ObjectFactoryImpl implements ObjectFactory {
     }
 
     @Override
-    public <T> void map(Class<T> clazz) {
+    public <T> void map(Class<T> clazz, int size) {
         boolean parameterized = !clazz.equals(Properties.class);
-        CodeTemplate codeTemplate = parameterized ? CodeTemplate.TYPED_COLLECTION : CodeTemplate.COLLECTION;
-        setNextObjectBuilder(containerBuilder(clazz, MAP, 1)
-                .template(codeTemplate.getFormat())
+        ContainerObjectBuilder.Builder builder = collectionBuilder(clazz, HashMap.class, MAP, size, "put", 2);
+        if (!parameterized) {
+            builder.template(CodeTemplate.COLLECTION.getFormat());
+        }
+        setNextObjectBuilder(builder
                 .parameterized(parameterized)
                 .build());
-        method("put", 2);
     }
 
     @Override
@@ -154,16 +161,21 @@ public class ObjectFactoryImpl implements ObjectFactory {
     }
 
     @Override
-    public <T> void enumMap(Class<T> clazz, Class<?> enumClazz) {
+    public <T> void enumMap(Class<T> clazz, Class<?> enumClazz, int size) {
         boolean parameterized = !clazz.equals(Properties.class);
         CodeTemplate codeTemplate = parameterized ? CodeTemplate.ENUM_MAP : CodeTemplate.COLLECTION;
-        setNextObjectBuilder(containerBuilder(clazz, ENUM_MAP, 1)
+        setNextObjectBuilder(elementContainerBuilder(clazz, ENUM_MAP, size, "put", 2)
                 .template(codeTemplate.getFormat())
                 .parameterized(parameterized)
                 .referencedClassName(enumClazz.getSimpleName())
                 .referencedClasses(enumClazz)
                 .build());
-        method("put", 2);
+    }
+
+    @Override
+    public void endElements() {
+        currentObjectBuilder.endChildren();
+        setPreviousObjectBuilder();
     }
 
     @Override
@@ -188,12 +200,23 @@ public class ObjectFactoryImpl implements ObjectFactory {
     }
 
     @Override
-    public <T> void array(Class<T> clazz) {
-        setNextObjectBuilder(templateBuilder(clazz, ARRAY, 1)
+    public <T> void array(Class<T> clazz, int length) {
+        setNextObjectBuilder(templateBuilder(clazz, ARRAY, length)
                 .codeTemplate(CodeTemplate.ARRAY)
                 .build());
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void primitiveArray(Object array) {
+        Class<Object> componentType = (Class<Object>) array.getClass().getComponentType();
+        int length = Array.getLength(array);
+        array(componentType, length);
+        for (int i = 0; i < length; i++) {
+            value(Array.get(array, i), componentType, null);
+        }
+    }
+
     @Override
     public <T> void stream(Class<T> clazz) {
         TemplateObjectBuilder.Builder streamBuilder = templateBuilder(clazz, STATIC_METHOD, 1)
@@ -282,25 +305,33 @@ public class ObjectFactoryImpl implements ObjectFactory {
     @Override
     public ObjectResult build() {
         ObjectBuilder topObjectBuilder = toTop();
-        return topObjectBuilder != null ? topObjectBuilder.buildAll() : ObjectResult.EMPTY_OBJECT_RESULT;
+        return topObjectBuilder != null ? topObjectBuilder.buildAll(emitted) : ObjectResult.EMPTY_OBJECT_RESULT;
     }
 
     @Override
     public void writeToFile() {
         ObjectResult objectResult = build();
         if (objectResult.isValid()) {
+            Class<?> clazz = toTop().getClazz();
+            if (populateConfig.isObjectFactoryAggregate() && AggregatedFileWriter.getInstance().add(clazz, objectResult, populateConfig)) {
+                return;
+            }
             Path path = getPath(objectResult, populateConfig);
-            createOrOverwriteFile(path);
-            writePackage(objectResult, path);
-            writeImports(objectResult, path);
-            writeStaticImports(objectResult, path);
-            writeStartClass(objectResult, path, populateConfig);
-            writeObjects(objectResult, path);
-            writeMethods(objectResult, path);
-            writeEndClass(path);
+            if (populateConfig.isObjectFactoryBackgroundWrites()) {
+                BackgroundFileWriter.getInstance().write(path, () -> writeToFile(clazz, objectResult, path));
+            } else {
+                writeToFile(clazz, objectResult, path);
+            }
         }
     }
 
+    private void writeToFile(Class<?> clazz, ObjectResult objectResult, Path path) {
+        WriteToFileEvent writeToFileEvent = PopulateEvents.beginWriteToFile();
+        writeIfChanged(path, render(objectResult, populateConfig));
+        GeneratedFileIndex.update(clazz, populateConfig, path);
+        PopulateEvents.endWriteToFile(writeToFileEvent, path);
+    }
+
     private ObjectBuilder toTop() {
         return Stream.iterate(currentObjectBuilder, Objects::nonNull, ObjectBuilder::getParent)
                 .reduce((child, parent) -> parent)
@@ -381,10 +412,42 @@ public class ObjectFactoryImpl implements ObjectFactory {
                 .expectedChildren(expectedChildren);
     }
 
+    /**
+     * A collection or map declared as an interface is declared with the interface and created with implementation, so
+     * it still matches the types of collections and maps it is an element of
+     */
+    private ContainerObjectBuilder.Builder collectionBuilder(Class<?> clazz, Class<?> implementation, BuildType buildType, int size, String elementMethodName, int elementMethodChildren) {
+        ContainerObjectBuilder.Builder builder = elementContainerBuilder(clazz, buildType, size, elementMethodName, elementMethodChildren);
+        if (clazz.isInterface()) {
+            return builder
+                    .template(CodeTemplate.INTERFACE_COLLECTION.getFormat())
+                    .referencedClassName(implementation.getSimpleName())
+                    .referencedClasses(implementation);
+        }
+        return builder.template(CodeTemplate.TYPED_COLLECTION.getFormat());
+    }
+
+    /**
+     * Each element gets a method call of elementMethodName added in front of it. An empty container still gets one
+     * element, to get its types from, that is never added. Sets and maps take elements until they are ended, since an
+     * element that is equal to an earlier one is populated again.
+     */
+    private ContainerObjectBuilder.Builder elementContainerBuilder(Class<?> clazz, BuildType buildType, int size, String elementMethodName, int elementMethodChildren) {
+        return containerBuilder(clazz, buildType, buildType == LIST ? Math.max(size, 1) : UNTIL_ENDED)
+                .elementMethod(elementMethodName, elementMethodChildren)
+                .empty(size == 0);
+    }
+
     private void setNextObjectBuilder(ObjectBuilder objectBuilder) {
         if (ProtobufUtil.isProtobuf(populateConfig)) {
             objectBuilder.setSkipNullMethods(true);
         }
+        if (currentObjectBuilder instanceof ContainerObjectBuilder && objectBuilder.getBuildType() != METHOD) {
+            ContainerObjectBuilder containerObjectBuilder = (ContainerObjectBuilder) currentObjectBuilder;
+            if (containerObjectBuilder.getElementMethodName() != null) {
+                method(containerObjectBuilder.getElementMethodName(), containerObjectBuilder.getElementMethodChildren());
+            }
+        }
         if (currentObjectBuilder != null) {
             currentObjectBuilder.addChild(objectBuilder);
             objectBuilder.setParent(currentObjectBuilder);
@@ -395,8 +458,13 @@ public class ObjectFactoryImpl implements ObjectFactory {
         }
     }
 
+    /**
+     * Moves up from builders that have all their children. Their code is emitted as they complete, so only the
+     * builders on the path from the top to the current one and their children are kept until build.
+     */
     private void setPreviousObjectBuilder() {
         while (currentObjectBuilder.getParent() != null && currentObjectBuilder.hasAllChildren()) {
+            currentObjectBuilder.release(emitted, constants);
             currentObjectBuilder = currentObjectBuilder.getParent();
         }
     }
@@ -34,7 +34,7 @@ public class ObjectFactoryVoid implements ObjectFactory {
     }
 
     @Override
-    public <T> void set(Class<T> clazz) {
+    public <T> void set(Class<T> clazz, int size) {
         //ignored
     }
 
@@ -44,12 +44,12 @@ public class ObjectFactoryVoid implements ObjectFactory {
     }
 
     @Override
-    public <T> void enumSet(Class<T> clazz, Class<?> enumClazz) {
+    public <T> void enumSet(Class<T> clazz, Class<?> enumClazz, int size) {
         //ignored
     }
 
     @Override
-    public <T> void list(Class<T> clazz) {
+    public <T> void list(Class<T> clazz, int size) {
         //ignored
     }
 
@@ -59,7 +59,7 @@ public class ObjectFactoryVoid implements ObjectFactory {
     }
 
     @Override
-    public <T> void map(Class<T> clazz) {
+    public <T> void map(Class<T> clazz, int size) {
         //ignored
     }
 
@@ -69,7 +69,12 @@ public class ObjectFactoryVoid implements ObjectFactory {
     }
 
     @Override
-    public <T> void enumMap(Class<T> clazz, Class<?> enumClazz) {
+    public <T> void enumMap(Class<T> clazz, Class<?> enumClazz, int size) {
+        //ignored
+    }
+
+    @Override
+    public void endElements() {
         //ignored
     }
 
@@ -84,7 +89,12 @@ public class ObjectFactoryVoid implements ObjectFactory {
     }
 
     @Override
-    public <T> void array(Class<T> clazz) {
+    public <T> void array(Class<T> clazz, int length) {
+        //ignored
+    }
+
+    @Override
+    public void primitiveArray(Object array) {
         //ignored
     }
 
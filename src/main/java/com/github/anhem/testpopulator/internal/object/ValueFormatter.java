@@ -72,12 +72,12 @@ public class ValueFormatter {
         stringSuppliers.put(URI.class, object -> String.format("URI.create(\"%s\")", object));
         stringSuppliers.put(Charset.class, object -> String.format("Charset.forName(\"%s\")", ((Charset) object).name()));
         stringSuppliers.put(Calendar.class, object -> String.format("new Calendar.Builder().setInstant(%sL).build()", ((Calendar) object).getTimeInMillis()));
-        stringSuppliers.put(BitSet.class, object -> String.format("BitSet.valueOf(new long[]{%sL})", ((BitSet) object).toLongArray()[0]));
+        stringSuppliers.put(BitSet.class, object -> String.format("BitSet.valueOf(new long[]{%s})", formatLongs(((BitSet) object).toLongArray())));
         stringSuppliers.put(Throwable.class, object -> String.format("new Throwable(\"%s\")", ((Throwable) object).getMessage()));
         stringSuppliers.put(Exception.class, object -> String.format("new Exception(\"%s\")", ((Exception) object).getMessage()));
         stringSuppliers.put(RuntimeException.class, object -> String.format("new RuntimeException(\"%s\")", ((RuntimeException) object).getMessage()));
         stringSuppliers.put(Error.class, object -> String.format("new Error(\"%s\")", ((Error) object).getMessage()));
-        stringSuppliers.put(ByteBuffer.class, object -> String.format("ByteBuffer.wrap(new byte[]{%s})", formatBytes(((ByteBuffer) object).array())));
+        stringSuppliers.put(ByteBuffer.class, object -> String.format("ByteBuffer.wrap(new byte[]{%s})", formatBytes(toBytes((ByteBuffer) object))));
         stringSuppliers.put(InetAddress.class, object -> String.format("toInetAddress(\"%s\")", ((InetAddress) object).getHostAddress()));
         stringSuppliers.put(Inet4Address.class, object -> String.format("(Inet4Address) toInetAddress(\"%s\")", ((Inet4Address) object).getHostAddress()));
         stringSuppliers.put(Inet6Address.class, object -> String.format("(Inet6Address) toInetAddress(\"%s\")", ((Inet6Address) object).getHostAddress()));
@@ -85,6 +85,24 @@ public class ValueFormatter {
         stringSuppliers.put(CharSequence.class, object -> String.format("\"%s\"", object));
     }
 
+    /**
+     * Direct and read-only buffers have no accessible array, and a slice only uses part of its array, so the remaining
+     * bytes are copied out instead.
+     */
+    private static byte[] toBytes(ByteBuffer byteBuffer) {
+        byte[] bytes = new byte[byteBuffer.remaining()];
+        byteBuffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static String formatLongs(long[] longs) {
+        StringJoiner stringJoiner = new StringJoiner(", ");
+        for (long value : longs) {
+            stringJoiner.add(value + "L");
+        }
+        return stringJoiner.toString();
+    }
+
     public static String format(Object object, Class<?> clazz) {
         Function<Object, String> stringSupplier = stringSuppliers.get(clazz);
         if (stringSupplier == null) {
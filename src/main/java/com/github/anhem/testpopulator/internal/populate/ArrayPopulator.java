@@ -8,36 +8,54 @@ import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.function.Supplier;
+
+import static com.github.anhem.testpopulator.internal.populate.Populator.NO_SIZE;
 
 public class ArrayPopulator implements PopulatingStrategy {
 
+    /**
+     * Elements are populated with what to populate them with resolved once for all elements. Arrays of primitives are
+     * filled in bulk instead, unless their values are overridden. Each dimension of a multidimensional array is an array
+     * of its own, so its innermost arrays of primitives are filled in bulk as well.
+     */
     @Override
     @SuppressWarnings("unchecked")
     public <T> T populate(ClassCarrier<T> classCarrier, Populator populator) {
         Class<?> componentType = classCarrier.getClazz().getComponentType();
-        classCarrier.getObjectFactory().array(componentType);
-        Object value;
+        int size = populator.createSize(classCarrier);
+        int length = size == NO_SIZE ? 1 : size;
+        if (componentType.isPrimitive()) {
+            Object array = populator.createPrimitiveArray(classCarrier, componentType, length);
+            if (array != null) {
+                return (T) array;
+            }
+        }
+        classCarrier.getObjectFactory().array(componentType, length);
+        Supplier<Object> elements;
         if (classCarrier instanceof CollectionCarrier) {
             CollectionCarrier<T> collectionCarrier = (CollectionCarrier<T>) classCarrier;
-            value = continuePopulateWithType(collectionCarrier.toTypeCarrier(collectionCarrier.getArgumentTypes().get(0)), populator);
+            elements = populator.toElementSupplier(toElementCarrier(collectionCarrier.toTypeCarrier(collectionCarrier.getArgumentTypes().get(0))));
         } else {
-            value = populator.populate(classCarrier.toClassCarrier(componentType));
+            elements = (Supplier<Object>) populator.toElementSupplier(classCarrier.toClassCarrier(componentType));
+        }
+        Object array = Array.newInstance(componentType, length);
+        for (int i = 0; i < length; i++) {
+            Array.set(array, i, elements.get());
         }
-        Object array = Array.newInstance(componentType, 1);
-        Array.set(array, 0, value);
         return (T) array;
     }
 
-    private Object continuePopulateWithType(TypeCarrier typeCarrier, Populator populator) {
+    private ClassCarrier<Object> toElementCarrier(TypeCarrier typeCarrier) {
         Type type = typeCarrier.getType();
         if (type instanceof ParameterizedType) {
             ParameterizedType parameterizedType = (ParameterizedType) type;
-            return populator.populate(typeCarrier.toCollectionCarrier(parameterizedType.getRawType(), parameterizedType.getActualTypeArguments()));
+            return typeCarrier.toCollectionCarrier(parameterizedType.getRawType(), parameterizedType.getActualTypeArguments());
         }
         if (type instanceof GenericArrayType) {
             GenericArrayType genericArrayType = (GenericArrayType) type;
-            return populator.populate(typeCarrier.toCollectionCarrier(type, new Type[]{genericArrayType.getGenericComponentType()}));
+            return typeCarrier.toCollectionCarrier(type, new Type[]{genericArrayType.getGenericComponentType()});
         }
-        return populator.populate(typeCarrier.toClassCarrier(type));
+        return typeCarrier.toClassCarrier(type);
     }
 }
@@ -3,6 +3,8 @@ package com.github.anhem.testpopulator.internal.populate;
 import com.github.anhem.testpopulator.config.PopulateConfig;
 import com.github.anhem.testpopulator.exception.PopulateException;
 import com.github.anhem.testpopulator.internal.carrier.ClassCarrier;
+import com.github.anhem.testpopulator.internal.util.BuilderUtil;
+import com.github.anhem.testpopulator.internal.util.Invoker;
 
 import java.lang.reflect.Method;
 import java.util.List;
@@ -11,13 +13,12 @@ import java.util.Optional;
 
 import static com.github.anhem.testpopulator.config.BuilderPattern.*;
 import static com.github.anhem.testpopulator.config.Strategy.BUILDER;
+import static com.github.anhem.testpopulator.internal.populate.PopulatePlan.EMPTY_POPULATE_PLAN;
 import static com.github.anhem.testpopulator.internal.populate.PopulatorExceptionMessages.FAILED_TO_CREATE_OBJECT;
 import static com.github.anhem.testpopulator.internal.util.BuilderUtil.getMethodsForCustomBuilder;
-import static com.github.anhem.testpopulator.internal.util.ImmutablesUtil.getImmutablesGeneratedClass;
 import static com.github.anhem.testpopulator.internal.util.ImmutablesUtil.getMethodsForImmutablesBuilder;
 import static com.github.anhem.testpopulator.internal.util.LombokUtil.calculateExpectedChildren;
 import static com.github.anhem.testpopulator.internal.util.LombokUtil.getMethodsForLombokBuilderGroupedByInvokeOrder;
-import static com.github.anhem.testpopulator.internal.util.PopulateUtil.setAccessible;
 import static com.github.anhem.testpopulator.internal.util.ProtobufUtil.getMethodsForProtobufBuilder;
 import static java.lang.String.format;
 
@@ -27,26 +28,31 @@ public class BuilderPopulator extends MethodPopulator implements PopulatingStrat
 
     @Override
     public <T> T populate(ClassCarrier<T> classCarrier, Populator populator) {
+        return populate(classCarrier, populator, EMPTY_POPULATE_PLAN);
+    }
+
+    @Override
+    public <T> T populate(ClassCarrier<T> classCarrier, Populator populator, PopulatePlan populatePlan) {
         switch (classCarrier.getPopulateConfig().getBuilderPattern()) {
             case LOMBOK:
-                return populateUsingLombokBuilder(classCarrier, populator);
+                return populateUsingLombokBuilder(classCarrier, populator, populatePlan);
             case IMMUTABLES:
-                return populateUsingImmutablesBuilder(classCarrier, populator);
+                return populateUsingImmutablesBuilder(classCarrier, populator, populatePlan);
             case CUSTOM:
-                return populateUsingCustomBuilder(classCarrier, populator);
+                return populateUsingCustomBuilder(classCarrier, populator, populatePlan);
             case PROTOBUF:
-                return populateUsingProtobufBuilder(classCarrier, populator);
+                return populateUsingProtobufBuilder(classCarrier, populator, populatePlan);
             default:
                 throw new PopulateException("Unsupported builder pattern");
         }
     }
 
     @SuppressWarnings("unchecked")
-    private <T> T populateUsingLombokBuilder(ClassCarrier<T> classCarrier, Populator populator) {
+    private <T> T populateUsingLombokBuilder(ClassCarrier<T> classCarrier, Populator populator, PopulatePlan populatePlan) {
         Class<T> clazz = classCarrier.getClazz();
         PopulateConfig populateConfig = classCarrier.getPopulateConfig();
         try {
-            Object builderObject = clazz.getDeclaredMethod(populateConfig.getBuilderMethod()).invoke(null);
+            Object builderObject = Invoker.of(getBuilderMethod(clazz, populateConfig, populatePlan)).invoke(null);
             Map<Integer, List<Method>> builderObjectMethodsGroupedByInvokeOrder = getMethodsForLombokBuilderGroupedByInvokeOrder(builderObject.getClass(), populateConfig.getBlacklistedMethods());
             classCarrier.getObjectFactory().builder(clazz, calculateExpectedChildren(builderObjectMethodsGroupedByInvokeOrder), populateConfig.getBuilderMethod(), populateConfig.getBuildMethod());
             Optional.ofNullable(builderObjectMethodsGroupedByInvokeOrder.get(1)).ifPresent(methods ->
@@ -56,58 +62,65 @@ public class BuilderPopulator extends MethodPopulator implements PopulatingStrat
             Optional.ofNullable(builderObjectMethodsGroupedByInvokeOrder.get(3)).ifPresent(methods ->
                     methods.forEach(method -> populateForMethod(builderObject, method, classCarrier, populator)));
             Method buildMethod = builderObject.getClass().getDeclaredMethod(populateConfig.getBuildMethod());
-            setAccessible(buildMethod, builderObject);
-            return (T) buildMethod.invoke(builderObject);
+            return (T) Invoker.of(buildMethod, true).invoke(builderObject);
         } catch (Exception e) {
             throw new PopulateException(format(FAILED_TO_CREATE_OBJECT, clazz.getName(), format(STRATEGY_WITH_PATTERN, BUILDER, LOMBOK)), e);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private <T> T populateUsingImmutablesBuilder(ClassCarrier<T> classCarrier, Populator populator) {
+    private <T> T populateUsingImmutablesBuilder(ClassCarrier<T> classCarrier, Populator populator, PopulatePlan populatePlan) {
         PopulateConfig populateConfig = classCarrier.getPopulateConfig();
         try {
-            Class<?> immutablesGeneratedClass = getImmutablesGeneratedClass(classCarrier.getClazz());
-            Object builderObject = immutablesGeneratedClass.getDeclaredMethod(populateConfig.getBuilderMethod()).invoke(null);
+            Method builderMethod = getBuilderMethod(classCarrier.getClazz(), populateConfig, populatePlan);
+            Class<?> immutablesGeneratedClass = builderMethod.getDeclaringClass();
+            Object builderObject = Invoker.of(builderMethod).invoke(null);
             List<Method> builderObjectMethods = getMethodsForImmutablesBuilder(immutablesGeneratedClass, builderObject, populateConfig.getBlacklistedMethods());
             classCarrier.getObjectFactory().builder(immutablesGeneratedClass, builderObjectMethods.size(), populateConfig.getBuilderMethod(), populateConfig.getBuildMethod());
             builderObjectMethods.forEach(method -> populateForMethod(builderObject, method, classCarrier, populator));
             Method buildMethod = builderObject.getClass().getDeclaredMethod(populateConfig.getBuildMethod());
-            return (T) buildMethod.invoke(builderObject);
+            return (T) Invoker.of(buildMethod).invoke(builderObject);
         } catch (Exception e) {
             throw new PopulateException(format(FAILED_TO_CREATE_OBJECT, classCarrier.getClazz().getName(), format(STRATEGY_WITH_PATTERN, BUILDER, IMMUTABLES)), e);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private <T> T populateUsingCustomBuilder(ClassCarrier<T> classCarrier, Populator populator) {
+    private <T> T populateUsingCustomBuilder(ClassCarrier<T> classCarrier, Populator populator, PopulatePlan populatePlan) {
         Class<T> clazz = classCarrier.getClazz();
         PopulateConfig populateConfig = classCarrier.getPopulateConfig();
         try {
-            Object builderObject = clazz.getDeclaredMethod(populateConfig.getBuilderMethod()).invoke(null);
+            Object builderObject = Invoker.of(getBuilderMethod(clazz, populateConfig, populatePlan)).invoke(null);
             List<Method> builderObjectMethods = getMethodsForCustomBuilder(builderObject.getClass(), populateConfig.getBlacklistedMethods());
             classCarrier.getObjectFactory().builder(clazz, builderObjectMethods.size(), populateConfig.getBuilderMethod(), populateConfig.getBuildMethod());
             builderObjectMethods.forEach(method -> populateForMethod(builderObject, method, classCarrier, populator));
             Method buildMethod = builderObject.getClass().getDeclaredMethod(populateConfig.getBuildMethod());
-            return (T) buildMethod.invoke(builderObject);
+            return (T) Invoker.of(buildMethod).invoke(builderObject);
         } catch (Exception e) {
             throw new PopulateException(format(FAILED_TO_CREATE_OBJECT, clazz.getName(), format(STRATEGY_WITH_PATTERN, BUILDER, CUSTOM)), e);
         }
     }
 
     @SuppressWarnings("unchecked")
-    private <T> T populateUsingProtobufBuilder(ClassCarrier<T> classCarrier, Populator populator) {
+    private <T> T populateUsingProtobufBuilder(ClassCarrier<T> classCarrier, Populator populator, PopulatePlan populatePlan) {
         Class<T> clazz = classCarrier.getClazz();
         PopulateConfig populateConfig = classCarrier.getPopulateConfig();
         try {
-            Object builderObject = clazz.getDeclaredMethod(populateConfig.getBuilderMethod()).invoke(null);
+            Object builderObject = Invoker.of(getBuilderMethod(clazz, populateConfig, populatePlan)).invoke(null);
             List<Method> builderObjectMethods = getMethodsForProtobufBuilder(builderObject.getClass(), populateConfig.getBlacklistedMethods());
             classCarrier.getObjectFactory().builder(clazz, builderObjectMethods.size(), populateConfig.getBuilderMethod(), populateConfig.getBuildMethod());
             builderObjectMethods.forEach(method -> populateForMethod(builderObject, method, classCarrier, populator));
             Method buildMethod = builderObject.getClass().getDeclaredMethod(populateConfig.getBuildMethod());
-            return (T) buildMethod.invoke(builderObject);
+            return (T) Invoker.of(buildMethod).invoke(builderObject);
         } catch (Exception e) {
             throw new PopulateException(format(FAILED_TO_CREATE_OBJECT, classCarrier.getClazz().getName(), format(STRATEGY_WITH_PATTERN, BUILDER, PROTOBUF)), e);
         }
     }
+
+    private static <T> Method getBuilderMethod(Class<T> clazz, PopulateConfig populateConfig, PopulatePlan populatePlan) throws NoSuchMethodException {
+        if (populatePlan.getMethod() != null) {
+            return populatePlan.getMethod();
+        }
+        return BuilderUtil.getBuilderMethod(clazz, populateConfig.getBuilderPattern(), populateConfig.getBuilderMethod());
+    }
 }
@@ -11,18 +11,24 @@ import java.lang.reflect.Type;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
 
+import static com.github.anhem.testpopulator.internal.populate.Populator.NO_SIZE;
 import static com.github.anhem.testpopulator.internal.populate.PopulatorExceptionMessages.FAILED_TO_CREATE_COLLECTION;
+import static com.github.anhem.testpopulator.internal.populate.PopulatorExceptionMessages.FAILED_TO_POPULATE_DISTINCT_ELEMENTS;
 import static com.github.anhem.testpopulator.internal.populate.PopulatorExceptionMessages.MISSING_COLLECTION_TYPE;
 import static com.github.anhem.testpopulator.internal.util.PopulateUtil.*;
 import static java.lang.String.format;
 
 public class CollectionPopulator implements PopulatingStrategy {
 
+    private static final int MIN_DUPLICATES = 100;
+
     @Override
     public <T> T populate(ClassCarrier<T> classCarrier, Populator populator) {
         return doPopulate((CollectionCarrier<T>) classCarrier, populator);
@@ -61,23 +67,27 @@ public class CollectionPopulator implements PopulatingStrategy {
     @SuppressWarnings("unchecked")
     private <T> T populateForMap(CollectionCarrier<T> classCarrier, Populator populator) throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
         Class<T> clazz = classCarrier.getClazz();
+        int size = populator.createSize(classCarrier);
         if (isEnumMap(clazz)) {
             Class<?> enumClass = (Class<?>) classCarrier.getArgumentTypes().get(0);
             if (enumClass.isEnum()) {
-                classCarrier.getObjectFactory().enumMap(clazz, enumClass);
-                return (T) populateMap(classCarrier, populator, createEnumMap(enumClass));
+                classCarrier.getObjectFactory().enumMap(clazz, enumClass, orSingle(size));
+                return (T) populateMap(classCarrier, populator, createEnumMap(enumClass), size);
             }
         }
         if (classCarrier.hasConstructors()) {
-            classCarrier.getObjectFactory().map(clazz);
-            Map<Object, Object> map = (Map<Object, Object>) clazz.getConstructor().newInstance();
-            return (T) populateMap(classCarrier, populator, map);
+            classCarrier.getObjectFactory().map(clazz, orSingle(size));
+            Map<Object, Object> map = (Map<Object, Object>) newInstance(clazz, size);
+            return (T) populateMap(classCarrier, populator, map, size);
         } else if (isConcurrentMap(clazz) || isConcurrentNavigableMap(clazz)) {
-            classCarrier.getObjectFactory().map(ConcurrentSkipListMap.class);
-            return (T) populateMap(classCarrier, populator, new ConcurrentSkipListMap<>());
+            classCarrier.getObjectFactory().map(ConcurrentSkipListMap.class, orSingle(size));
+            return (T) populateMap(classCarrier, populator, new ConcurrentSkipListMap<>(), size);
         } else if (isSortedMap(clazz) || isNavigableMap(clazz)) {
-            classCarrier.getObjectFactory().map(TreeMap.class);
-            return (T) populateMap(classCarrier, populator, new TreeMap<>());
+            classCarrier.getObjectFactory().map(TreeMap.class, orSingle(size));
+            return (T) populateMap(classCarrier, populator, new TreeMap<>(), size);
+        } else if (size != NO_SIZE) {
+            classCarrier.getObjectFactory().map(clazz, size);
+            return (T) populateMap(classCarrier, populator, new HashMap<>(toCapacity(size)), size);
         } else {
             classCarrier.getObjectFactory().mapOf();
             Optional<Object> key = Optional.ofNullable(continuePopulateWithType(classCarrier.toTypeCarrier(classCarrier.getArgumentTypes().get(0)), populator));
@@ -92,20 +102,24 @@ public class CollectionPopulator implements PopulatingStrategy {
     @SuppressWarnings("unchecked")
     private <T> T populateForSet(CollectionCarrier<T> classCarrier, Populator populator) throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
         Class<T> clazz = classCarrier.getClazz();
+        int size = populator.createSize(classCarrier);
         if (isEnumSet(clazz)) {
             Class<?> enumClass = (Class<?>) classCarrier.getArgumentTypes().get(0);
             if (enumClass.isEnum()) {
-                classCarrier.getObjectFactory().enumSet(clazz, enumClass);
-                return (T) populateCollection(classCarrier, populator, createEnumSet(enumClass));
+                classCarrier.getObjectFactory().enumSet(clazz, enumClass, orSingle(size));
+                return (T) populateSet(classCarrier, populator, createEnumSet(enumClass), size);
             }
         }
         if (classCarrier.hasConstructors()) {
-            classCarrier.getObjectFactory().set(clazz);
-            Set<Object> set = (Set<Object>) clazz.getConstructor().newInstance();
-            return (T) populateCollection(classCarrier, populator, set);
+            classCarrier.getObjectFactory().set(clazz, orSingle(size));
+            Set<Object> set = (Set<Object>) newInstance(clazz, size);
+            return (T) populateSet(classCarrier, populator, set, size);
         } else if (isSortedSet(clazz) || isNavigableSet(clazz)) {
-            classCarrier.getObjectFactory().set(TreeSet.class);
-            return (T) populateCollection(classCarrier, populator, new TreeSet<>());
+            classCarrier.getObjectFactory().set(TreeSet.class, orSingle(size));
+            return (T) populateSet(classCarrier, populator, new TreeSet<>(), size);
+        } else if (size != NO_SIZE) {
+            classCarrier.getObjectFactory().set(clazz, size);
+            return (T) populateSet(classCarrier, populator, new HashSet<>(toCapacity(size)), size);
         } else {
             classCarrier.getObjectFactory().setOf();
             return Optional.ofNullable(continuePopulateWithType(classCarrier.toTypeCarrier(classCarrier.getArgumentTypes().get(0)), populator))
@@ -125,13 +139,17 @@ public class CollectionPopulator implements PopulatingStrategy {
     @SuppressWarnings("unchecked")
     private <T> T populateForCollection(CollectionCarrier<T> classCarrier, Populator populator) throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
         Class<T> clazz = classCarrier.getClazz();
+        int size = populator.createSize(classCarrier);
         if (classCarrier.hasConstructors()) {
-            classCarrier.getObjectFactory().list(clazz);
-            Collection<Object> collection = (Collection<Object>) clazz.getConstructor().newInstance();
-            return (T) populateCollection(classCarrier, populator, collection);
+            classCarrier.getObjectFactory().list(clazz, orSingle(size));
+            Collection<Object> collection = (Collection<Object>) newInstance(clazz, size);
+            return (T) populateCollection(classCarrier, populator, collection, size);
         } else if (isDeque(clazz) || isQueue(clazz)) {
-            classCarrier.getObjectFactory().list(LinkedList.class);
-            return (T) populateCollection(classCarrier, populator, new LinkedList<>());
+            classCarrier.getObjectFactory().list(LinkedList.class, orSingle(size));
+            return (T) populateCollection(classCarrier, populator, new LinkedList<>(), size);
+        } else if (size != NO_SIZE) {
+            classCarrier.getObjectFactory().list(clazz, size);
+            return (T) populateCollection(classCarrier, populator, new ArrayList<>(size), size);
         } else {
             classCarrier.getObjectFactory().listOf();
             return Optional.ofNullable(continuePopulateWithType(classCarrier.toTypeCarrier(classCarrier.getArgumentTypes().get(0)), populator))
@@ -187,11 +205,29 @@ public class CollectionPopulator implements PopulatingStrategy {
         return (T) List.of(value);
     }
 
+    /**
+     * Keys and values are populated in turn, with what to populate them with resolved once for all entries. A key that
+     * is equal to an earlier one is populated again until the map has size entries, or as many as there are distinct
+     * keys, see {@link #populateSet}. An empty map still populates one entry that is dropped, so that the generated code
+     * gets the types of the map from it.
+     */
     @SuppressWarnings("unchecked")
-    private Map<Object, Object> populateMap(CollectionCarrier<?> classCarrier, Populator populator, Map map) {
-        Optional<Object> key = Optional.ofNullable(continuePopulateWithType(classCarrier.toTypeCarrier(classCarrier.getArgumentTypes().get(0)), populator));
-        Optional<Object> value = Optional.ofNullable(continuePopulateWithType(classCarrier.toTypeCarrier(classCarrier.getArgumentTypes().get(1)), populator));
-        key.ifPresent(k -> map.put(k, value.orElse(null)));
+    private Map<Object, Object> populateMap(CollectionCarrier<?> classCarrier, Populator populator, Map map, int size) {
+        ClassCarrier<Object> keyCarrier = toElementCarrier(classCarrier.toTypeCarrier(classCarrier.getArgumentTypes().get(0)));
+        IntFunction<Object> keys = populator.toDistinctElementSupplier(keyCarrier);
+        Supplier<Object> values = toElementSupplier(classCarrier.toTypeCarrier(classCarrier.getArgumentTypes().get(1)), populator);
+        int targetSize = Math.min(orSingle(size), populator.countDistinctValues(keyCarrier));
+        int populated = 0;
+        Object key;
+        do {
+            key = keys.apply(populated++);
+            Object value = values.get();
+            if (key != null && size != 0) {
+                map.put(key, value);
+            }
+            checkDuplicates(classCarrier, map.size(), populated, targetSize);
+        } while (key != null && map.size() < targetSize);
+        classCarrier.getObjectFactory().endElements();
         return map;
     }
 
@@ -205,13 +241,84 @@ public class CollectionPopulator implements PopulatingStrategy {
         return new EnumMap<>((Class<K>) enumClass);
     }
 
+    /**
+     * Elements are populated with what to populate them with resolved once for all elements. An empty collection still
+     * populates one element that is dropped, so that the generated code gets the types of the collection from it.
+     */
     @SuppressWarnings("unchecked")
-    private Collection<Object> populateCollection(CollectionCarrier<?> classCarrier, Populator populator, Collection collection) {
-        Optional.ofNullable(continuePopulateWithType(classCarrier.toTypeCarrier(classCarrier.getArgumentTypes().get(0)), populator))
-                .ifPresent(collection::add);
+    private Collection<Object> populateCollection(CollectionCarrier<?> classCarrier, Populator populator, Collection collection, int size) {
+        Supplier<Object> elements = toElementSupplier(classCarrier.toTypeCarrier(classCarrier.getArgumentTypes().get(0)), populator);
+        for (int i = Math.max(size, 1); i > 0; i--) {
+            Object element = elements.get();
+            if (element != null && size != 0) {
+                collection.add(element);
+            }
+        }
         return collection;
     }
 
+    /**
+     * Like {@link #populateCollection}, but an element that is equal to an earlier one is populated again until the set
+     * has size elements. Values are derived from the number of elements populated before them, so that they differ
+     * even when values repeat. Sets of value types with fewer distinct values than size, e.g. Boolean or enums, get all
+     * of them instead. Population stops early at an element that can not be populated, e.g. one that refers back to an
+     * object being populated.
+     */
+    @SuppressWarnings("unchecked")
+    private Set<Object> populateSet(CollectionCarrier<?> classCarrier, Populator populator, Set set, int size) {
+        ClassCarrier<Object> elementCarrier = toElementCarrier(classCarrier.toTypeCarrier(classCarrier.getArgumentTypes().get(0)));
+        IntFunction<Object> elements = populator.toDistinctElementSupplier(elementCarrier);
+        int targetSize = Math.min(orSingle(size), populator.countDistinctValues(elementCarrier));
+        int populated = 0;
+        Object element;
+        do {
+            element = elements.apply(populated++);
+            if (element != null && size != 0) {
+                set.add(element);
+            }
+            checkDuplicates(classCarrier, set.size(), populated, targetSize);
+        } while (element != null && set.size() < targetSize);
+        classCarrier.getObjectFactory().endElements();
+        return set;
+    }
+
+    /**
+     * Gives up on a set or map once more elements have been equal to earlier ones than it is supposed to have, or than
+     * {@link #MIN_DUPLICATES}, whichever is more
+     */
+    private static void checkDuplicates(CollectionCarrier<?> classCarrier, int distinct, int populated, int size) {
+        if (populated - distinct > Math.max(size, MIN_DUPLICATES)) {
+            throw new PopulateException(format(FAILED_TO_POPULATE_DISTINCT_ELEMENTS, size, classCarrier.getClazz().getTypeName(), distinct, populated));
+        }
+    }
+
+    /**
+     * Collections and maps of the most common classes get room for all their elements up front.
+     */
+    private static Object newInstance(Class<?> clazz, int size) throws NoSuchMethodException, InvocationTargetException, InstantiationException, IllegalAccessException {
+        if (size > 1) {
+            if (clazz.equals(ArrayList.class)) {
+                return new ArrayList<>(size);
+            } else if (clazz.equals(HashSet.class)) {
+                return new HashSet<>(toCapacity(size));
+            } else if (clazz.equals(HashMap.class)) {
+                return new HashMap<>(toCapacity(size));
+            }
+        }
+        return clazz.getConstructor().newInstance();
+    }
+
+    /**
+     * @return initial capacity of a hash based collection that holds size elements without being resized
+     */
+    private static int toCapacity(int size) {
+        return (int) (size / 0.75f) + 1;
+    }
+
+    private static int orSingle(int size) {
+        return size == NO_SIZE ? 1 : size;
+    }
+
     @SuppressWarnings("unchecked")
     private <T> T populateForOptional(CollectionCarrier<T> classCarrier, Populator populator) {
         classCarrier.getObjectFactory().optional();
@@ -219,11 +326,19 @@ public class CollectionPopulator implements PopulatingStrategy {
     }
 
     private Object continuePopulateWithType(TypeCarrier typeCarrier, Populator populator) {
+        return populator.populate(toElementCarrier(typeCarrier));
+    }
+
+    private Supplier<Object> toElementSupplier(TypeCarrier typeCarrier, Populator populator) {
+        return populator.toElementSupplier(toElementCarrier(typeCarrier));
+    }
+
+    private ClassCarrier<Object> toElementCarrier(TypeCarrier typeCarrier) {
         Type type = typeCarrier.getType();
         if (type instanceof ParameterizedType) {
             ParameterizedType parameterizedType = (ParameterizedType) type;
-            return populator.populate(typeCarrier.toCollectionCarrier(parameterizedType.getRawType(), parameterizedType.getActualTypeArguments()));
+            return typeCarrier.toCollectionCarrier(parameterizedType.getRawType(), parameterizedType.getActualTypeArguments());
         }
-        return populator.populate(typeCarrier.toClassCarrier(type));
+        return typeCarrier.toClassCarrier(type);
     }
 }
@@ -3,15 +3,16 @@ package com.github.anhem.testpopulator.internal.populate;
 import com.github.anhem.testpopulator.config.PopulateConfig;
 import com.github.anhem.testpopulator.exception.PopulateException;
 import com.github.anhem.testpopulator.internal.carrier.ClassCarrier;
+import com.github.anhem.testpopulator.internal.util.Invoker;
 
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Parameter;
 import java.util.Arrays;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static com.github.anhem.testpopulator.config.Strategy.CONSTRUCTOR;
+import static com.github.anhem.testpopulator.internal.populate.PopulatePlan.EMPTY_POPULATE_PLAN;
 import static com.github.anhem.testpopulator.internal.populate.PopulatorExceptionMessages.FAILED_TO_CREATE_OBJECT;
 import static com.github.anhem.testpopulator.internal.util.KotlinUtil.isKotlinConstructor;
 import static com.github.anhem.testpopulator.internal.util.PopulateUtil.*;
@@ -21,24 +22,29 @@ public class ConstructorPopulator implements PopulatingStrategy {
 
     @Override
     public <T> T populate(ClassCarrier<T> classCarrier, Populator populator) {
+        return populate(classCarrier, populator, EMPTY_POPULATE_PLAN);
+    }
+
+    @Override
+    public <T> T populate(ClassCarrier<T> classCarrier, Populator populator, PopulatePlan populatePlan) {
         Class<T> clazz = classCarrier.getClazz();
         PopulateConfig populateConfig = classCarrier.getPopulateConfig();
         try {
-            Constructor<T> constructor = getLargestConstructor(clazz, populateConfig.isAccessNonPublicConstructors());
-            setAccessible(constructor, populateConfig.isAccessNonPublicConstructors());
+            Constructor<T> constructor = populatePlan.getConstructor() != null ? populatePlan.getConstructor() : getLargestConstructor(clazz, populateConfig.isAccessNonPublicConstructors());
             return populateUsingConstructor(constructor, classCarrier, populator);
         } catch (Exception e) {
             throw new PopulateException(format(FAILED_TO_CREATE_OBJECT, clazz.getName(), CONSTRUCTOR), e);
         }
     }
 
-    protected <T> T populateUsingConstructor(Constructor<T> constructor, ClassCarrier<T> classCarrier, Populator populator) throws InstantiationException, IllegalAccessException, InvocationTargetException {
+    @SuppressWarnings("unchecked")
+    protected <T> T populateUsingConstructor(Constructor<T> constructor, ClassCarrier<T> classCarrier, Populator populator) throws ReflectiveOperationException {
         int parameterCount = constructor.getParameterCount();
         classCarrier.getObjectFactory().constructor(classCarrier.getClazz(), parameterCount);
         Object[] arguments = isKotlinConstructor(constructor, classCarrier.getPopulateConfig().isKotlinSupport()) ?
                 populateKotlinArguments(constructor, classCarrier, populator) :
                 populateArguments(constructor, classCarrier, populator, parameterCount);
-        return constructor.newInstance(arguments);
+        return (T) Invoker.of(constructor, classCarrier.getPopulateConfig().isAccessNonPublicConstructors()).invoke(null, arguments);
     }
 
 
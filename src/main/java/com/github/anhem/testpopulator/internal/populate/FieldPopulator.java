@@ -4,12 +4,18 @@ import com.github.anhem.testpopulator.config.PopulateConfig;
 import com.github.anhem.testpopulator.exception.PopulateException;
 import com.github.anhem.testpopulator.internal.carrier.ClassCarrier;
 import com.github.anhem.testpopulator.internal.carrier.CollectionCarrier;
+import com.github.anhem.testpopulator.internal.util.Invoker;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.github.anhem.testpopulator.config.Strategy.FIELD;
+import static com.github.anhem.testpopulator.internal.populate.PopulatePlan.EMPTY_POPULATE_PLAN;
 import static com.github.anhem.testpopulator.internal.populate.PopulatorExceptionMessages.FAILED_TO_CREATE_OBJECT;
 import static com.github.anhem.testpopulator.internal.populate.PopulatorExceptionMessages.FAILED_TO_SET_FIELD;
 import static com.github.anhem.testpopulator.internal.util.KotlinUtil.isKotlinDelegate;
@@ -20,35 +26,46 @@ public class FieldPopulator implements PopulatingStrategy {
 
     @Override
     public <T> T populate(ClassCarrier<T> classCarrier, Populator populator) {
+        return populate(classCarrier, populator, EMPTY_POPULATE_PLAN);
+    }
+
+    @Override
+    public <T> T populate(ClassCarrier<T> classCarrier, Populator populator, PopulatePlan populatePlan) {
         Class<T> clazz = classCarrier.getClazz();
         PopulateConfig populateConfig = classCarrier.getPopulateConfig();
         try {
-            Constructor<T> constructor = clazz.getDeclaredConstructor();
-            setAccessible(constructor, populateConfig.isAccessNonPublicConstructors());
-            T objectOfClass = constructor.newInstance();
-            getDeclaredFields(clazz, populateConfig.getBlacklistedFields()).stream()
-                    .filter(field -> !Modifier.isFinal(field.getModifiers()))
-                    .filter(field -> !isKotlinDelegate(field, populateConfig.isKotlinSupport()))
-                    .forEach(field -> {
-                        try {
-                            setAccessible(field, objectOfClass);
-                            if (isCollectionLike(field.getType())) {
-                                CollectionCarrier<Object> collectionCarrier = classCarrier.toCollectionCarrier(
-                                        field.getType(),
-                                        field.getName(),
-                                        toArgumentTypes(field.getGenericType(), field.getType()).toArray(new Type[0])
-                                );
-                                field.set(objectOfClass, populator.populate(collectionCarrier));
-                            } else {
-                                field.set(objectOfClass, populator.populate(classCarrier.toClassCarrier(field.getType(), field.getName())));
-                            }
-                        } catch (Exception e) {
-                            throw new PopulateException(format(FAILED_TO_SET_FIELD, field.getName(), objectOfClass.getClass().getName()), e);
+            Constructor<T> constructor = populatePlan.getConstructor() != null ? populatePlan.getConstructor() : clazz.getDeclaredConstructor();
+            T objectOfClass = newInstance(constructor, populateConfig.isAccessNonPublicConstructors());
+            List<Field> fields = populatePlan.getFields() != null ? populatePlan.getFields() : getFields(clazz, populateConfig.getBlacklistedFields(), populateConfig.isKotlinSupport());
+            fields.forEach(field -> {
+                try {
+                    if (isCollectionLike(field.getType())) {
+                        CollectionCarrier<Object> collectionCarrier = classCarrier.toCollectionCarrier(
+                                field.getType(),
+                                field.getName(),
+                                toArgumentTypes(field.getGenericType(), field.getType()).toArray(new Type[0])
+                        );
+                        Invoker.of(field).invoke(objectOfClass, populator.populate(collectionCarrier));
+                    } else {
+                        ClassCarrier<?> fieldCarrier = classCarrier.toClassCarrier(field.getType(), field.getName());
+                        if (!populator.populatePrimitive(fieldCarrier, objectOfClass, Invoker.of(field))) {
+                            Invoker.of(field).invoke(objectOfClass, populator.populate(fieldCarrier));
                         }
-                    });
+                    }
+                } catch (Exception e) {
+                    throw new PopulateException(format(FAILED_TO_SET_FIELD, field.getName(), objectOfClass.getClass().getName()), e);
+                }
+            });
             return objectOfClass;
         } catch (Exception e) {
             throw new PopulateException(format(FAILED_TO_CREATE_OBJECT, clazz.getName(), FIELD), e);
         }
     }
+
+    static <T> List<Field> getFields(Class<T> clazz, Set<String> blacklistedFields, boolean kotlinSupport) {
+        return getDeclaredFields(clazz, blacklistedFields).stream()
+                .filter(field -> !Modifier.isFinal(field.getModifiers()))
+                .filter(field -> !isKotlinDelegate(field, kotlinSupport))
+                .collect(Collectors.toList());
+    }
 }
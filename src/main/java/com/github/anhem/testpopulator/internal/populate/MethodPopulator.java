@@ -2,6 +2,7 @@ package com.github.anhem.testpopulator.internal.populate;
 
 import com.github.anhem.testpopulator.exception.PopulateException;
 import com.github.anhem.testpopulator.internal.carrier.ClassCarrier;
+import com.github.anhem.testpopulator.internal.util.Invoker;
 
 import java.lang.reflect.Method;
 import java.util.stream.Stream;
@@ -18,6 +19,9 @@ public abstract class MethodPopulator {
         String methodName = method.getName();
         try {
             classCarrier.getObjectFactory().method(methodName, method.getParameters().length);
+            if (hasOnePrimitiveParameter(method) && populator.populatePrimitive(classCarrier.toClassCarrier(method.getParameters()[0], methodName), objectOfClass, Invoker.of(method))) {
+                return;
+            }
             Object[] args = Stream.of(method.getParameters())
                     .map(parameter -> {
                         if (isProtobufByteString(parameter, classCarrier.getPopulateConfig())) {
@@ -32,9 +36,13 @@ public abstract class MethodPopulator {
             if (isProtobufAndHasNullArgument(classCarrier.getPopulateConfig(), args)) {
                 return;
             }
-            method.invoke(objectOfClass, args);
+            Invoker.of(method).invoke(objectOfClass, args);
         } catch (Exception e) {
             throw new PopulateException(format(FAILED_TO_CALL_METHOD, methodName, objectOfClass.getClass().getName()), e);
         }
     }
+
+    private static boolean hasOnePrimitiveParameter(Method method) {
+        return method.getParameterCount() == 1 && method.getParameterTypes()[0].isPrimitive();
+    }
 }
@@ -9,10 +9,11 @@ import java.lang.reflect.Method;
 import java.util.List;
 
 import static com.github.anhem.testpopulator.config.Strategy.MUTATOR;
+import static com.github.anhem.testpopulator.internal.populate.PopulatePlan.EMPTY_POPULATE_PLAN;
 import static com.github.anhem.testpopulator.internal.populate.PopulatorExceptionMessages.FAILED_TO_CREATE_OBJECT;
 import static com.github.anhem.testpopulator.internal.util.MutatorUtil.getConstructor;
 import static com.github.anhem.testpopulator.internal.util.MutatorUtil.getMutatorMethods;
-import static com.github.anhem.testpopulator.internal.util.PopulateUtil.setAccessible;
+import static com.github.anhem.testpopulator.internal.util.PopulateUtil.newInstance;
 import static java.lang.String.format;
 
 public class MutatorPopulator extends MethodPopulator implements PopulatingStrategy {
@@ -25,19 +26,23 @@ public class MutatorPopulator extends MethodPopulator implements PopulatingStrat
 
     @Override
     public <T> T populate(ClassCarrier<T> classCarrier, Populator populator) {
+        return populate(classCarrier, populator, EMPTY_POPULATE_PLAN);
+    }
+
+    @Override
+    public <T> T populate(ClassCarrier<T> classCarrier, Populator populator, PopulatePlan populatePlan) {
         Class<T> clazz = classCarrier.getClazz();
         PopulateConfig populateConfig = classCarrier.getPopulateConfig();
         try {
-            Constructor<T> constructor = getConstructor(clazz, populateConfig.isAccessNonPublicConstructors(), populateConfig.getConstructorType());
-            setAccessible(constructor, populateConfig.isAccessNonPublicConstructors());
+            Constructor<T> constructor = populatePlan.getConstructor() != null ? populatePlan.getConstructor() : getConstructor(clazz, populateConfig.isAccessNonPublicConstructors(), populateConfig.getConstructorType());
             T objectOfClass;
-            List<Method> methods = getMutatorMethods(clazz, populateConfig.getBlacklistedMethods());
+            List<Method> methods = populatePlan.getMethods() != null ? populatePlan.getMethods() : getMutatorMethods(clazz, populateConfig.getBlacklistedMethods());
             if (constructor.getParameterCount() > 0) {
                 objectOfClass = constructorPopulator.populateUsingConstructor(constructor, classCarrier, populator);
                 classCarrier.getObjectFactory().mutator(clazz, methods.size());
                 methods.forEach(method -> populateForMethod(objectOfClass, method, classCarrier, populator));
             } else {
-                objectOfClass = constructor.newInstance();
+                objectOfClass = newInstance(constructor, populateConfig.isAccessNonPublicConstructors());
                 classCarrier.getObjectFactory().setter(clazz, methods.size());
                 methods.forEach(method -> populateForMethod(objectOfClass, method, classCarrier, populator));
             }
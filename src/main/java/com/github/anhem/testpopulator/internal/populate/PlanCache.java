@@ -0,0 +1,56 @@
+package com.github.anhem.testpopulator.internal.populate;
+
+import com.github.anhem.testpopulator.config.PopulateConfig;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches one {@link PopulatePlan} per class for each {@link PlanKey}. Plans are stored using {@link ClassValue} so
+ * they are dropped together with the class they belong to. With persistent plans enabled, plans are also loaded from
+ * and stored to a {@link PlanStore}, which keeps them between runs.
+ */
+public class PlanCache {
+
+    private static final Map<PlanKey, PlanCache> PLAN_CACHES = new ConcurrentHashMap<>();
+    private static final Map<PlanStore, Map<PlanKey, PlanCache>> PERSISTENT_PLAN_CACHES = new ConcurrentHashMap<>();
+
+    private final PlanKey planKey;
+    private final ClassValue<PopulatePlan> populatePlans;
+
+    private PlanCache(PlanKey planKey, PlanStore planStore) {
+        this.planKey = planKey;
+        this.populatePlans = new ClassValue<>() {
+            @Override
+            protected PopulatePlan computeValue(Class<?> clazz) {
+                if (planStore == null) {
+                    return Populator.resolvePlan(clazz, planKey);
+                }
+                PopulatePlan populatePlan = planStore.load(clazz, planKey);
+                if (populatePlan == null) {
+                    populatePlan = Populator.resolvePlan(clazz, planKey);
+                    planStore.store(clazz, planKey, populatePlan);
+                }
+                return populatePlan;
+            }
+        };
+    }
+
+    public static PlanCache getPlanCache(PopulateConfig populateConfig) {
+        PlanKey planKey = PlanKey.of(populateConfig);
+        if (!populateConfig.isPersistentPlansEnabled()) {
+            return PLAN_CACHES.computeIfAbsent(planKey, key -> new PlanCache(key, null));
+        }
+        PlanStore planStore = PlanStore.of(populateConfig.getPersistentPlansPath());
+        return PERSISTENT_PLAN_CACHES.computeIfAbsent(planStore, store -> new ConcurrentHashMap<>())
+                .computeIfAbsent(planKey, key -> new PlanCache(key, planStore));
+    }
+
+    public PopulatePlan getPopulatePlan(Class<?> clazz) {
+        return populatePlans.get(clazz);
+    }
+
+    public PlanKey getPlanKey() {
+        return planKey;
+    }
+}
@@ -0,0 +1,124 @@
+package com.github.anhem.testpopulator.internal.populate;
+
+import com.github.anhem.testpopulator.config.*;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * The parts of {@link PopulateConfig} that decide how a class is populated. Configurations that only differ in
+ * other properties (random values, overrides, object factory etc.) share the same key and therefore the same plans.
+ */
+public class PlanKey {
+
+    private final List<Strategy> strategyOrder;
+    private final Set<String> blacklistedMethods;
+    private final Set<String> blacklistedFields;
+    private final Set<String> setterPrefixes;
+    private final BuilderPattern builderPattern;
+    private final String builderMethod;
+    private final boolean accessNonPublicConstructors;
+    private final ConstructorType constructorType;
+    private final MethodType methodType;
+    private final boolean kotlinSupport;
+    private final int hashCode;
+
+    private PlanKey(PopulateConfig populateConfig) {
+        this.strategyOrder = List.copyOf(populateConfig.getStrategyOrder());
+        this.blacklistedMethods = Set.copyOf(populateConfig.getBlacklistedMethods());
+        this.blacklistedFields = Set.copyOf(populateConfig.getBlacklistedFields());
+        this.setterPrefixes = Set.copyOf(populateConfig.getSetterPrefixes());
+        this.builderPattern = populateConfig.getBuilderPattern();
+        this.builderMethod = populateConfig.getBuilderMethod();
+        this.accessNonPublicConstructors = populateConfig.isAccessNonPublicConstructors();
+        this.constructorType = populateConfig.getConstructorType();
+        this.methodType = populateConfig.getMethodType();
+        this.kotlinSupport = populateConfig.isKotlinSupport();
+        this.hashCode = Objects.hash(strategyOrder, blacklistedMethods, blacklistedFields, setterPrefixes, builderPattern, builderMethod, accessNonPublicConstructors, constructorType, methodType, kotlinSupport);
+    }
+
+    public static PlanKey of(PopulateConfig populateConfig) {
+        return new PlanKey(populateConfig);
+    }
+
+    public List<Strategy> getStrategyOrder() {
+        return strategyOrder;
+    }
+
+    public Set<String> getBlacklistedMethods() {
+        return blacklistedMethods;
+    }
+
+    public Set<String> getBlacklistedFields() {
+        return blacklistedFields;
+    }
+
+    public Set<String> getSetterPrefixes() {
+        return setterPrefixes;
+    }
+
+    public BuilderPattern getBuilderPattern() {
+        return builderPattern;
+    }
+
+    public String getBuilderMethod() {
+        return builderMethod;
+    }
+
+    public boolean isAccessNonPublicConstructors() {
+        return accessNonPublicConstructors;
+    }
+
+    public ConstructorType getConstructorType() {
+        return constructorType;
+    }
+
+    public MethodType getMethodType() {
+        return methodType;
+    }
+
+    public boolean isKotlinSupport() {
+        return kotlinSupport;
+    }
+
+    /**
+     * @return the same string for equal keys in every JVM, unlike {@link #hashCode()}
+     */
+    public String toFingerprint() {
+        return String.join("|",
+                strategyOrder.toString(),
+                new TreeSet<>(blacklistedMethods).toString(),
+                new TreeSet<>(blacklistedFields).toString(),
+                new TreeSet<>(setterPrefixes).toString(),
+                String.valueOf(builderPattern),
+                String.valueOf(builderMethod),
+                String.valueOf(accessNonPublicConstructors),
+                String.valueOf(constructorType),
+                String.valueOf(methodType),
+                String.valueOf(kotlinSupport));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        PlanKey planKey = (PlanKey) o;
+        return accessNonPublicConstructors == planKey.accessNonPublicConstructors &&
+                kotlinSupport == planKey.kotlinSupport &&
+                strategyOrder.equals(planKey.strategyOrder) &&
+                blacklistedMethods.equals(planKey.blacklistedMethods) &&
+                blacklistedFields.equals(planKey.blacklistedFields) &&
+                setterPrefixes.equals(planKey.setterPrefixes) &&
+                builderPattern == planKey.builderPattern &&
+                Objects.equals(builderMethod, planKey.builderMethod) &&
+                constructorType == planKey.constructorType &&
+                methodType == planKey.methodType;
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
@@ -0,0 +1,269 @@
+package com.github.anhem.testpopulator.internal.populate;
+
+import com.github.anhem.testpopulator.PopulateFactory;
+import com.github.anhem.testpopulator.config.Strategy;
+import com.github.anhem.testpopulator.internal.util.FileWriterUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.github.anhem.testpopulator.internal.util.ClassFileUtil.*;
+import static com.github.anhem.testpopulator.internal.util.PopulateUtil.isJavaBaseClass;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+
+/**
+ * Plans kept in a plan cache file between runs, so that a new JVM loads the plans of unchanged classes instead of
+ * resolving them again. An entry holds the strategy of a plan and the signatures of its members, keyed by class name
+ * and the fingerprint of the {@link PlanKey}. It is only loaded while the class files of the class, its supertypes and
+ * its nested classes are the same as when it was stored, and the members are then looked up by signature.
+ * <p>
+ * Only plans of strategies and unsupported classes are stored, the other type categories are cheap to resolve. New
+ * entries are appended to the file, which is compacted the next time it is read. Failing to read or write the file
+ * only means that plans are resolved again.
+ */
+class PlanStore {
+
+    static final String PLANS_FILE_NAME = ".test-populator-plans";
+    private static final String SEPARATOR = "\t";
+    private static final String LIST_SEPARATOR = " ";
+    private static final String PARAMETER_SEPARATOR = ",";
+    private static final String MEMBER_SEPARATOR = "#";
+    private static final String NONE = "-";
+    private static final int COLUMNS = 9;
+    private static final Map<Path, PlanStore> PLAN_STORES = new ConcurrentHashMap<>();
+    private static final Map<String, Class<?>> PRIMITIVES = Stream.of(boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class, void.class)
+            .collect(Collectors.toMap(Class::getName, clazz -> clazz));
+    private static final ClassValue<String> CLASS_HASHES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> clazz) {
+            return toClassHash(clazz);
+        }
+    };
+
+    private final Path path;
+    private final Map<String, String> entries;
+    private final Map<PlanKey, String> fingerprints = new ConcurrentHashMap<>();
+
+    PlanStore(Path path) {
+        this.path = path;
+        this.entries = read(path);
+    }
+
+    static PlanStore of(String directory) {
+        return PLAN_STORES.computeIfAbsent(Paths.get(directory, PLANS_FILE_NAME).toAbsolutePath().normalize(), PlanStore::new);
+    }
+
+    /**
+     * @return stored plan of clazz, or null if there is none or the class has changed since it was stored
+     */
+    PopulatePlan load(Class<?> clazz, PlanKey planKey) {
+        if (!isStorable(clazz)) {
+            return null;
+        }
+        String entry = entries.get(toKey(clazz, planKey));
+        if (entry == null) {
+            return null;
+        }
+        String[] values = entry.split(SEPARATOR, -1);
+        if (!values[0].equals(CLASS_HASHES.get(clazz))) {
+            return null;
+        }
+        try {
+            return toPopulatePlan(clazz, values);
+        } catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Remember populatePlan, unless the same plan is already stored
+     */
+    synchronized void store(Class<?> clazz, PlanKey planKey, PopulatePlan populatePlan) {
+        TypeCategory typeCategory = populatePlan.getTypeCategory();
+        if (!isStorable(clazz) || (typeCategory != TypeCategory.STRATEGY && typeCategory != TypeCategory.UNSUPPORTED)) {
+            return;
+        }
+        String classHash = CLASS_HASHES.get(clazz);
+        if (classHash.isEmpty()) {
+            return;
+        }
+        String key = toKey(clazz, planKey);
+        String entry = String.join(SEPARATOR,
+                classHash,
+                typeCategory.name(),
+                populatePlan.getStrategy() == null ? NONE : populatePlan.getStrategy().name(),
+                populatePlan.getConstructor() == null ? NONE : toParameters(populatePlan.getConstructor().getParameterTypes()),
+                populatePlan.getMethod() == null ? NONE : toSignature(populatePlan.getMethod()),
+                toSignatures(populatePlan.getMethods(), PlanStore::toSignature),
+                toSignatures(populatePlan.getFields(), PlanStore::toSignature));
+        if (!entry.equals(entries.put(key, entry))) {
+            append(key + SEPARATOR + entry + System.lineSeparator());
+        }
+    }
+
+    private static boolean isStorable(Class<?> clazz) {
+        return !clazz.isArray() && !clazz.isPrimitive() && !clazz.isAnonymousClass() && !clazz.isLocalClass() && !isJavaBaseClass(clazz);
+    }
+
+    /**
+     * The library version is part of the key, as other versions may resolve plans differently
+     */
+    private String toKey(Class<?> clazz, PlanKey planKey) {
+        return clazz.getName() + SEPARATOR + fingerprints.computeIfAbsent(planKey, key -> md5(String.join(System.lineSeparator(),
+                String.valueOf(PopulateFactory.class.getPackage().getImplementationVersion()),
+                key.toFingerprint())));
+    }
+
+    private static PopulatePlan toPopulatePlan(Class<?> clazz, String[] values) throws ReflectiveOperationException {
+        TypeCategory typeCategory = TypeCategory.valueOf(values[1]);
+        if (typeCategory == TypeCategory.UNSUPPORTED) {
+            return PopulatePlan.of(TypeCategory.UNSUPPORTED);
+        }
+        Strategy strategy = Strategy.valueOf(values[2]);
+        ClassLoader classLoader = clazz.getClassLoader();
+        Constructor<?> constructor = values[3].equals(NONE) ? null : clazz.getDeclaredConstructor(toClasses(values[3], classLoader));
+        Method method = values[4].equals(NONE) ? null : toMethod(values[4], classLoader);
+        List<Method> methods = null;
+        if (!values[5].equals(NONE)) {
+            methods = new ArrayList<>();
+            for (String signature : split(values[5], LIST_SEPARATOR)) {
+                methods.add(toMethod(signature, classLoader));
+            }
+        }
+        List<Field> fields = null;
+        if (!values[6].equals(NONE)) {
+            fields = new ArrayList<>();
+            for (String signature : split(values[6], LIST_SEPARATOR)) {
+                String[] member = signature.split(MEMBER_SEPARATOR, 2);
+                fields.add(toClass(member[0], classLoader).getDeclaredField(member[1]));
+            }
+        }
+        return new PopulatePlan(typeCategory, strategy, Populator.getPopulatingStrategy(strategy), constructor, method, methods, fields);
+    }
+
+    private static Method toMethod(String signature, ClassLoader classLoader) throws ReflectiveOperationException {
+        String[] member = signature.split(MEMBER_SEPARATOR, 2);
+        int parameters = member[1].indexOf('(');
+        return toClass(member[0], classLoader).getDeclaredMethod(member[1].substring(0, parameters),
+                toClasses(member[1].substring(parameters + 1, member[1].length() - 1), classLoader));
+    }
+
+    private static Class<?>[] toClasses(String names, ClassLoader classLoader) throws ClassNotFoundException {
+        List<String> classNames = split(names, PARAMETER_SEPARATOR);
+        Class<?>[] classes = new Class<?>[classNames.size()];
+        for (int i = 0; i < classes.length; i++) {
+            classes[i] = toClass(classNames.get(i), classLoader);
+        }
+        return classes;
+    }
+
+    private static Class<?> toClass(String name, ClassLoader classLoader) throws ClassNotFoundException {
+        Class<?> primitive = PRIMITIVES.get(name);
+        return primitive != null ? primitive : Class.forName(name, false, classLoader);
+    }
+
+    private static List<String> split(String values, String separator) {
+        return values.isEmpty() ? Collections.emptyList() : Arrays.asList(values.split(separator, -1));
+    }
+
+    private static String toSignature(Method method) {
+        return method.getDeclaringClass().getName() + MEMBER_SEPARATOR + method.getName() + "(" + toParameters(method.getParameterTypes()) + ")";
+    }
+
+    private static String toSignature(Field field) {
+        return field.getDeclaringClass().getName() + MEMBER_SEPARATOR + field.getName();
+    }
+
+    private static String toParameters(Class<?>[] parameterTypes) {
+        return Arrays.stream(parameterTypes)
+                .map(Class::getName)
+                .collect(Collectors.joining(PARAMETER_SEPARATOR));
+    }
+
+    private static <M> String toSignatures(List<M> members, Function<M, String> toSignature) {
+        return members == null ? NONE : members.stream()
+                .map(toSignature)
+                .collect(Collectors.joining(LIST_SEPARATOR));
+    }
+
+    /**
+     * Class files of clazz, its supertypes and its nested classes that are not part of the JDK, ordered by name. An
+     * empty string if any of them could not be inspected, which keeps the plan of clazz from being stored.
+     */
+    private static String toClassHash(Class<?> clazz) {
+        try {
+            Map<String, Class<?>> classes = new TreeMap<>();
+            Deque<Class<?>> remaining = new ArrayDeque<>(List.of(clazz));
+            while (!remaining.isEmpty()) {
+                Class<?> current = remaining.pop();
+                if (!isJavaBaseClass(current) && classes.putIfAbsent(current.getName(), current) == null) {
+                    Optional.ofNullable(current.getSuperclass()).ifPresent(remaining::add);
+                    remaining.addAll(List.of(current.getInterfaces()));
+                    remaining.addAll(List.of(current.getDeclaredClasses()));
+                }
+            }
+            return md5(classes.values().stream()
+                    .map(current -> current.getName() + SEPARATOR + Optional.ofNullable(getJar(current)).orElseGet(() -> toClassFileHash(current)))
+                    .collect(Collectors.joining(System.lineSeparator())));
+        } catch (LinkageError | SecurityException e) {
+            return "";
+        }
+    }
+
+    private void append(String line) {
+        try {
+            Files.createDirectories(path.getParent());
+            Files.write(path, line.getBytes(StandardCharsets.UTF_8), CREATE, APPEND);
+        } catch (IOException e) {
+            // the plan is resolved again by the next run
+        }
+    }
+
+    /**
+     * Later lines replace earlier ones for the same key, and lines that are cut short, e.g. by runs appending at the
+     * same time, are left out. Files with such lines are written back without them.
+     */
+    private static Map<String, String> read(Path path) {
+        Map<String, String> entries = new ConcurrentHashMap<>();
+        if (!Files.isRegularFile(path)) {
+            return entries;
+        }
+        try {
+            List<String> lines = Files.readAllLines(path, StandardCharsets.UTF_8);
+            lines.stream()
+                    .map(line -> line.split(SEPARATOR, 3))
+                    .filter(values -> values.length == 3 && values[2].split(SEPARATOR, -1).length == COLUMNS - 2)
+                    .forEach(values -> entries.put(values[0] + SEPARATOR + values[1], values[2]));
+            if (entries.size() < lines.size()) {
+                compact(path, entries);
+            }
+        } catch (IOException | UncheckedIOException | IllegalArgumentException e) {
+            entries.clear();
+        }
+        return entries;
+    }
+
+    private static void compact(Path path, Map<String, String> entries) {
+        try {
+            FileWriterUtil.writeIfChanged(path, entries.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(entry -> entry.getKey() + SEPARATOR + entry.getValue() + System.lineSeparator())
+                    .collect(Collectors.joining()));
+        } catch (RuntimeException e) {
+            // the file is compacted by the next run instead
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.github.anhem.testpopulator.internal.populate;
+
+import com.github.anhem.testpopulator.config.Strategy;
+import com.github.anhem.testpopulator.internal.util.Invoker;
+import com.github.anhem.testpopulator.internal.value.ValueFactory;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static com.github.anhem.testpopulator.internal.util.BuilderUtil.getMethodsForCustomBuilder;
+import static com.github.anhem.testpopulator.internal.util.ImmutablesUtil.getMethodsForImmutablesBuilder;
+import static com.github.anhem.testpopulator.internal.util.LombokUtil.getMethodsForLombokBuilderGroupedByInvokeOrder;
+import static com.github.anhem.testpopulator.internal.util.ProtobufUtil.getMethodsForProtobufBuilder;
+
+/**
+ * Walks the graph of classes reachable from some classes, resolving the {@link PopulatePlan} of every class on the way
+ * so that populating them later finds everything cached. Constructor and method parameters, fields, builder methods,
+ * array components and type arguments are followed, the same members the strategies of the plans populate. The
+ * invokers of those members are created as well.
+ * <p>
+ * The graph is walked a level at a time, with the classes of a level resolved in parallel on the given executor.
+ */
+class PlanWalker {
+
+    static final String VALUE = "VALUE";
+
+    private final PlanCache planCache;
+    private final ValueFactory valueFactory;
+
+    PlanWalker(PlanCache planCache, ValueFactory valueFactory) {
+        this.planCache = planCache;
+        this.valueFactory = valueFactory;
+    }
+
+    /**
+     * @return name of the strategy or type category of each resolved class
+     */
+    Map<Class<?>, String> walk(Collection<Class<?>> classes, Executor executor) {
+        Map<Class<?>, String> resolved = new ConcurrentHashMap<>();
+        Set<Class<?>> level = new LinkedHashSet<>(classes);
+        while (!level.isEmpty()) {
+            List<CompletableFuture<Set<Class<?>>>> references = level.stream()
+                    .filter(clazz -> resolved.putIfAbsent(clazz, VALUE) == null)
+                    .map(clazz -> CompletableFuture.supplyAsync(() -> resolve(clazz, resolved), executor))
+                    .collect(Collectors.toList());
+            level = join(references).stream()
+                    .flatMap(Set::stream)
+                    .filter(clazz -> !resolved.containsKey(clazz))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+        }
+        return resolved;
+    }
+
+    /**
+     * @return classes referenced by the members that clazz is populated through
+     */
+    private Set<Class<?>> resolve(Class<?> clazz, Map<Class<?>, String> resolved) {
+        if (valueFactory.hasType(clazz, null)) {
+            return Collections.emptySet();
+        }
+        PopulatePlan populatePlan = planCache.getPopulatePlan(clazz);
+        resolved.put(clazz, Populator.getStrategyName(populatePlan));
+        Set<Class<?>> references = new LinkedHashSet<>();
+        if (populatePlan.getTypeCategory() == TypeCategory.ARRAY) {
+            references.add(clazz.getComponentType());
+        } else if (populatePlan.getStrategy() != null) {
+            try {
+                addReferences(populatePlan, references);
+            } catch (RuntimeException e) {
+                // members that fail here fail the same way when populating, where the failure is reported
+            }
+        }
+        return references;
+    }
+
+    private void addReferences(PopulatePlan populatePlan, Set<Class<?>> references) {
+        PlanKey planKey = planCache.getPlanKey();
+        Constructor<?> constructor = populatePlan.getConstructor();
+        if (constructor != null) {
+            Invoker.of(constructor, planKey.isAccessNonPublicConstructors());
+            addTypes(constructor.getGenericParameterTypes(), references);
+        }
+        if (populatePlan.getMethods() != null) {
+            populatePlan.getMethods().forEach(method -> addMethod(method, references));
+        }
+        if (populatePlan.getFields() != null) {
+            populatePlan.getFields().forEach(field -> {
+                Invoker.of(field);
+                addType(field.getGenericType(), references);
+            });
+        }
+        Method method = populatePlan.getMethod();
+        if (method != null) {
+            Invoker.of(method);
+            if (populatePlan.getStrategy() == Strategy.BUILDER) {
+                getBuilderMethods(method).forEach(builderMethod -> addMethod(builderMethod, references));
+            } else {
+                addTypes(method.getGenericParameterTypes(), references);
+            }
+        }
+    }
+
+    private List<Method> getBuilderMethods(Method builderMethod) {
+        PlanKey planKey = planCache.getPlanKey();
+        Class<?> builderClass = builderMethod.getReturnType();
+        switch (planKey.getBuilderPattern()) {
+            case LOMBOK:
+                return getMethodsForLombokBuilderGroupedByInvokeOrder(builderClass, planKey.getBlacklistedMethods()).values().stream()
+                        .flatMap(List::stream)
+                        .collect(Collectors.toList());
+            case IMMUTABLES:
+                return getMethodsForImmutablesBuilder(builderMethod.getDeclaringClass(), builderClass, planKey.getBlacklistedMethods());
+            case PROTOBUF:
+                return getMethodsForProtobufBuilder(builderClass, planKey.getBlacklistedMethods());
+            default:
+                return getMethodsForCustomBuilder(builderClass, planKey.getBlacklistedMethods());
+        }
+    }
+
+    private static void addMethod(Method method, Set<Class<?>> references) {
+        Invoker.of(method);
+        addTypes(method.getGenericParameterTypes(), references);
+    }
+
+    private static void addTypes(Type[] types, Set<Class<?>> references) {
+        for (Type type : types) {
+            addType(type, references);
+        }
+    }
+
+    /**
+     * Type variables are not followed, as what they stand for is only known where they are populated
+     */
+    private static void addType(Type type, Set<Class<?>> references) {
+        if (type instanceof Class) {
+            references.add((Class<?>) type);
+        } else if (type instanceof ParameterizedType) {
+            addType(((ParameterizedType) type).getRawType(), references);
+            addTypes(((ParameterizedType) type).getActualTypeArguments(), references);
+        } else if (type instanceof GenericArrayType) {
+            addType(((GenericArrayType) type).getGenericComponentType(), references);
+        } else if (type instanceof WildcardType) {
+            addTypes(((WildcardType) type).getUpperBounds(), references);
+        }
+    }
+
+    private static <V> List<V> join(List<CompletableFuture<V>> futures) {
+        try {
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .collect(Collectors.toList());
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+}
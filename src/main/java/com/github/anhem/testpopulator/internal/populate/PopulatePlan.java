@@ -0,0 +1,69 @@
+package com.github.anhem.testpopulator.internal.populate;
+
+import com.github.anhem.testpopulator.config.Strategy;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+
+/**
+ * Resolved dispatch decision for a class. Everything in a plan depends only on the class and the strategy related
+ * parts of the configuration, which makes it safe to share between populate calls and threads.
+ * Members that could not be resolved up front are left as null and are then resolved by the strategy itself.
+ */
+public class PopulatePlan {
+
+    public static final PopulatePlan EMPTY_POPULATE_PLAN = new PopulatePlan(TypeCategory.STRATEGY, null, null, null, null, null, null);
+
+    private final TypeCategory typeCategory;
+    private final Strategy strategy;
+    private final PopulatingStrategy populatingStrategy;
+    private final Constructor<?> constructor;
+    private final Method method;
+    private final List<Method> methods;
+    private final List<Field> fields;
+
+    public PopulatePlan(TypeCategory typeCategory, Strategy strategy, PopulatingStrategy populatingStrategy, Constructor<?> constructor, Method method, List<Method> methods, List<Field> fields) {
+        this.typeCategory = typeCategory;
+        this.strategy = strategy;
+        this.populatingStrategy = populatingStrategy;
+        this.constructor = constructor;
+        this.method = method;
+        this.methods = methods;
+        this.fields = fields;
+    }
+
+    public static PopulatePlan of(TypeCategory typeCategory) {
+        return new PopulatePlan(typeCategory, null, null, null, null, null, null);
+    }
+
+    public TypeCategory getTypeCategory() {
+        return typeCategory;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    public PopulatingStrategy getPopulatingStrategy() {
+        return populatingStrategy;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Constructor<T> getConstructor() {
+        return (Constructor<T>) constructor;
+    }
+
+    public Method getMethod() {
+        return method;
+    }
+
+    public List<Method> getMethods() {
+        return methods;
+    }
+
+    public List<Field> getFields() {
+        return fields;
+    }
+}
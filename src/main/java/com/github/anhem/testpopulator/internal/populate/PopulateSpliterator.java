@@ -0,0 +1,66 @@
+package com.github.anhem.testpopulator.internal.populate;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+
+/**
+ * Creates one populated object for each index in a range. Splits by halving the range, which lets a parallel stream
+ * populate on every worker of the fork-join pool. Each object is created only from its own index.
+ *
+ * @param <T> type of populated objects
+ */
+public class PopulateSpliterator<T> implements Spliterator<T> {
+
+    private final LongFunction<T> populate;
+    private final long fence;
+    private long index;
+
+    /**
+     * @param populate creates the object for an index
+     * @param origin   first index (inclusive)
+     * @param fence    last index (exclusive)
+     */
+    public PopulateSpliterator(LongFunction<T> populate, long origin, long fence) {
+        this.populate = populate;
+        this.index = origin;
+        this.fence = fence;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        if (index < fence) {
+            action.accept(populate.apply(index++));
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        while (index < fence) {
+            action.accept(populate.apply(index++));
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        long middle = index + (fence - index) / 2;
+        if (middle <= index) {
+            return null;
+        }
+        PopulateSpliterator<T> prefix = new PopulateSpliterator<>(populate, index, middle);
+        index = middle;
+        return prefix;
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | SIZED | SUBSIZED | IMMUTABLE;
+    }
+}
@@ -4,4 +4,8 @@ import com.github.anhem.testpopulator.internal.carrier.ClassCarrier;
 
 public interface PopulatingStrategy {
     <T> T populate(ClassCarrier<T> classCarrier, Populator populator);
+
+    default <T> T populate(ClassCarrier<T> classCarrier, Populator populator, PopulatePlan populatePlan) {
+        return populate(classCarrier, populator);
+    }
 }
@@ -1,100 +1,342 @@
 package com.github.anhem.testpopulator.internal.populate;
 
+import com.github.anhem.testpopulator.config.CollectionSize;
 import com.github.anhem.testpopulator.config.MethodType;
+import com.github.anhem.testpopulator.config.OverridePopulate;
 import com.github.anhem.testpopulator.config.PopulateConfig;
 import com.github.anhem.testpopulator.config.Strategy;
 import com.github.anhem.testpopulator.exception.PopulateException;
 import com.github.anhem.testpopulator.internal.carrier.ClassCarrier;
 import com.github.anhem.testpopulator.internal.carrier.CollectionCarrier;
-import com.github.anhem.testpopulator.internal.value.ValueFactory;
+import com.github.anhem.testpopulator.internal.event.PopulateEvent;
+import com.github.anhem.testpopulator.internal.event.PopulateEvents;
+import com.github.anhem.testpopulator.internal.object.ObjectFactoryVoid;
+import com.github.anhem.testpopulator.internal.util.Invoker;
+import com.github.anhem.testpopulator.internal.value.*;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
 
 import static com.github.anhem.testpopulator.internal.populate.PopulatorExceptionMessages.NO_MATCHING_STRATEGY;
+import static com.github.anhem.testpopulator.internal.util.BuilderUtil.getBuilderMethod;
 import static com.github.anhem.testpopulator.internal.util.BuilderUtil.isMatchingBuilderStrategy;
 import static com.github.anhem.testpopulator.internal.util.KotlinUtil.isMatchingKotlinSingletonOrCompanion;
-import static com.github.anhem.testpopulator.internal.util.MutatorUtil.isMatchingMutatorStrategy;
+import static com.github.anhem.testpopulator.internal.util.MutatorUtil.*;
 import static com.github.anhem.testpopulator.internal.util.PopulateUtil.*;
 import static com.github.anhem.testpopulator.internal.util.ProtobufUtil.isProtobufByteString;
+import static com.github.anhem.testpopulator.internal.util.SetterUtil.getSetterMethods;
 import static com.github.anhem.testpopulator.internal.util.SetterUtil.isMatchingSetterStrategy;
+import static com.github.anhem.testpopulator.internal.util.StaticMethodUtil.getStaticMethod;
 import static com.github.anhem.testpopulator.internal.util.StaticMethodUtil.isMatchingStaticMethodStrategy;
 import static java.lang.String.format;
 
 public class Populator {
 
+    private static final ConstructorPopulator CONSTRUCTOR_POPULATOR = new ConstructorPopulator();
+    private static final FieldPopulator FIELD_POPULATOR = new FieldPopulator();
+    private static final CollectionPopulator COLLECTION_POPULATOR = new CollectionPopulator();
+    private static final ArrayPopulator ARRAY_POPULATOR = new ArrayPopulator();
+    private static final SetterPopulator SETTER_POPULATOR = new SetterPopulator();
+    private static final MutatorPopulator MUTATOR_POPULATOR = new MutatorPopulator(CONSTRUCTOR_POPULATOR);
+    private static final BuilderPopulator BUILDER_POPULATOR = new BuilderPopulator();
+    private static final StaticMethodPopulator STATIC_METHOD_POPULATOR = new StaticMethodPopulator();
+    private static final KotlinPopulator KOTLIN_POPULATOR = new KotlinPopulator();
+    private static final String COLLECTION = "COLLECTION";
+    static final int NO_SIZE = -1;
+
     private final ValueFactory valueFactory;
-    private final ConstructorPopulator constructorPopulator = new ConstructorPopulator();
-    private final FieldPopulator fieldPopulator = new FieldPopulator();
-    private final CollectionPopulator collectionPopulator = new CollectionPopulator();
-    private final ArrayPopulator arrayPopulator = new ArrayPopulator();
-    private final SetterPopulator setterPopulator = new SetterPopulator();
-    private final MutatorPopulator mutatorPopulator = new MutatorPopulator(constructorPopulator);
-    private final BuilderPopulator builderPopulator = new BuilderPopulator();
-    private final StaticMethodPopulator staticMethodPopulator = new StaticMethodPopulator();
-    private final KotlinPopulator kotlinPopulator = new KotlinPopulator();
-
-    public Populator(ValueFactory valueFactory) {
+    private final PlanCache planCache;
+    private final int distinctIndex;
+
+    public Populator(ValueFactory valueFactory, PopulateConfig populateConfig) {
         this.valueFactory = valueFactory;
+        this.planCache = PlanCache.getPlanCache(populateConfig);
+        this.distinctIndex = 0;
+    }
+
+    private Populator(ValueFactory valueFactory, PlanCache planCache, int distinctIndex) {
+        this.valueFactory = valueFactory;
+        this.planCache = planCache;
+        this.distinctIndex = distinctIndex;
+    }
+
+    /**
+     * @return Populator that shares the plans of this Populator but creates values using valueFactory
+     */
+    public Populator withValueFactory(ValueFactory valueFactory) {
+        return valueFactory == this.valueFactory ? this : new Populator(valueFactory, planCache, distinctIndex);
     }
 
     public <T> T populate(ClassCarrier<T> classCarrier) {
         Class<T> clazz = classCarrier.getClazz();
-        if (valueFactory.hasType(clazz, classCarrier.getName())) {
-            return createValue(classCarrier);
+        TypeSupplier<?> typeSupplier = valueFactory.getTypeSupplier(clazz, classCarrier.getName());
+        if (typeSupplier != null) {
+            return createValue(classCarrier, typeSupplier);
+        }
+        return populate(classCarrier, planCache.getPopulatePlan(clazz));
+    }
+
+    /**
+     * @return supplier that populates classCarrier on every call, with what to populate it with resolved once for all
+     * calls, e.g. for the elements of a collection
+     */
+    <T> Supplier<T> toElementSupplier(ClassCarrier<T> classCarrier) {
+        TypeSupplier<?> typeSupplier = valueFactory.getTypeSupplier(classCarrier.getClazz(), classCarrier.getName());
+        if (typeSupplier != null) {
+            return () -> createValue(classCarrier, typeSupplier);
+        }
+        PopulatePlan populatePlan = planCache.getPopulatePlan(classCarrier.getClazz());
+        return () -> populate(classCarrier, populatePlan);
+    }
+
+    /**
+     * Like {@link #toElementSupplier(ClassCarrier)}, but for the elements of sets and keys of maps. Every value within an
+     * element is derived from the number of elements populated before it, see
+     * {@link ValueFactory#toDistinctValue(Object, int)}, so that elements differ even when values repeat. Elements of
+     * sets within an element add their own number to it.
+     *
+     * @return supplier that populates classCarrier on every call, given the number of earlier calls
+     */
+    <T> IntFunction<T> toDistinctElementSupplier(ClassCarrier<T> classCarrier) {
+        TypeSupplier<?> typeSupplier = valueFactory.getTypeSupplier(classCarrier.getClazz(), classCarrier.getName());
+        if (typeSupplier != null) {
+            return index -> withDistinctIndex(index).createValue(classCarrier, typeSupplier);
+        }
+        PopulatePlan populatePlan = planCache.getPopulatePlan(classCarrier.getClazz());
+        return index -> withDistinctIndex(index).populate(classCarrier, populatePlan);
+    }
+
+    /**
+     * @return number of distinct values of classCarrier, or {@link Integer#MAX_VALUE} if it is not a value type with few
+     * values, see {@link ValueFactory#countDistinctValues(Class)}
+     */
+    int countDistinctValues(ClassCarrier<?> classCarrier) {
+        TypeSupplier<?> typeSupplier = valueFactory.getTypeSupplier(classCarrier.getClazz(), classCarrier.getName());
+        if (typeSupplier == null || typeSupplier instanceof OverridePopulate) {
+            return Integer.MAX_VALUE;
         }
+        return valueFactory.countDistinctValues(classCarrier.getClazz());
+    }
+
+    private Populator withDistinctIndex(int index) {
+        return index == 0 ? this : new Populator(valueFactory, planCache, distinctIndex + index);
+    }
+
+    /**
+     * Resolve the plans of classes and of every class reachable from them, see {@link PlanWalker}
+     *
+     * @return name of the strategy or type category of each resolved class
+     */
+    public Map<Class<?>, String> warmUp(Collection<Class<?>> classes, Executor executor) {
+        return new PlanWalker(planCache, valueFactory).walk(classes, executor);
+    }
+
+    /**
+     * @return number of elements for the collection, map or array of classCarrier, or -1 if no size is configured for
+     * it
+     */
+    int createSize(ClassCarrier<?> classCarrier) {
+        CollectionSize collectionSize = classCarrier.getPopulateConfig().getCollectionSize(classCarrier.getClazz(), classCarrier.getName());
+        return collectionSize == null ? NO_SIZE : valueFactory.createSize(collectionSize);
+    }
+
+    /**
+     * @return array of length with elements of the primitive componentType, or null if they can not be created in bulk
+     */
+    Object createPrimitiveArray(ClassCarrier<?> classCarrier, Class<?> componentType, int length) {
+        Object array = valueFactory.createPrimitiveArray(componentType, classCarrier.getName(), length);
+        if (array != null) {
+            classCarrier.getObjectFactory().primitiveArray(array);
+        }
+        return array;
+    }
+
+    /**
+     * Populates a primitive int, long, double or boolean and passes it to invoker without boxing it. Only done if its
+     * supplier creates primitives, no code is generated from the value and it is not derived for an element of a set.
+     *
+     * @return true if the value was passed to invoker, false if it has to be populated as an object instead
+     */
+    boolean populatePrimitive(ClassCarrier<?> classCarrier, Object target, Invoker invoker) throws ReflectiveOperationException {
+        Class<?> clazz = classCarrier.getClazz();
+        if (!clazz.isPrimitive() || !(classCarrier.getObjectFactory() instanceof ObjectFactoryVoid) || distinctIndex != 0) {
+            return false;
+        }
+        TypeSupplier<?> typeSupplier = valueFactory.getTypeSupplier(clazz, classCarrier.getName());
+        if (clazz == int.class && typeSupplier instanceof IntTypeSupplier) {
+            invoker.invokeInt(target, ((IntTypeSupplier) typeSupplier).createInt());
+        } else if (clazz == long.class && typeSupplier instanceof LongTypeSupplier) {
+            invoker.invokeLong(target, ((LongTypeSupplier) typeSupplier).createLong());
+        } else if (clazz == double.class && typeSupplier instanceof DoubleTypeSupplier) {
+            invoker.invokeDouble(target, ((DoubleTypeSupplier) typeSupplier).createDouble());
+        } else if (clazz == boolean.class && typeSupplier instanceof BooleanTypeSupplier) {
+            invoker.invokeBoolean(target, ((BooleanTypeSupplier) typeSupplier).createBoolean());
+        } else {
+            return false;
+        }
+        return true;
+    }
+
+    private <T> T populate(ClassCarrier<T> classCarrier, PopulatePlan populatePlan) {
+        Class<T> clazz = classCarrier.getClazz();
         if (classCarrier.alreadyVisited()) {
             return createNullValue(classCarrier);
         }
-        if (clazz.isArray()) {
-            return arrayPopulator.populate(classCarrier, this);
+        PopulateEvent populateEvent = PopulateEvents.beginPopulate();
+        try {
+            return populateWithPlan(classCarrier, populatePlan);
+        } finally {
+            classCarrier.removeVisited();
+            PopulateEvents.endPopulate(populateEvent, clazz, classCarrier.getName(), getStrategyName(classCarrier, populatePlan));
         }
-        if (classCarrier instanceof CollectionCarrier) {
-            return collectionPopulator.populate(classCarrier, this);
-        }
-        if (isProtobufByteString(clazz, classCarrier.getPopulateConfig())) {
-            return staticMethodPopulator.populate(classCarrier, this, MethodType.SIMPLEST);
+    }
+
+    private <T> T populateWithPlan(ClassCarrier<T> classCarrier, PopulatePlan populatePlan) {
+        Class<T> clazz = classCarrier.getClazz();
+        if (populatePlan.getTypeCategory() == TypeCategory.ARRAY) {
+            return ARRAY_POPULATOR.populate(classCarrier, this);
         }
-        if (isCollectionLike(clazz)) {
-            return populate(classCarrier.toCollectionCarrier(clazz));
+        if (classCarrier instanceof CollectionCarrier) {
+            return COLLECTION_POPULATOR.populate(classCarrier, this);
         }
-        if (isMatchingKotlinSingletonOrCompanion(clazz, classCarrier.getPopulateConfig().isKotlinSupport())) {
-            return kotlinPopulator.populate(classCarrier, this);
+        switch (populatePlan.getTypeCategory()) {
+            case PROTOBUF_BYTE_STRING:
+                return populatePlan.getMethod() == null ?
+                        STATIC_METHOD_POPULATOR.populate(classCarrier, this, MethodType.SIMPLEST) :
+                        STATIC_METHOD_POPULATOR.populate(classCarrier, this, populatePlan);
+            case COLLECTION_LIKE:
+                return populate(classCarrier.toCollectionCarrier(clazz));
+            case KOTLIN:
+                return KOTLIN_POPULATOR.populate(classCarrier, this);
+            case STRATEGY:
+                return populatePlan.getPopulatingStrategy().populate(classCarrier, this, populatePlan);
+            default:
+                PopulateConfig populateConfig = classCarrier.getPopulateConfig();
+                throw new PopulateException(format(NO_MATCHING_STRATEGY, clazz.getName(), populateConfig.getStrategyOrder()));
         }
-        return populateWithStrategies(classCarrier);
     }
 
-    private <T> T createValue(ClassCarrier<T> classCarrier) {
-        T value = valueFactory.createValue(classCarrier.getClazz(), classCarrier.getName());
+    /**
+     * Overridden values are kept as they are, as the code generated from them is overridden too
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T createValue(ClassCarrier<T> classCarrier, TypeSupplier<?> typeSupplier) {
+        T value = (T) typeSupplier.create();
+        if (distinctIndex != 0 && !(typeSupplier instanceof OverridePopulate)) {
+            value = (T) valueFactory.toDistinctValue(value, distinctIndex);
+        }
         classCarrier.getObjectFactory().value(value, classCarrier.getClazz(), classCarrier.getName());
         return value;
     }
 
+    private static String getStrategyName(ClassCarrier<?> classCarrier, PopulatePlan populatePlan) {
+        TypeCategory typeCategory = populatePlan.getTypeCategory();
+        if (typeCategory != TypeCategory.ARRAY && classCarrier instanceof CollectionCarrier) {
+            return COLLECTION;
+        }
+        return getStrategyName(populatePlan);
+    }
+
+    static String getStrategyName(PopulatePlan populatePlan) {
+        TypeCategory typeCategory = populatePlan.getTypeCategory();
+        if (typeCategory == TypeCategory.STRATEGY && populatePlan.getStrategy() != null) {
+            return populatePlan.getStrategy().name();
+        }
+        return typeCategory.name();
+    }
+
     private static <T> T createNullValue(ClassCarrier<T> classCarrier) {
         classCarrier.getObjectFactory().nullValue(classCarrier.getClazz());
         return null;
     }
 
-    private <T> T populateWithStrategies(ClassCarrier<T> classCarrier) {
-        Class<T> clazz = classCarrier.getClazz();
-        PopulateConfig populateConfig = classCarrier.getPopulateConfig();
-        for (Strategy strategy : populateConfig.getStrategyOrder()) {
-            if (isMatchingConstructorStrategy(strategy, clazz, populateConfig.isAccessNonPublicConstructors())) {
-                return constructorPopulator.populate(classCarrier, this);
+    static PopulatePlan resolvePlan(Class<?> clazz, PlanKey planKey) {
+        if (clazz.isArray()) {
+            return PopulatePlan.of(TypeCategory.ARRAY);
+        }
+        if (isProtobufByteString(clazz, planKey.getBuilderPattern())) {
+            return new PopulatePlan(TypeCategory.PROTOBUF_BYTE_STRING, Strategy.STATIC_METHOD, STATIC_METHOD_POPULATOR, null, resolveStaticMethod(clazz, planKey, MethodType.SIMPLEST), null, null);
+        }
+        if (isCollectionLike(clazz)) {
+            return PopulatePlan.of(TypeCategory.COLLECTION_LIKE);
+        }
+        if (isMatchingKotlinSingletonOrCompanion(clazz, planKey.isKotlinSupport())) {
+            return PopulatePlan.of(TypeCategory.KOTLIN);
+        }
+        return resolveStrategyPlan(clazz, planKey);
+    }
+
+    private static <T> PopulatePlan resolveStrategyPlan(Class<T> clazz, PlanKey planKey) {
+        boolean accessNonPublicConstructors = planKey.isAccessNonPublicConstructors();
+        for (Strategy strategy : planKey.getStrategyOrder()) {
+            if (isMatchingConstructorStrategy(strategy, clazz, accessNonPublicConstructors)) {
+                return new PopulatePlan(TypeCategory.STRATEGY, strategy, CONSTRUCTOR_POPULATOR, resolveOrNull(() -> getLargestConstructor(clazz, accessNonPublicConstructors)), null, null, null);
             }
-            if (isMatchingSetterStrategy(strategy, clazz, populateConfig.getSetterPrefixes(), populateConfig.isAccessNonPublicConstructors())) {
-                return setterPopulator.populate(classCarrier, this);
+            if (isMatchingSetterStrategy(strategy, clazz, planKey.getSetterPrefixes(), accessNonPublicConstructors)) {
+                return new PopulatePlan(TypeCategory.STRATEGY, strategy, SETTER_POPULATOR, resolveOrNull(clazz::getDeclaredConstructor), null,
+                        resolveOrNull(() -> getSetterMethods(clazz, planKey.getBlacklistedMethods(), planKey.getSetterPrefixes())), null);
             }
-            if (isMatchingMutatorStrategy(strategy, clazz, populateConfig.isAccessNonPublicConstructors(), populateConfig.getConstructorType())) {
-                return mutatorPopulator.populate(classCarrier, this);
+            if (isMatchingMutatorStrategy(strategy, clazz, accessNonPublicConstructors, planKey.getConstructorType())) {
+                return new PopulatePlan(TypeCategory.STRATEGY, strategy, MUTATOR_POPULATOR, resolveOrNull(() -> getConstructor(clazz, accessNonPublicConstructors, planKey.getConstructorType())), null,
+                        resolveOrNull(() -> getMutatorMethods(clazz, planKey.getBlacklistedMethods())), null);
             }
-            if (isMatchingFieldStrategy(strategy, clazz, populateConfig.isAccessNonPublicConstructors())) {
-                return fieldPopulator.populate(classCarrier, this);
+            if (isMatchingFieldStrategy(strategy, clazz, accessNonPublicConstructors)) {
+                return new PopulatePlan(TypeCategory.STRATEGY, strategy, FIELD_POPULATOR, resolveOrNull(clazz::getDeclaredConstructor), null, null,
+                        resolveOrNull(() -> FieldPopulator.getFields(clazz, planKey.getBlacklistedFields(), planKey.isKotlinSupport())));
             }
-            if (isMatchingBuilderStrategy(strategy, clazz, populateConfig.getBuilderPattern(), populateConfig.getBuilderMethod())) {
-                return builderPopulator.populate(classCarrier, this);
+            if (isMatchingBuilderStrategy(strategy, clazz, planKey.getBuilderPattern(), planKey.getBuilderMethod())) {
+                return new PopulatePlan(TypeCategory.STRATEGY, strategy, BUILDER_POPULATOR, null,
+                        resolveOrNull(() -> getBuilderMethod(clazz, planKey.getBuilderPattern(), planKey.getBuilderMethod())), null, null);
             }
             if (isMatchingStaticMethodStrategy(strategy, clazz)) {
-                return staticMethodPopulator.populate(classCarrier, this);
+                return new PopulatePlan(TypeCategory.STRATEGY, strategy, STATIC_METHOD_POPULATOR, null, resolveStaticMethod(clazz, planKey, planKey.getMethodType()), null, null);
             }
         }
-        throw new PopulateException(format(NO_MATCHING_STRATEGY, clazz.getName(), populateConfig.getStrategyOrder()));
+        return PopulatePlan.of(TypeCategory.UNSUPPORTED);
+    }
+
+    /**
+     * @return populating strategy of the plans that strategy resolves
+     */
+    static PopulatingStrategy getPopulatingStrategy(Strategy strategy) {
+        switch (strategy) {
+            case CONSTRUCTOR:
+                return CONSTRUCTOR_POPULATOR;
+            case SETTER:
+                return SETTER_POPULATOR;
+            case MUTATOR:
+                return MUTATOR_POPULATOR;
+            case FIELD:
+                return FIELD_POPULATOR;
+            case BUILDER:
+                return BUILDER_POPULATOR;
+            default:
+                return STATIC_METHOD_POPULATOR;
+        }
+    }
+
+    private static Method resolveStaticMethod(Class<?> clazz, PlanKey planKey, MethodType methodType) {
+        return resolveOrNull(() -> getStaticMethod(clazz, planKey.getBlacklistedMethods(), methodType));
+    }
+
+    /**
+     * Members that fail to resolve are left out of the plan, which makes the strategy resolve them again
+     * when populating and fail the same way it would without a plan.
+     */
+    private static <V> V resolveOrNull(Resolver<V> resolver) {
+        try {
+            return resolver.resolve();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface Resolver<V> {
+        V resolve() throws Exception;
     }
 }
@@ -9,8 +9,9 @@ import java.lang.reflect.Method;
 import java.util.List;
 
 import static com.github.anhem.testpopulator.config.Strategy.SETTER;
+import static com.github.anhem.testpopulator.internal.populate.PopulatePlan.EMPTY_POPULATE_PLAN;
 import static com.github.anhem.testpopulator.internal.populate.PopulatorExceptionMessages.FAILED_TO_CREATE_OBJECT;
-import static com.github.anhem.testpopulator.internal.util.PopulateUtil.setAccessible;
+import static com.github.anhem.testpopulator.internal.util.PopulateUtil.newInstance;
 import static com.github.anhem.testpopulator.internal.util.SetterUtil.getSetterMethods;
 import static java.lang.String.format;
 
@@ -18,13 +19,17 @@ public class SetterPopulator extends MethodPopulator implements PopulatingStrate
 
     @Override
     public <T> T populate(ClassCarrier<T> classCarrier, Populator populator) {
+        return populate(classCarrier, populator, EMPTY_POPULATE_PLAN);
+    }
+
+    @Override
+    public <T> T populate(ClassCarrier<T> classCarrier, Populator populator, PopulatePlan populatePlan) {
         Class<T> clazz = classCarrier.getClazz();
         PopulateConfig populateConfig = classCarrier.getPopulateConfig();
         try {
-            Constructor<T> constructor = clazz.getDeclaredConstructor();
-            setAccessible(constructor, populateConfig.isAccessNonPublicConstructors());
-            T objectOfClass = constructor.newInstance();
-            List<Method> methods = getSetterMethods(clazz, populateConfig.getBlacklistedMethods(), populateConfig.getSetterPrefixes());
+            Constructor<T> constructor = populatePlan.getConstructor() != null ? populatePlan.getConstructor() : clazz.getDeclaredConstructor();
+            T objectOfClass = newInstance(constructor, populateConfig.isAccessNonPublicConstructors());
+            List<Method> methods = populatePlan.getMethods() != null ? populatePlan.getMethods() : getSetterMethods(clazz, populateConfig.getBlacklistedMethods(), populateConfig.getSetterPrefixes());
             classCarrier.getObjectFactory().setter(clazz, methods.size());
             methods.forEach(method -> populateForMethod(objectOfClass, method, classCarrier, populator));
             return objectOfClass;
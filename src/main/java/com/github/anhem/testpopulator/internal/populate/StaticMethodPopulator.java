@@ -4,6 +4,7 @@ import com.github.anhem.testpopulator.config.MethodType;
 import com.github.anhem.testpopulator.config.PopulateConfig;
 import com.github.anhem.testpopulator.exception.PopulateException;
 import com.github.anhem.testpopulator.internal.carrier.ClassCarrier;
+import com.github.anhem.testpopulator.internal.util.Invoker;
 
 import java.lang.reflect.Method;
 import java.util.stream.Stream;
@@ -20,14 +21,25 @@ public class StaticMethodPopulator implements PopulatingStrategy {
         return populate(classCarrier, populator, classCarrier.getPopulateConfig().getMethodType());
     }
 
-    @SuppressWarnings("unchecked")
     public <T> T populate(ClassCarrier<T> classCarrier, Populator populator, MethodType methodType) {
-        Class<T> clazz = classCarrier.getClazz();
         PopulateConfig populateConfig = classCarrier.getPopulateConfig();
-        Method staticMethod = getStaticMethod(clazz, populateConfig.getBlacklistedMethods(), methodType);
+        return populateUsingStaticMethod(classCarrier, populator, getStaticMethod(classCarrier.getClazz(), populateConfig.getBlacklistedMethods(), methodType));
+    }
+
+    @Override
+    public <T> T populate(ClassCarrier<T> classCarrier, Populator populator, PopulatePlan populatePlan) {
+        if (populatePlan.getMethod() == null) {
+            return populate(classCarrier, populator);
+        }
+        return populateUsingStaticMethod(classCarrier, populator, populatePlan.getMethod());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T populateUsingStaticMethod(ClassCarrier<T> classCarrier, Populator populator, Method staticMethod) {
+        Class<T> clazz = classCarrier.getClazz();
         try {
             classCarrier.getObjectFactory().staticMethod(clazz, staticMethod.getName(), staticMethod.getParameters().length);
-            return (T) staticMethod.invoke(null, Stream.of(staticMethod.getParameters())
+            return (T) Invoker.of(staticMethod).invoke(null, Stream.of(staticMethod.getParameters())
                     .map(parameter -> {
                         if (isCollectionLike(parameter.getType())) {
                             return populator.populate(classCarrier.toCollectionCarrier(parameter));
@@ -0,0 +1,10 @@
+package com.github.anhem.testpopulator.internal.populate;
+
+public enum TypeCategory {
+    ARRAY,
+    PROTOBUF_BYTE_STRING,
+    COLLECTION_LIKE,
+    KOTLIN,
+    STRATEGY,
+    UNSUPPORTED
+}
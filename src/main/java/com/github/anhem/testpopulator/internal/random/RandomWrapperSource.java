@@ -0,0 +1,44 @@
+package com.github.anhem.testpopulator.internal.random;
+
+import com.github.anhem.testpopulator.config.RandomSource;
+
+import java.util.Random;
+
+public final class RandomWrapperSource implements RandomSource {
+
+    private final Random random;
+
+    public RandomWrapperSource(Random random) {
+        this.random = random;
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return random.nextLong();
+    }
+
+    @Override
+    public float nextFloat() {
+        return random.nextFloat();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return random.nextBoolean();
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        random.nextBytes(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return "RandomWrapperSource{" + random.getClass().getName() + "}";
+    }
+}
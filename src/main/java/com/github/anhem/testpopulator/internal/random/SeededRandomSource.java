@@ -0,0 +1,129 @@
+package com.github.anhem.testpopulator.internal.random;
+
+import com.github.anhem.testpopulator.config.RandomSource;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Random source for a seeded PopulateFactory. Every top level populate call opens its own {@link SplittableRandom}
+ * derived from the seed, the populated class and a per class sequence number. The stream is bound to the calling
+ * thread, so concurrent calls never draw from each other's stream and the result of a call only depends on which call
+ * it is, not on what else runs at the same time.
+ */
+public final class SeededRandomSource implements RandomSource {
+
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private final long seed;
+    private final ThreadLocal<SplittableRandom> current = new ThreadLocal<>();
+    private final ClassValue<AtomicLong> sequences = new ClassValue<>() {
+        @Override
+        protected AtomicLong computeValue(Class<?> clazz) {
+            return new AtomicLong();
+        }
+    };
+
+    public SeededRandomSource(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Open the stream for the next populate call of clazz on the current thread.
+     *
+     * @return Stream that must be closed when the populate call is done
+     */
+    public Stream open(Class<?> clazz) {
+        return open(clazz, reserve(clazz, 1));
+    }
+
+    /**
+     * Reserve sequence numbers for a number of populate calls of clazz.
+     *
+     * @return first reserved sequence number
+     */
+    public long reserve(Class<?> clazz, long count) {
+        return sequences.get(clazz).getAndAdd(count);
+    }
+
+    /**
+     * Open the stream for a populate call of clazz with a given sequence number on the current thread.
+     *
+     * @return Stream that must be closed when the populate call is done
+     */
+    public Stream open(Class<?> clazz, long sequence) {
+        SplittableRandom previous = current.get();
+        current.set(new SplittableRandom(mix(mix(seed ^ clazz.getName().hashCode()) + sequence * GOLDEN_GAMMA)));
+        return new Stream(previous);
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return random().nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return random().nextLong();
+    }
+
+    @Override
+    public float nextFloat() {
+        return (random().nextInt() >>> 8) * 0x1.0p-24f;
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return random().nextBoolean();
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        random().nextBytes(bytes);
+    }
+
+    /**
+     * Values drawn outside a populate call, such as from a ValueFactory used directly, come from a stream per thread
+     * derived from the seed alone.
+     */
+    private SplittableRandom random() {
+        SplittableRandom random = current.get();
+        if (random == null) {
+            random = new SplittableRandom(mix(seed));
+            current.set(random);
+        }
+        return random;
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        return z ^ (z >>> 33);
+    }
+
+    @Override
+    public String toString() {
+        return "SeededRandomSource{seed=" + seed + "}";
+    }
+
+    /**
+     * Stream of a populate call. Closing it restores the stream of any enclosing populate call on the same thread.
+     */
+    public final class Stream implements AutoCloseable {
+
+        private final SplittableRandom previous;
+
+        private Stream(SplittableRandom previous) {
+            this.previous = previous;
+        }
+
+        @Override
+        public void close() {
+            if (previous == null) {
+                current.remove();
+            } else {
+                current.set(previous);
+            }
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.github.anhem.testpopulator.internal.random;
+
+import com.github.anhem.testpopulator.config.RandomSource;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public final class ThreadLocalRandomSource implements RandomSource {
+
+    public static final ThreadLocalRandomSource INSTANCE = new ThreadLocalRandomSource();
+
+    private ThreadLocalRandomSource() {
+    }
+
+    @Override
+    public int nextInt(int bound) {
+        return ThreadLocalRandom.current().nextInt(bound);
+    }
+
+    @Override
+    public long nextLong() {
+        return ThreadLocalRandom.current().nextLong();
+    }
+
+    @Override
+    public float nextFloat() {
+        return ThreadLocalRandom.current().nextFloat();
+    }
+
+    @Override
+    public boolean nextBoolean() {
+        return ThreadLocalRandom.current().nextBoolean();
+    }
+
+    @Override
+    public void nextBytes(byte[] bytes) {
+        ThreadLocalRandom.current().nextBytes(bytes);
+    }
+
+    @Override
+    public String toString() {
+        return "ThreadLocalRandomSource";
+    }
+}
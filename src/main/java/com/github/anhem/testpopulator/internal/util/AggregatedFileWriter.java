@@ -0,0 +1,144 @@
+package com.github.anhem.testpopulator.internal.util;
+
+import com.github.anhem.testpopulator.config.PopulateConfig;
+import com.github.anhem.testpopulator.internal.object.ObjectResult;
+
+import java.nio.file.Path;
+import java.util.*;
+
+import static com.github.anhem.testpopulator.internal.util.FileWriterUtil.*;
+
+/**
+ * Collects the generated code of many populated classes into one aggregated class per package and configuration, with
+ * a public factory method per populated class, instead of writing a file per populated class. Every factory method
+ * creates a new object each time it is called. Imports of all populated classes are merged, so a class whose imports
+ * would clash with imports that are already part of the aggregated class gets a file of its own instead, and so does a
+ * class with too much code for a single method.
+ * <p>
+ * Aggregated classes are written on {@link #flush()} and when the JVM shuts down.
+ */
+public class AggregatedFileWriter {
+
+    static final String AGGREGATED_CLASS_NAME = "TestData";
+    private static final String FACTORY_METHOD_PREFIX = "create";
+    private static final String THREAD_NAME = "test-populator-aggregate";
+    private static final AggregatedFileWriter INSTANCE = new AggregatedFileWriter();
+
+    private final Map<Path, AggregatedClass> aggregatedClasses = new LinkedHashMap<>();
+    private boolean shutdownHookAdded;
+
+    AggregatedFileWriter() {
+    }
+
+    public static AggregatedFileWriter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Add the code generated for clazz to the aggregated class of its package. Replaces earlier code for the same
+     * class.
+     *
+     * @return false if the code can not be part of the aggregated class and needs a file of its own
+     */
+    public synchronized boolean add(Class<?> clazz, ObjectResult objectResult, PopulateConfig populateConfig) {
+        if (objectResult.getObjects().size() > MAX_INLINE_OBJECT_LINES) {
+            return false;
+        }
+        String methodName = toFactoryMethodName(clazz);
+        List<String> factoryMethod = ObjectSplitUtil.toFactoryMethod(objectResult.getObjects(), methodName);
+        if (factoryMethod == null) {
+            return false;
+        }
+        Path path = getPath(objectResult.getPackageName(), AGGREGATED_CLASS_NAME, populateConfig);
+        boolean added = aggregatedClasses.computeIfAbsent(path, p -> new AggregatedClass(objectResult.getPackageName(), populateConfig))
+                .add(clazz, methodName, factoryMethod, objectResult);
+        if (added && !shutdownHookAdded) {
+            flushOnShutdown(THREAD_NAME, this::flush);
+            shutdownHookAdded = true;
+        }
+        return added;
+    }
+
+    /**
+     * Write aggregated classes that have changed since the last flush.
+     */
+    public synchronized void flush() {
+        aggregatedClasses.forEach((path, aggregatedClass) -> {
+            if (aggregatedClass.changed) {
+                writeIfChanged(path, aggregatedClass.render());
+                aggregatedClass.changed = false;
+            }
+        });
+    }
+
+    static String toFactoryMethodName(Class<?> clazz) {
+        return FACTORY_METHOD_PREFIX + clazz.getSimpleName().replace("[]", "Array");
+    }
+
+    private static class AggregatedClass {
+        private final String packageName;
+        private final PopulateConfig populateConfig;
+        private final Set<String> imports = new HashSet<>();
+        private final Set<String> staticImports = new HashSet<>();
+        private final Set<String> methods = new HashSet<>();
+        private final Map<String, String> importsBySimpleName = new HashMap<>();
+        private final Map<String, Class<?>> classes = new HashMap<>();
+        private final Map<String, List<String>> factoryMethods = new TreeMap<>();
+        private boolean changed;
+
+        private AggregatedClass(String packageName, PopulateConfig populateConfig) {
+            this.packageName = packageName;
+            this.populateConfig = populateConfig;
+        }
+
+        private boolean add(Class<?> clazz, String methodName, List<String> factoryMethod, ObjectResult objectResult) {
+            Class<?> existingClass = classes.get(methodName);
+            if (existingClass != null && !existingClass.equals(clazz) || hasClashingImports(objectResult)) {
+                return false;
+            }
+            objectResult.getImports().forEach(this::addImport);
+            objectResult.getStaticImports().forEach(this::addImport);
+            imports.addAll(objectResult.getImports());
+            staticImports.addAll(objectResult.getStaticImports());
+            methods.addAll(objectResult.getMethods());
+            classes.put(methodName, clazz);
+            factoryMethods.put(methodName, factoryMethod);
+            changed = true;
+            return true;
+        }
+
+        private boolean hasClashingImports(ObjectResult objectResult) {
+            Map<String, String> added = new HashMap<>(importsBySimpleName);
+            return objectResult.getImports().stream()
+                    .anyMatch(qualifiedName -> !qualifiedName.equals(added.computeIfAbsent(toSimpleName(qualifiedName), s -> qualifiedName))) ||
+                    objectResult.getStaticImports().stream()
+                            .anyMatch(qualifiedName -> !qualifiedName.equals(added.computeIfAbsent(toSimpleName(qualifiedName), s -> qualifiedName)));
+        }
+
+        private void addImport(String qualifiedName) {
+            importsBySimpleName.putIfAbsent(toSimpleName(qualifiedName), qualifiedName);
+        }
+
+        private static String toSimpleName(String qualifiedName) {
+            return qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+        }
+
+        private String render() {
+            ObjectResult objectResult = new ObjectResult(packageName, AGGREGATED_CLASS_NAME, imports, staticImports, List.of(), methods);
+            StringBuilder content = new StringBuilder();
+            writePackage(objectResult, content);
+            writeImports(objectResult, content);
+            writeStaticImports(objectResult, content);
+            writeStartClass(objectResult, content, populateConfig);
+            String separator = "";
+            for (List<String> factoryMethod : factoryMethods.values()) {
+                content.append(separator);
+                factoryMethod.forEach(line -> content.append(line).append(System.lineSeparator()));
+                separator = System.lineSeparator();
+            }
+            writeMethods(objectResult, content);
+            writeEndClass(content);
+            return content.toString();
+        }
+    }
+}
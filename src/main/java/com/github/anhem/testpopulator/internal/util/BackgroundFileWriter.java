@@ -0,0 +1,160 @@
+package com.github.anhem.testpopulator.internal.util;
+
+import com.github.anhem.testpopulator.exception.ObjectException;
+
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Writes generated files on a single daemon thread. Writes are queued by path, so a write to a path that is already
+ * queued replaces the queued one instead of adding another. The queue is bounded and a caller waits while it is full.
+ * Queued writes are flushed on {@link #flush()} and when the JVM shuts down. A write that fails, with an error too, is
+ * reported by the next flush, and a thread that dies anyway is started again by the next write or flush.
+ */
+public class BackgroundFileWriter {
+
+    static final int MAX_QUEUED_WRITES = 1024;
+    private static final String THREAD_NAME = "test-populator-writer";
+    static final String FAILED_TO_WRITE = "Failed to write generated file: %s";
+    private static final BackgroundFileWriter INSTANCE = new BackgroundFileWriter(MAX_QUEUED_WRITES);
+
+    private final int capacity;
+    private final Map<Path, Runnable> queue = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private RuntimeException failure;
+    private boolean writing;
+    private Thread worker;
+    private boolean shutdownHookAdded;
+
+    BackgroundFileWriter(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public static BackgroundFileWriter getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Queue a write. Replaces any write to the same path that has not started yet.
+     *
+     * @param path  file that is written
+     * @param write writes the file
+     */
+    public void write(Path path, Runnable write) {
+        lock.lock();
+        try {
+            while (queue.size() >= capacity && !queue.containsKey(path)) {
+                changed.awaitUninterruptibly();
+            }
+            queue.put(path, write);
+            startWorker();
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait until all queued writes are done.
+     *
+     * @throws ObjectException if a write failed since the last flush
+     */
+    public void flush() {
+        RuntimeException flushedFailure;
+        lock.lock();
+        try {
+            while (!queue.isEmpty() || writing) {
+                startWorker();
+                changed.awaitUninterruptibly();
+            }
+            flushedFailure = failure;
+            failure = null;
+        } finally {
+            lock.unlock();
+        }
+        if (flushedFailure != null) {
+            throw flushedFailure;
+        }
+    }
+
+    private void startWorker() {
+        if (worker == null && !queue.isEmpty()) {
+            worker = new Thread(this::run, THREAD_NAME);
+            worker.setDaemon(true);
+            worker.start();
+            if (!shutdownHookAdded) {
+                FileWriterUtil.flushOnShutdown(THREAD_NAME, this::flush);
+                shutdownHookAdded = true;
+            }
+        }
+    }
+
+    /**
+     * The thread is forgotten when it ends, so that it is started again, and the write it was doing no longer counts as
+     * ongoing
+     */
+    private void run() {
+        try {
+            while (true) {
+                Runnable write = take();
+                RuntimeException writeFailure = null;
+                try {
+                    write.run();
+                } catch (RuntimeException e) {
+                    writeFailure = e;
+                } catch (Throwable e) {
+                    writeFailure = new ObjectException(String.format(FAILED_TO_WRITE, e), e);
+                }
+                done(writeFailure);
+            }
+        } finally {
+            lock.lock();
+            try {
+                worker = null;
+                writing = false;
+                changed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private Runnable take() {
+        lock.lock();
+        try {
+            while (queue.isEmpty()) {
+                changed.awaitUninterruptibly();
+            }
+            Iterator<Runnable> iterator = queue.values().iterator();
+            Runnable write = iterator.next();
+            iterator.remove();
+            writing = true;
+            changed.signalAll();
+            return write;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void done(RuntimeException writeFailure) {
+        lock.lock();
+        try {
+            if (writeFailure != null) {
+                if (failure == null) {
+                    failure = writeFailure;
+                } else {
+                    failure.addSuppressed(writeFailure);
+                }
+            }
+            writing = false;
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -15,17 +15,15 @@ import static com.github.anhem.testpopulator.internal.util.PopulateUtil.getDecla
 
 public class BuilderUtil {
 
+    private static final String CUSTOM_BUILDER_METHODS = "customBuilderMethods";
+
     private BuilderUtil() {
     }
 
     public static <T> boolean isMatchingBuilderStrategy(Strategy strategy, Class<T> clazz, BuilderPattern builderPattern, String builderMethod) {
         if (strategy.equals(BUILDER)) {
             try {
-                if (builderPattern.equals(IMMUTABLES)) {
-                    getImmutablesGeneratedClass(clazz).getDeclaredMethod(builderMethod);
-                } else {
-                    clazz.getDeclaredMethod(builderMethod);
-                }
+                getBuilderMethod(clazz, builderPattern, builderMethod);
                 return true;
             } catch (NoSuchMethodException e) {
                 return false;
@@ -34,9 +32,16 @@ public class BuilderUtil {
         return false;
     }
 
+    public static <T> Method getBuilderMethod(Class<T> clazz, BuilderPattern builderPattern, String builderMethod) throws NoSuchMethodException {
+        if (builderPattern.equals(IMMUTABLES)) {
+            return getImmutablesGeneratedClass(clazz).getDeclaredMethod(builderMethod);
+        }
+        return clazz.getDeclaredMethod(builderMethod);
+    }
+
     public static <T> List<Method> getMethodsForCustomBuilder(Class<T> clazz, Set<String> blacklistedMethods) {
-        return getDeclaredMethods(clazz, blacklistedMethods).stream()
+        return ClassMetadata.of(clazz).memoize(CUSTOM_BUILDER_METHODS, blacklistedMethods, () -> getDeclaredMethods(clazz, blacklistedMethods).stream()
                 .filter(method -> method.getReturnType().equals(clazz) && method.getParameterCount() > 0)
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList()));
     }
 }
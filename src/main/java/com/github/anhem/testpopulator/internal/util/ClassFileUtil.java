@@ -0,0 +1,71 @@
+package com.github.anhem.testpopulator.internal.util;
+
+import com.github.anhem.testpopulator.exception.ObjectException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Identifies the bytecode of classes, for files that are kept between runs and are only valid as long as the classes
+ * they were created from are unchanged.
+ */
+public class ClassFileUtil {
+
+    private ClassFileUtil() {
+    }
+
+    /**
+     * @return location of the jar clazz was loaded from, or null if it was not loaded from a jar
+     */
+    public static String getJar(Class<?> clazz) {
+        CodeSource codeSource = clazz.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return null;
+        }
+        String location = codeSource.getLocation().toString();
+        return location.endsWith(".jar") ? location : null;
+    }
+
+    /**
+     * @return hash of the class file of clazz, or of its declared members if the class file can not be read
+     */
+    public static String toClassFileHash(Class<?> clazz) {
+        ClassLoader classLoader = clazz.getClassLoader();
+        String resource = clazz.getName().replace('.', '/') + ".class";
+        try (InputStream inputStream = classLoader != null ? classLoader.getResourceAsStream(resource) : null) {
+            if (inputStream != null) {
+                return md5(inputStream.readAllBytes());
+            }
+        } catch (IOException e) {
+            // fall back to the declared members
+        }
+        return md5(Stream.of(clazz.getDeclaredFields(), clazz.getDeclaredConstructors(), clazz.getDeclaredMethods())
+                .flatMap(Arrays::stream)
+                .map(Object::toString)
+                .sorted()
+                .collect(Collectors.joining(System.lineSeparator())));
+    }
+
+    public static String md5(String value) {
+        return md5(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String md5(byte[] bytes) {
+        try {
+            byte[] digest = MessageDigest.getInstance("MD5").digest(bytes);
+            return IntStream.range(0, digest.length)
+                    .mapToObj(i -> String.format("%02x", digest[i]))
+                    .collect(Collectors.joining());
+        } catch (NoSuchAlgorithmException e) {
+            throw new ObjectException("Could not create fingerprint", e);
+        }
+    }
+}
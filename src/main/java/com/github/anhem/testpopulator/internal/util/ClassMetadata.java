@@ -0,0 +1,177 @@
+package com.github.anhem.testpopulator.internal.util;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reflection metadata for a class, collected once and shared between populate calls. Stored using {@link ClassValue}
+ * so that the metadata of a class is dropped together with the class and never keeps a class loader alive.
+ * All lists are unmodifiable since they are shared.
+ */
+public class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> CLASS_METADATA = new ClassValue<>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> clazz) {
+            return new ClassMetadata(clazz);
+        }
+    };
+
+    /**
+     * The order of {@link Class#getDeclaredMethods()} may differ between runs, which would make seeded values differ
+     * depending on the order setters happen to be called in.
+     */
+    private static final Comparator<Method> METHOD_ORDER = Comparator.comparing(Method::getName)
+            .thenComparing(method -> Arrays.toString(method.getParameterTypes()))
+            .thenComparing(method -> method.getReturnType().getName());
+
+    private final List<Field> allDeclaredFields;
+    private final List<Method> allDeclaredMethods;
+    private final List<Method> callableMethods;
+    private final List<Constructor<?>> declaredConstructors;
+    private final boolean hasPublicConstructorWithoutArguments;
+    private final boolean hasConstructorWithoutArguments;
+    private final boolean hasPublicConstructorWithArguments;
+    private final boolean hasConstructorWithArguments;
+    private final Map<Set<String>, List<Field>> fieldsByBlacklist = new ConcurrentHashMap<>();
+    private final Map<Set<String>, List<Method>> methodsByBlacklist = new ConcurrentHashMap<>();
+    private final Map<List<Object>, Object> memoized = new ConcurrentHashMap<>();
+    private final Map<Member, Invoker> invokers = new ConcurrentHashMap<>();
+    private final Map<Member, Invoker> accessibleInvokers = new ConcurrentHashMap<>();
+
+    private ClassMetadata(Class<?> clazz) {
+        List<Field> fields = new ArrayList<>();
+        List<Method> methods = new ArrayList<>();
+        for (Class<?> current = clazz; current != null; current = current.getSuperclass()) {
+            fields.addAll(Arrays.asList(current.getDeclaredFields()));
+            methods.addAll(Stream.of(current.getDeclaredMethods()).sorted(METHOD_ORDER).collect(Collectors.toList()));
+        }
+        this.allDeclaredFields = Collections.unmodifiableList(fields);
+        this.allDeclaredMethods = Collections.unmodifiableList(methods);
+        this.callableMethods = methods.stream()
+                .filter(method -> !Modifier.isNative(method.getModifiers()))
+                .filter(method -> !PopulateUtil.isWaitMethod(method))
+                .collect(Collectors.toUnmodifiableList());
+        this.declaredConstructors = List.of(clazz.getDeclaredConstructors());
+        this.hasPublicConstructorWithoutArguments = hasConstructor(declaredConstructors, false, true);
+        this.hasConstructorWithoutArguments = hasConstructor(declaredConstructors, false, false);
+        this.hasPublicConstructorWithArguments = hasConstructor(declaredConstructors, true, true);
+        this.hasConstructorWithArguments = hasConstructor(declaredConstructors, true, false);
+    }
+
+    public static ClassMetadata of(Class<?> clazz) {
+        return CLASS_METADATA.get(clazz);
+    }
+
+    /**
+     * @return declared fields of the class and all its superclasses
+     */
+    public List<Field> getAllDeclaredFields() {
+        return allDeclaredFields;
+    }
+
+    /**
+     * @return declared methods of the class and all its superclasses, including native and wait methods. Methods of each
+     * class are sorted by name and parameter types.
+     */
+    public List<Method> getAllDeclaredMethods() {
+        return allDeclaredMethods;
+    }
+
+    public List<Constructor<?>> getDeclaredConstructors() {
+        return declaredConstructors;
+    }
+
+    public List<Field> getDeclaredFields(Set<String> blacklistedFields) {
+        List<Field> fields = fieldsByBlacklist.get(blacklistedFields);
+        if (fields == null) {
+            fields = allDeclaredFields.stream()
+                    .filter(field -> !blacklistedFields.contains(field.getName()))
+                    .collect(Collectors.toUnmodifiableList());
+            fieldsByBlacklist.putIfAbsent(Set.copyOf(blacklistedFields), fields);
+        }
+        return fields;
+    }
+
+    /**
+     * @return declared methods of the class and all its superclasses that are not native, wait or blacklisted methods
+     */
+    public List<Method> getDeclaredMethods(Set<String> blacklistedMethods) {
+        List<Method> methods = methodsByBlacklist.get(blacklistedMethods);
+        if (methods == null) {
+            methods = callableMethods.stream()
+                    .filter(method -> !blacklistedMethods.contains(method.getName()))
+                    .collect(Collectors.toUnmodifiableList());
+            methodsByBlacklist.putIfAbsent(Set.copyOf(blacklistedMethods), methods);
+        }
+        return methods;
+    }
+
+    public boolean hasConstructorWithoutArguments(boolean canAccessNonPublicConstructor) {
+        return canAccessNonPublicConstructor ? hasConstructorWithoutArguments : hasPublicConstructorWithoutArguments;
+    }
+
+    public boolean hasConstructorWithArguments(boolean canAccessNonPublicConstructor) {
+        return canAccessNonPublicConstructor ? hasConstructorWithArguments : hasPublicConstructorWithArguments;
+    }
+
+    /**
+     * Compute a value derived from this class once. The kind identifies the derivation and the argument holds
+     * whatever else it depends on, typically a blacklist.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V memoize(String kind, Object argument, Supplier<V> supplier) {
+        List<Object> key = Arrays.asList(kind, argument);
+        Object value = memoized.get(key);
+        if (value == null) {
+            value = supplier.get();
+            Object existing = memoized.putIfAbsent(Arrays.asList(kind, copyOf(argument)), value);
+            if (existing != null) {
+                value = existing;
+            }
+        }
+        return (V) value;
+    }
+
+    /**
+     * @return invoker for a member declared by this class, see {@link Invoker}
+     */
+    public Invoker getInvoker(Member member, boolean suppressAccessChecks) {
+        Map<Member, Invoker> cache = suppressAccessChecks ? accessibleInvokers : invokers;
+        Invoker invoker = cache.get(member);
+        if (invoker == null) {
+            invoker = Invoker.create(member, suppressAccessChecks);
+            Invoker existing = cache.putIfAbsent(member, invoker);
+            if (existing != null) {
+                invoker = existing;
+            }
+        }
+        return invoker;
+    }
+
+    private static Object copyOf(Object argument) {
+        if (argument instanceof Set) {
+            return Set.copyOf((Set<?>) argument);
+        }
+        if (argument instanceof List) {
+            return ((List<?>) argument).stream()
+                    .map(ClassMetadata::copyOf)
+                    .collect(Collectors.toUnmodifiableList());
+        }
+        return argument;
+    }
+
+    private static boolean hasConstructor(List<Constructor<?>> constructors, boolean withArguments, boolean publicOnly) {
+        return constructors.stream()
+                .filter(constructor -> withArguments ? constructor.getParameterCount() > 0 : constructor.getParameterCount() == 0)
+                .anyMatch(constructor -> !publicOnly || Modifier.isPublic(constructor.getModifiers()));
+    }
+}
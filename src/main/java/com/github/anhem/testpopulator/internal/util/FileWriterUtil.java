@@ -5,12 +5,18 @@ import com.github.anhem.testpopulator.exception.ObjectException;
 import com.github.anhem.testpopulator.internal.object.ObjectResult;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardCopyOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.WeakHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -20,6 +26,18 @@ import static com.github.anhem.testpopulator.internal.util.ObjectBuilderUtil.STA
 
 public class FileWriterUtil {
 
+    /**
+     * Encoded configurations by PopulateConfig instance. PopulateConfig does not override equals, so the same
+     * configuration is only encoded once per instance, and weak keys let configurations of finished populate calls go.
+     */
+    private static final Map<PopulateConfig, String> ENCODED_CONFIGS = Collections.synchronizedMap(new WeakHashMap<>());
+    static final int MAX_INLINE_OBJECT_LINES = 1000;
+    private static final int MAX_METHOD_LINES = 200;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final Object[] PATH_LOCKS = IntStream.range(0, 64)
+            .mapToObj(i -> new Object())
+            .toArray();
+
     private FileWriterUtil() {
     }
 
@@ -31,74 +49,158 @@ public class FileWriterUtil {
         return Paths.get(populateConfig.getObjectFactoryPath(), toPackagePath(packageName), String.format("%s_%s.java", className, encode(populateConfig)));
     }
 
-    public static void createOrOverwriteFile(Path path) {
+    /**
+     * Render the whole class of an object result.
+     *
+     * @return content of the file
+     */
+    public static String render(ObjectResult objectResult, PopulateConfig populateConfig) {
+        StringBuilder content = new StringBuilder();
+        writePackage(objectResult, content);
+        writeImports(objectResult, content);
+        writeStaticImports(objectResult, content);
+        writeStartClass(objectResult, content, populateConfig);
+        writeObjects(objectResult, content);
+        writeMethods(objectResult, content);
+        writeEndClass(content);
+        return content.toString();
+    }
+
+    /**
+     * Write content to path in a single write, unless the file already has exactly that content.
+     *
+     * @return true if the file was written
+     */
+    public static boolean writeIfChanged(Path path, String content) {
+        byte[] bytes = content.getBytes(StandardCharsets.UTF_8);
+        synchronized (getPathLock(path)) {
+            try {
+                if (hasContent(path, bytes)) {
+                    return false;
+                }
+                Files.createDirectories(path.getParent());
+                writeAtomically(path, bytes);
+                return true;
+            } catch (IOException e) {
+                throw new ObjectException(String.format("Could not create or overwrite %s", path.toAbsolutePath()), e);
+            }
+        }
+    }
+
+    /**
+     * Run flush when the JVM shuts down. Nothing is left to report a failure to by then, so a file that can not be
+     * written is only left as it was.
+     */
+    static void flushOnShutdown(String name, Runnable flush) {
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                flush.run();
+            } catch (RuntimeException e) {
+                // the files are written again by the next run
+            }
+        }, name + "-shutdown"));
+    }
+
+    /**
+     * Writes to a temporary file next to path and moves it into place, so readers and concurrent writers in other
+     * processes never see a partially written file.
+     */
+    private static void writeAtomically(Path path, byte[] bytes) throws IOException {
+        Path tempFile = Files.createTempFile(path.getParent(), path.getFileName().toString(), TEMP_FILE_SUFFIX);
         try {
-            Files.createDirectories(path.getParent());
-            Files.writeString(path, "", StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
-        } catch (IOException e) {
-            throw new ObjectException(String.format("Could not create or overwrite %s", path.toAbsolutePath()), e);
+            Files.write(tempFile, bytes);
+            try {
+                Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
         }
     }
 
-    public static void writePackage(ObjectResult objectResult, Path path) {
-        writeLine(path, String.format("package %s;%s", objectResult.getPackageName(), System.lineSeparator()));
+    /**
+     * Writes to the same path within this JVM are serialized, so a write that finds identical content already in place
+     * is skipped instead of being repeated.
+     */
+    private static Object getPathLock(Path path) {
+        return PATH_LOCKS[Math.floorMod(path.toAbsolutePath().normalize().hashCode(), PATH_LOCKS.length)];
     }
 
-    public static void writeImports(ObjectResult objectResult, Path path) {
+    private static boolean hasContent(Path path, byte[] bytes) throws IOException {
+        return Files.isRegularFile(path) && Files.size(path) == bytes.length && Arrays.equals(Files.readAllBytes(path), bytes);
+    }
+
+    static void writePackage(ObjectResult objectResult, StringBuilder content) {
+        writeLine(content, String.format("package %s;%s", objectResult.getPackageName(), System.lineSeparator()));
+    }
+
+    static void writeImports(ObjectResult objectResult, StringBuilder content) {
         objectResult.getImports().stream()
                 .sorted()
-                .forEach(s -> writeLine(path, String.format("import %s;", s)));
-        writeLine(path, "");
+                .forEach(s -> writeLine(content, String.format("import %s;", s)));
+        writeLine(content, "");
     }
 
-    public static void writeStaticImports(ObjectResult objectResult, Path path) {
+    static void writeStaticImports(ObjectResult objectResult, StringBuilder content) {
         objectResult.getStaticImports().stream()
                 .sorted()
-                .forEach(s -> writeLine(path, String.format("import static %s;", s)));
-        writeLine(path, "");
+                .forEach(s -> writeLine(content, String.format("import static %s;", s)));
+        writeLine(content, "");
     }
 
-    public static void writeStartClass(ObjectResult objectResult, Path path, PopulateConfig populateConfig) {
-        writeLine(path, String.format("public class %s_%s {%s", objectResult.getClassName(), encode(populateConfig), System.lineSeparator()));
+    static void writeStartClass(ObjectResult objectResult, StringBuilder content, PopulateConfig populateConfig) {
+        writeLine(content, String.format("public class %s_%s {%s", objectResult.getClassName(), encode(populateConfig), System.lineSeparator()));
     }
 
-    public static void writeEndClass(Path path) {
-        writeLine(path, "}");
+    static void writeEndClass(StringBuilder content) {
+        writeLine(content, "}");
     }
 
-    public static void writeMethods(ObjectResult objectResult, Path path) {
+    static void writeMethods(ObjectResult objectResult, StringBuilder content) {
         if (!objectResult.getMethods().isEmpty()) {
-            writeLine(path, "");
+            writeLine(content, "");
             objectResult.getMethods().stream()
                     .sorted()
-                    .forEach(method -> writeLine(path, method));
+                    .forEach(method -> writeLine(content, method));
         }
     }
 
-    public static void writeObjects(ObjectResult objectResult, Path path) {
+    static void writeObjects(ObjectResult objectResult, StringBuilder content) {
+        writeObjects(objectResult, content, MAX_INLINE_OBJECT_LINES, MAX_METHOD_LINES);
+    }
+
+    /**
+     * Objects are written as static initializers, unless there are more than maxInlineObjectLines lines, in which case
+     * they are split into methods of about maxMethodLines lines each. Long statements count as several lines, see
+     * {@link ObjectSplitUtil#countLines}.
+     */
+    static void writeObjects(ObjectResult objectResult, StringBuilder content, int maxInlineObjectLines, int maxMethodLines) {
+        if (ObjectSplitUtil.countLines(objectResult.getObjects()) > maxInlineObjectLines && ObjectSplitUtil.writeObjects(objectResult.getObjects(), maxMethodLines, line -> writeLine(content, line))) {
+            return;
+        }
         objectResult.getObjects().forEach(s -> {
             if (s.startsWith(STATIC_BLOCK_START)) {
-                writeLine(path, String.format("%s\t%s", System.lineSeparator(), s));
+                writeLine(content, String.format("%s\t%s", System.lineSeparator(), s));
             } else if (s.startsWith(STATIC_BLOCK_END)) {
-                writeLine(path, String.format("\t%s", s));
+                writeLine(content, String.format("\t%s", s));
             } else if (s.startsWith(PSF)) {
-                writeLine(path, String.format("\t%s", s));
+                writeLine(content, String.format("\t%s", s));
             } else {
-                writeLine(path, String.format("\t\t%s", s));
+                writeLine(content, String.format("\t\t%s", s));
             }
         });
     }
 
-    private static void writeLine(Path path, String line) {
-        String formattedLine = String.format("%s%s", line, System.lineSeparator());
-        try {
-            Files.writeString(path, formattedLine, StandardOpenOption.APPEND);
-        } catch (IOException e) {
-            throw new ObjectException(String.format("Write %s to %s failed", formattedLine, path.toAbsolutePath()), e);
-        }
+    private static void writeLine(StringBuilder content, String line) {
+        content.append(line).append(System.lineSeparator());
     }
 
     static String encode(PopulateConfig populateConfig) {
+        return ENCODED_CONFIGS.computeIfAbsent(populateConfig, FileWriterUtil::encodeConfig);
+    }
+
+    private static String encodeConfig(PopulateConfig populateConfig) {
         try {
             MessageDigest messageDigest = MessageDigest.getInstance("MD5");
             byte[] bytes = messageDigest.digest(populateConfig.toString().getBytes());
@@ -0,0 +1,174 @@
+package com.github.anhem.testpopulator.internal.util;
+
+import com.github.anhem.testpopulator.PopulateFactory;
+import com.github.anhem.testpopulator.config.PopulateConfig;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.github.anhem.testpopulator.internal.util.ClassFileUtil.*;
+import static com.github.anhem.testpopulator.internal.util.FileWriterUtil.encode;
+import static com.github.anhem.testpopulator.internal.util.FileWriterUtil.getPath;
+import static com.github.anhem.testpopulator.internal.util.ObjectBuilderUtil.formatClassName;
+import static com.github.anhem.testpopulator.internal.util.ObjectBuilderUtil.getPackageName;
+import static com.github.anhem.testpopulator.internal.util.PopulateUtil.isJavaBaseClass;
+
+/**
+ * Fingerprints of generated files, kept in an index file in the object factory path. A fingerprint covers the
+ * configuration and the class files of every class reachable from the populated class through fields, constructors and
+ * methods. When the fingerprint of a generated file is unchanged the file would get the same content, so populate skips
+ * generating code for it.
+ * <p>
+ * Only configurations that always generate the same code have fingerprints, which rules out random values and
+ * overrides.
+ */
+public class GeneratedFileIndex {
+
+    static final String INDEX_FILE_NAME = ".test-populator-index";
+    private static final String SEPARATOR = "\t";
+    private static final Map<Path, GeneratedFileIndex> INDEXES = new ConcurrentHashMap<>();
+    private static final ClassValue<String> CLASS_FINGERPRINTS = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> clazz) {
+            return toClassFingerprint(clazz);
+        }
+    };
+
+    private final Path indexPath;
+    private final Map<String, String> fingerprints;
+
+    private GeneratedFileIndex(Path indexPath) {
+        this.indexPath = indexPath;
+        this.fingerprints = read(indexPath);
+    }
+
+    /**
+     * @return true if the file generated for clazz exists and was generated from the same classes and configuration
+     */
+    public static boolean isUpToDate(Class<?> clazz, PopulateConfig populateConfig) {
+        String fingerprint = toFingerprint(clazz, populateConfig);
+        if (fingerprint == null) {
+            return false;
+        }
+        Path path = getPath(getPackageName(clazz), formatClassName(clazz), populateConfig);
+        return getIndex(populateConfig).isUpToDate(path, fingerprint);
+    }
+
+    /**
+     * Remember the fingerprint of a file that has been generated for clazz
+     */
+    public static void update(Class<?> clazz, PopulateConfig populateConfig, Path path) {
+        String fingerprint = toFingerprint(clazz, populateConfig);
+        if (fingerprint != null) {
+            getIndex(populateConfig).update(path, fingerprint);
+        }
+    }
+
+    /**
+     * @return fingerprint, or null if the configuration does not always generate the same code or the classes could
+     * not be inspected
+     */
+    static String toFingerprint(Class<?> clazz, PopulateConfig populateConfig) {
+        if (populateConfig.isRandomValues() || !populateConfig.getClassOverrides().isEmpty() || !populateConfig.getNameOverrides().isEmpty()) {
+            return null;
+        }
+        String classFingerprint = CLASS_FINGERPRINTS.get(clazz);
+        return classFingerprint == null ? null : md5(String.join(System.lineSeparator(),
+                String.valueOf(PopulateFactory.class.getPackage().getImplementationVersion()),
+                encode(populateConfig),
+                classFingerprint));
+    }
+
+    private static GeneratedFileIndex getIndex(PopulateConfig populateConfig) {
+        return INDEXES.computeIfAbsent(Paths.get(populateConfig.getObjectFactoryPath(), INDEX_FILE_NAME).toAbsolutePath().normalize(), GeneratedFileIndex::new);
+    }
+
+    private boolean isUpToDate(Path path, String fingerprint) {
+        return fingerprint.equals(fingerprints.get(toKey(path))) && Files.isRegularFile(path);
+    }
+
+    private synchronized void update(Path path, String fingerprint) {
+        if (!fingerprint.equals(fingerprints.put(toKey(path), fingerprint))) {
+            FileWriterUtil.writeIfChanged(indexPath, fingerprints.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(entry -> entry.getKey() + SEPARATOR + entry.getValue() + System.lineSeparator())
+                    .collect(Collectors.joining()));
+        }
+    }
+
+    private String toKey(Path path) {
+        return indexPath.getParent().relativize(path.toAbsolutePath().normalize()).toString().replace('\\', '/');
+    }
+
+    private static Map<String, String> read(Path indexPath) {
+        Map<String, String> fingerprints = new ConcurrentHashMap<>();
+        if (Files.isRegularFile(indexPath)) {
+            try (Stream<String> lines = Files.lines(indexPath, StandardCharsets.UTF_8)) {
+                lines.map(line -> line.split(SEPARATOR, 2))
+                        .filter(entry -> entry.length == 2)
+                        .forEach(entry -> fingerprints.put(entry[0], entry[1]));
+            } catch (IOException | UncheckedIOException e) {
+                fingerprints.clear();
+            }
+        }
+        return fingerprints;
+    }
+
+    /**
+     * Class files of all classes reachable from clazz that are not part of the JDK, ordered by name. Classes loaded
+     * from a jar are identified by the jar instead, and what they reference is not followed.
+     */
+    private static String toClassFingerprint(Class<?> clazz) {
+        try {
+            return toReachableClasses(clazz).values().stream()
+                    .map(reachableClass -> reachableClass.getName() + SEPARATOR + Optional.ofNullable(getJar(reachableClass)).orElseGet(() -> toClassFileHash(reachableClass)))
+                    .collect(Collectors.joining(System.lineSeparator()));
+        } catch (LinkageError | TypeNotPresentException | MalformedParameterizedTypeException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, Class<?>> toReachableClasses(Class<?> clazz) {
+        Map<String, Class<?>> reachable = new TreeMap<>();
+        Deque<Type> types = new ArrayDeque<>(List.of(clazz));
+        while (!types.isEmpty()) {
+            Type type = types.pop();
+            if (type instanceof Class<?>) {
+                Class<?> reachableClass = (Class<?>) type;
+                if (reachableClass.isArray()) {
+                    types.push(reachableClass.getComponentType());
+                } else if (!reachableClass.isPrimitive() && !isJavaBaseClass(reachableClass) && reachable.putIfAbsent(reachableClass.getName(), reachableClass) == null && getJar(reachableClass) == null) {
+                    addReferencedTypes(reachableClass, types);
+                }
+            } else if (type instanceof ParameterizedType) {
+                types.push(((ParameterizedType) type).getRawType());
+                types.addAll(List.of(((ParameterizedType) type).getActualTypeArguments()));
+            } else if (type instanceof GenericArrayType) {
+                types.push(((GenericArrayType) type).getGenericComponentType());
+            } else if (type instanceof WildcardType) {
+                types.addAll(List.of(((WildcardType) type).getUpperBounds()));
+            }
+        }
+        return reachable;
+    }
+
+    private static void addReferencedTypes(Class<?> clazz, Deque<Type> types) {
+        Optional.ofNullable(clazz.getGenericSuperclass()).ifPresent(types::add);
+        types.addAll(List.of(clazz.getGenericInterfaces()));
+        Arrays.stream(clazz.getDeclaredFields()).map(Field::getGenericType).forEach(types::add);
+        Arrays.stream(clazz.getDeclaredConstructors()).flatMap(constructor -> Arrays.stream(constructor.getGenericParameterTypes())).forEach(types::add);
+        Arrays.stream(clazz.getDeclaredMethods()).forEach(method -> {
+            types.add(method.getGenericReturnType());
+            types.addAll(List.of(method.getGenericParameterTypes()));
+        });
+    }
+}
@@ -16,10 +16,7 @@ public class ImmutablesUtil {
     static final String ADD_ALL_PREFIX = "addAll";
     static final String PUT_PREFIX = "put";
     static final String PUT_ALL_PREFIX = "putAll";
-    private static final String ADD_METHOD_PATTERN = String.format("%s%s", ADD_PREFIX, MATCH_FIRST_CHARACTER_UPPERCASE);
-    private static final String ADD_ALL_METHOD_PATTERN = String.format("%s%s", ADD_ALL_PREFIX, MATCH_FIRST_CHARACTER_UPPERCASE);
-    private static final String PUT_METHOD_PATTERN = String.format("%s%s", PUT_PREFIX, MATCH_FIRST_CHARACTER_UPPERCASE);
-    private static final String PUT_ALL_METHOD_PATTERN = String.format("%s%s", PUT_ALL_PREFIX, MATCH_FIRST_CHARACTER_UPPERCASE);
+    private static final String IMMUTABLES_BUILDER_METHODS = "immutablesBuilderMethods";
     public static final String CLASS_PREFIX = "Immutable";
     public static final String DOT = ".";
     public static final String FAILED_TO_FIND_CLASS = "Unable to find Immutables generated class for %s";
@@ -28,12 +25,16 @@ public class ImmutablesUtil {
     }
 
     public static <T> List<Method> getMethodsForImmutablesBuilder(Class<T> clazz, Object builderObject, Set<String> blacklistedMethods) {
-        List<Method> declaredMethods = getDeclaredMethods(builderObject.getClass(), blacklistedMethods);
-        return removeMethodsDoingTheSameThing(declaredMethods).stream()
-                .filter(PopulateUtil::hasAtLeastOneParameter)
-                .filter(method -> !isDeclaringJavaBaseClass(method))
-                .filter(method -> !isSameMethodParameterAsClass(clazz, method))
-                .collect(Collectors.toList());
+        return getMethodsForImmutablesBuilder(clazz, builderObject.getClass(), blacklistedMethods);
+    }
+
+    public static <T> List<Method> getMethodsForImmutablesBuilder(Class<T> clazz, Class<?> builderClass, Set<String> blacklistedMethods) {
+        return ClassMetadata.of(builderClass).memoize(IMMUTABLES_BUILDER_METHODS, List.of(clazz, blacklistedMethods), () ->
+                removeMethodsDoingTheSameThing(getDeclaredMethods(builderClass, blacklistedMethods)).stream()
+                        .filter(PopulateUtil::hasAtLeastOneParameter)
+                        .filter(method -> !isDeclaringJavaBaseClass(method))
+                        .filter(method -> !isSameMethodParameterAsClass(clazz, method))
+                        .collect(Collectors.toUnmodifiableList()));
     }
 
     public static Class<?> getImmutablesGeneratedClass(Class<?> clazz) {
@@ -82,19 +83,19 @@ public class ImmutablesUtil {
     }
 
     private static boolean isAddMethod(Method method) {
-        return method.getName().matches(ADD_METHOD_PATTERN);
+        return hasPrefixFollowedByUppercase(method.getName(), ADD_PREFIX);
     }
 
     private static boolean isAddAllMethod(Method method) {
-        return method.getName().matches(ADD_ALL_METHOD_PATTERN);
+        return hasPrefixFollowedByUppercase(method.getName(), ADD_ALL_PREFIX);
     }
 
     private static boolean isPutMethod(Method method) {
-        return method.getName().matches(PUT_METHOD_PATTERN);
+        return hasPrefixFollowedByUppercase(method.getName(), PUT_PREFIX);
     }
 
     private static boolean isPutAllMethod(Method method) {
-        return method.getName().matches(PUT_ALL_METHOD_PATTERN);
+        return hasPrefixFollowedByUppercase(method.getName(), PUT_ALL_PREFIX);
     }
 
     private static boolean isAbstract(Class<?> clazz) {
@@ -0,0 +1,470 @@
+package com.github.anhem.testpopulator.internal.util;
+
+import com.github.anhem.testpopulator.internal.event.PopulateEvents;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.*;
+import java.util.Arrays;
+import java.util.function.*;
+
+/**
+ * Calls a constructor, method or field setter. Members are resolved once into a {@link MethodHandle} adapted to
+ * {@code (Object, Object[])Object}, so every call is an exact invocation without the per call access checks of core
+ * reflection. Members a handle can not be created for are called using reflection instead.
+ * <p>
+ * A handle held in an instance field is not a constant to the JIT, so invoking it runs through the generic adapters of
+ * the handle instead of calling the member. Constructors and methods that take at most one argument, which covers
+ * no-args constructors, setters, builder methods and build methods, are therefore also bound to a typed accessor, e.g.
+ * a {@link Supplier} or {@link BiConsumer}, created by {@link LambdaMetafactory}. The accessor is a class of its own
+ * that calls the member directly, so the JIT can inline the member into it. Members the accessor can not be created
+ * for, e.g. because the declaring class is in a module that is not open, use the handle.
+ * <p>
+ * Arguments are checked the same way {@link Method#invoke(Object, Object...)} checks them, so a wrong target, a wrong
+ * number of arguments or an argument of the wrong type is an {@link IllegalArgumentException}, and only exceptions
+ * thrown by the member itself are wrapped in an {@link InvocationTargetException}.
+ * <p>
+ * Methods and fields that take one primitive int, long, double or boolean also get a handle of e.g.
+ * {@code (Object, int)void}, so that {@link #invokeInt(Object, int)} and its siblings pass the value without boxing it.
+ * Methods that take an int, long or double get an {@link ObjIntConsumer}, {@link ObjLongConsumer} or
+ * {@link ObjDoubleConsumer} for the same reason.
+ * <p>
+ * Access checks are suppressed using a private lookup on the declaring class rather than by calling
+ * {@link AccessibleObject#setAccessible(boolean)}, which leaves the members shared through {@link ClassMetadata}
+ * untouched. Invokers are cached in the {@link ClassMetadata} of the declaring class.
+ */
+public abstract class Invoker {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final MethodType GET_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType APPLY_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType ACCEPT_TYPE = MethodType.methodType(void.class, Object.class);
+    private static final MethodType BI_APPLY_TYPE = MethodType.methodType(Object.class, Object.class, Object.class);
+    private static final MethodType BI_ACCEPT_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    public static Invoker of(Constructor<?> constructor, boolean canAccessNonPublicConstructor) {
+        return ClassMetadata.of(constructor.getDeclaringClass()).getInvoker(constructor, canAccessNonPublicConstructor);
+    }
+
+    public static Invoker of(Method method) {
+        return of(method, false);
+    }
+
+    public static Invoker of(Method method, boolean suppressAccessChecks) {
+        return ClassMetadata.of(method.getDeclaringClass()).getInvoker(method, suppressAccessChecks);
+    }
+
+    public static Invoker of(Field field) {
+        return ClassMetadata.of(field.getDeclaringClass()).getInvoker(field, true);
+    }
+
+    /**
+     * @param target    object to call the member on, ignored for constructors and static members
+     * @param arguments arguments of the call, the value to set for fields
+     * @return created object, returned value or null for void methods and fields
+     * @throws InvocationTargetException wrapping any exception thrown by the member itself
+     * @throws IllegalArgumentException if target or arguments do not match the member
+     */
+    public final Object invoke(Object target, Object... arguments) throws ReflectiveOperationException {
+        PopulateEvents.reflectiveCall();
+        return call(target, arguments);
+    }
+
+    /**
+     * Call a method or set a field that takes one primitive int
+     */
+    public final void invokeInt(Object target, int value) throws ReflectiveOperationException {
+        PopulateEvents.reflectiveCall();
+        callInt(target, value);
+    }
+
+    /**
+     * Call a method or set a field that takes one primitive long
+     */
+    public final void invokeLong(Object target, long value) throws ReflectiveOperationException {
+        PopulateEvents.reflectiveCall();
+        callLong(target, value);
+    }
+
+    /**
+     * Call a method or set a field that takes one primitive double
+     */
+    public final void invokeDouble(Object target, double value) throws ReflectiveOperationException {
+        PopulateEvents.reflectiveCall();
+        callDouble(target, value);
+    }
+
+    /**
+     * Call a method or set a field that takes one primitive boolean
+     */
+    public final void invokeBoolean(Object target, boolean value) throws ReflectiveOperationException {
+        PopulateEvents.reflectiveCall();
+        callBoolean(target, value);
+    }
+
+    abstract Object call(Object target, Object[] arguments) throws ReflectiveOperationException;
+
+    /**
+     * Boxes value, overridden where the member has a primitive handle
+     */
+    void callInt(Object target, int value) throws ReflectiveOperationException {
+        call(target, new Object[]{value});
+    }
+
+    void callLong(Object target, long value) throws ReflectiveOperationException {
+        call(target, new Object[]{value});
+    }
+
+    void callDouble(Object target, double value) throws ReflectiveOperationException {
+        call(target, new Object[]{value});
+    }
+
+    void callBoolean(Object target, boolean value) throws ReflectiveOperationException {
+        call(target, new Object[]{value});
+    }
+
+    static Invoker create(Member member, boolean suppressAccessChecks) {
+        try {
+            MethodHandles.Lookup lookup = suppressAccessChecks ? MethodHandles.privateLookupIn(member.getDeclaringClass(), LOOKUP) : LOOKUP;
+            MethodHandle methodHandle = toDirectMethodHandle(lookup, member);
+            MethodHandle primitiveMethodHandle = toPrimitiveMethodHandle(lookup, member);
+            return new MethodHandleInvoker(toInvokerType(methodHandle, getTargetClass(member) != null), toAccessor(member, methodHandle),
+                    primitiveMethodHandle, toPrimitiveAccessor(member, methodHandle, primitiveMethodHandle), getTargetClass(member), getParameterTypes(member));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return new ReflectionInvoker(suppressAccessChecks ? toAccessibleCopy(member) : member);
+        }
+    }
+
+    private static MethodHandle toDirectMethodHandle(MethodHandles.Lookup lookup, Member member) throws IllegalAccessException {
+        if (member instanceof Constructor) {
+            return lookup.unreflectConstructor((Constructor<?>) member);
+        }
+        if (member instanceof Method) {
+            return lookup.unreflect((Method) member);
+        }
+        return lookup.unreflectSetter((Field) member);
+    }
+
+    /**
+     * @return accessor calling the member directly, or null if member is a field, takes more than one argument, is a
+     * static void method or the accessor can not be created
+     */
+    private static Accessor toAccessor(Member member, MethodHandle methodHandle) {
+        if (member instanceof Field || ((Executable) member).getParameterCount() > 1) {
+            return null;
+        }
+        boolean hasTarget = getTargetClass(member) != null;
+        boolean hasArgument = ((Executable) member).getParameterCount() == 1;
+        boolean returnsValue = methodHandle.type().returnType() != void.class;
+        if (!hasTarget && !returnsValue) {
+            return null;
+        }
+        try {
+            if (!hasTarget && !hasArgument) {
+                Supplier<Object> supplier = toLambda(member, methodHandle, Supplier.class, GET_TYPE);
+                return (target, arguments) -> supplier.get();
+            }
+            if (!hasTarget || !hasArgument && returnsValue) {
+                Function<Object, Object> function = toLambda(member, methodHandle, Function.class, APPLY_TYPE);
+                return hasTarget ? (target, arguments) -> function.apply(target) : (target, arguments) -> function.apply(arguments[0]);
+            }
+            if (!hasArgument) {
+                Consumer<Object> consumer = toLambda(member, methodHandle, Consumer.class, ACCEPT_TYPE);
+                return (target, arguments) -> {
+                    consumer.accept(target);
+                    return null;
+                };
+            }
+            if (returnsValue) {
+                BiFunction<Object, Object, Object> function = toLambda(member, methodHandle, BiFunction.class, BI_APPLY_TYPE);
+                return (target, arguments) -> function.apply(target, arguments[0]);
+            }
+            BiConsumer<Object, Object> consumer = toLambda(member, methodHandle, BiConsumer.class, BI_ACCEPT_TYPE);
+            return (target, arguments) -> {
+                consumer.accept(target, arguments[0]);
+                return null;
+            };
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return {@link ObjIntConsumer}, {@link ObjLongConsumer} or {@link ObjDoubleConsumer} calling a method that takes
+     * one primitive, or null if there is no primitive handle, the primitive is a boolean or the accessor can not be
+     * created
+     */
+    private static Object toPrimitiveAccessor(Member member, MethodHandle methodHandle, MethodHandle primitiveMethodHandle) {
+        if (!(member instanceof Method) || primitiveMethodHandle == null) {
+            return null;
+        }
+        Class<?> type = primitiveMethodHandle.type().parameterType(1);
+        try {
+            if (type == int.class) {
+                return toLambda(member, methodHandle, ObjIntConsumer.class, MethodType.methodType(void.class, Object.class, int.class));
+            }
+            if (type == long.class) {
+                return toLambda(member, methodHandle, ObjLongConsumer.class, MethodType.methodType(void.class, Object.class, long.class));
+            }
+            if (type == double.class) {
+                return toLambda(member, methodHandle, ObjDoubleConsumer.class, MethodType.methodType(void.class, Object.class, double.class));
+            }
+            return null;
+        } catch (Throwable e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates the lambda in the declaring class, which can see both the member and the functional interface. Wrappers
+     * are unboxed and primitive results are boxed the same way a lambda expression would.
+     *
+     * @param functionalInterface interface of the lambda, with one method named get, apply or accept of samType
+     */
+    @SuppressWarnings("unchecked")
+    private static <T> T toLambda(Member member, MethodHandle methodHandle, Class<?> functionalInterface, MethodType samType) throws Throwable {
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(member.getDeclaringClass(), LOOKUP);
+        MethodType wrappedType = methodHandle.type().wrap();
+        MethodType instantiatedType = MethodType.methodType(samType.returnType() == void.class ? void.class : wrappedType.returnType());
+        for (int i = 0; i < samType.parameterCount(); i++) {
+            instantiatedType = instantiatedType.appendParameterTypes(samType.parameterType(i).isPrimitive() ? samType.parameterType(i) : wrappedType.parameterType(i));
+        }
+        String methodName = functionalInterface == Supplier.class ? "get" : samType.returnType() == void.class ? "accept" : "apply";
+        return (T) LambdaMetafactory.metafactory(lookup, methodName, MethodType.methodType(functionalInterface), samType, methodHandle, instantiatedType)
+                .getTarget()
+                .invoke();
+    }
+
+    /**
+     * @return handle of type (Object, primitive)void, or null if member does not take one int, long, double or boolean
+     */
+    private static MethodHandle toPrimitiveMethodHandle(MethodHandles.Lookup lookup, Member member) {
+        if (member instanceof Constructor || Modifier.isStatic(member.getModifiers())) {
+            return null;
+        }
+        Class<?> type = member instanceof Method ? getSingleParameterType((Method) member) : ((Field) member).getType();
+        if (type != int.class && type != long.class && type != double.class && type != boolean.class) {
+            return null;
+        }
+        try {
+            MethodHandle methodHandle = member instanceof Method ? lookup.unreflect((Method) member) : lookup.unreflectSetter((Field) member);
+            return methodHandle.asType(MethodType.methodType(void.class, Object.class, type));
+        } catch (IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return class the target must be an instance of, or null for constructors and static members
+     */
+    private static Class<?> getTargetClass(Member member) {
+        return member instanceof Constructor || Modifier.isStatic(member.getModifiers()) ? null : member.getDeclaringClass();
+    }
+
+    private static Class<?>[] getParameterTypes(Member member) {
+        if (member instanceof Field) {
+            return new Class<?>[]{((Field) member).getType()};
+        }
+        return ((Executable) member).getParameterTypes();
+    }
+
+    private static Class<?> getSingleParameterType(Method method) {
+        return method.getParameterCount() == 1 ? method.getParameterTypes()[0] : null;
+    }
+
+    private static MethodHandle toInvokerType(MethodHandle methodHandle, boolean hasTarget) {
+        MethodHandle fixedArity = methodHandle.asFixedArity();
+        int parameterCount = fixedArity.type().parameterCount();
+        MethodHandle spread = fixedArity.asType(MethodType.genericMethodType(parameterCount))
+                .asSpreader(Object[].class, hasTarget ? parameterCount - 1 : parameterCount);
+        return hasTarget ? spread : MethodHandles.dropArguments(spread, 0, Object.class);
+    }
+
+    /**
+     * Makes a copy accessible instead of the given member, since the given member might be shared.
+     */
+    private static Member toAccessibleCopy(Member member) {
+        try {
+            AccessibleObject copy;
+            if (member instanceof Constructor) {
+                copy = member.getDeclaringClass().getDeclaredConstructor(((Constructor<?>) member).getParameterTypes());
+            } else if (member instanceof Method) {
+                copy = member.getDeclaringClass().getDeclaredMethod(member.getName(), ((Method) member).getParameterTypes());
+            } else {
+                copy = member.getDeclaringClass().getDeclaredField(member.getName());
+            }
+            copy.trySetAccessible();
+            return (Member) copy;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return member;
+        }
+    }
+
+    /**
+     * Typed accessor called with the already checked target and arguments
+     */
+    @FunctionalInterface
+    private interface Accessor {
+        Object apply(Object target, Object[] arguments);
+    }
+
+    private static final class MethodHandleInvoker extends Invoker {
+
+        private final MethodHandle methodHandle;
+        private final Accessor accessor;
+        private final MethodHandle primitiveMethodHandle;
+        private final Object primitiveAccessor;
+        private final Class<?> primitiveType;
+        private final Class<?> targetClass;
+        private final Class<?>[] parameterTypes;
+        private final Class<?>[] argumentTypes;
+
+        private MethodHandleInvoker(MethodHandle methodHandle, Accessor accessor, MethodHandle primitiveMethodHandle, Object primitiveAccessor,
+                                    Class<?> targetClass, Class<?>[] parameterTypes) {
+            if (!methodHandle.type().equals(INVOKER_TYPE)) {
+                throw new IllegalStateException(String.format("Unexpected method handle type %s", methodHandle.type()));
+            }
+            this.methodHandle = methodHandle;
+            this.accessor = accessor;
+            this.primitiveMethodHandle = primitiveMethodHandle;
+            this.primitiveAccessor = primitiveAccessor;
+            this.primitiveType = primitiveMethodHandle != null ? primitiveMethodHandle.type().parameterType(1) : null;
+            this.targetClass = targetClass;
+            this.parameterTypes = parameterTypes;
+            this.argumentTypes = Arrays.stream(parameterTypes)
+                    .map(parameterType -> parameterType.isPrimitive() ? MethodType.methodType(parameterType).wrap().returnType() : parameterType)
+                    .toArray(Class<?>[]::new);
+        }
+
+        @Override
+        Object call(Object target, Object[] arguments) throws InvocationTargetException {
+            checkTarget(target);
+            checkArguments(arguments);
+            try {
+                return accessor != null ? accessor.apply(target, arguments) : (Object) methodHandle.invokeExact(target, arguments);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void callInt(Object target, int value) throws ReflectiveOperationException {
+            if (primitiveType != int.class) {
+                super.callInt(target, value);
+                return;
+            }
+            checkTarget(target);
+            try {
+                if (primitiveAccessor != null) {
+                    ((ObjIntConsumer<Object>) primitiveAccessor).accept(target, value);
+                } else {
+                    primitiveMethodHandle.invokeExact(target, value);
+                }
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void callLong(Object target, long value) throws ReflectiveOperationException {
+            if (primitiveType != long.class) {
+                super.callLong(target, value);
+                return;
+            }
+            checkTarget(target);
+            try {
+                if (primitiveAccessor != null) {
+                    ((ObjLongConsumer<Object>) primitiveAccessor).accept(target, value);
+                } else {
+                    primitiveMethodHandle.invokeExact(target, value);
+                }
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        void callDouble(Object target, double value) throws ReflectiveOperationException {
+            if (primitiveType != double.class) {
+                super.callDouble(target, value);
+                return;
+            }
+            checkTarget(target);
+            try {
+                if (primitiveAccessor != null) {
+                    ((ObjDoubleConsumer<Object>) primitiveAccessor).accept(target, value);
+                } else {
+                    primitiveMethodHandle.invokeExact(target, value);
+                }
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        @Override
+        void callBoolean(Object target, boolean value) throws ReflectiveOperationException {
+            if (primitiveType != boolean.class) {
+                super.callBoolean(target, value);
+                return;
+            }
+            checkTarget(target);
+            try {
+                primitiveMethodHandle.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        private void checkTarget(Object target) {
+            if (targetClass != null && !targetClass.isInstance(target)) {
+                throw new IllegalArgumentException(String.format("%s is not an instance of %s", target == null ? null : target.getClass().getName(), targetClass.getName()));
+            }
+        }
+
+        /**
+         * Primitive parameters take their wrapper, which the handle unboxes. Widening, e.g. an Integer for a long, is
+         * not supported.
+         */
+        private void checkArguments(Object[] arguments) {
+            int argumentCount = arguments == null ? 0 : arguments.length;
+            if (argumentCount != parameterTypes.length) {
+                throw new IllegalArgumentException(String.format("wrong number of arguments: %d expected: %d", argumentCount, parameterTypes.length));
+            }
+            for (int i = 0; i < argumentCount; i++) {
+                Class<?> parameterType = parameterTypes[i];
+                Object argument = arguments[i];
+                if (argument == null ? parameterType.isPrimitive() : !argumentTypes[i].isInstance(argument)) {
+                    throw new IllegalArgumentException(String.format("argument type mismatch: %s for parameter %d of type %s",
+                            argument == null ? null : argument.getClass().getName(), i, parameterType.getName()));
+                }
+            }
+        }
+    }
+
+    private static final class ReflectionInvoker extends Invoker {
+
+        private final Member member;
+
+        private ReflectionInvoker(Member member) {
+            this.member = member;
+        }
+
+        @Override
+        Object call(Object target, Object[] arguments) throws ReflectiveOperationException {
+            if (member instanceof Constructor) {
+                return ((Constructor<?>) member).newInstance(arguments);
+            }
+            if (member instanceof Method) {
+                return ((Method) member).invoke(target, arguments);
+            }
+            ((Field) member).set(target, arguments[0]);
+            return null;
+        }
+    }
+}
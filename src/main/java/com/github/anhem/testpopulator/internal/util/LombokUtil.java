@@ -10,15 +10,16 @@ import static com.github.anhem.testpopulator.internal.util.PopulateUtil.*;
 import static java.util.Arrays.stream;
 
 public class LombokUtil {
-    private static final String CLEAR_METHOD_PATTERN = String.format("%s%s", "clear", MATCH_FIRST_CHARACTER_UPPERCASE);
+    private static final String CLEAR_PREFIX = "clear";
+    private static final String LOMBOK_BUILDER_METHODS = "lombokBuilderMethods";
 
     private LombokUtil() {
     }
 
     public static Map<Integer, List<Method>> getMethodsForLombokBuilderGroupedByInvokeOrder(Class<?> clazz, Set<String> blacklistedMethods) {
-        return getDeclaredMethods(clazz, blacklistedMethods).stream()
+        return ClassMetadata.of(clazz).memoize(LOMBOK_BUILDER_METHODS, blacklistedMethods, () -> getDeclaredMethods(clazz, blacklistedMethods).stream()
                 .filter(method -> !isDeclaringJavaBaseClass(method))
-                .collect(Collectors.groupingBy(LombokUtil::lombokMethodInvokeOrder));
+                .collect(Collectors.collectingAndThen(Collectors.groupingBy(LombokUtil::lombokMethodInvokeOrder), Map::copyOf)));
     }
 
     public static int calculateExpectedChildren(Map<Integer, List<Method>> builderObjectMethodsGroupedByInvokeOrder) {
@@ -42,7 +43,7 @@ public class LombokUtil {
     }
 
     private static boolean isClearMethod(Method method) {
-        return method.getName().matches(CLEAR_METHOD_PATTERN) && method.getParameterTypes().length == 0;
+        return hasPrefixFollowedByUppercase(method.getName(), CLEAR_PREFIX) && method.getParameterTypes().length == 0;
     }
 
 }
@@ -6,34 +6,35 @@ import com.github.anhem.testpopulator.config.Strategy;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.github.anhem.testpopulator.config.Strategy.MUTATOR;
 import static com.github.anhem.testpopulator.internal.util.PopulateUtil.*;
-import static java.util.Arrays.stream;
 import static java.util.Comparator.comparingInt;
 
 public class MutatorUtil {
 
+    private static final String HAS_MUTATOR_METHODS = "hasMutatorMethods";
+    private static final String MUTATOR_METHODS = "mutatorMethods";
+
     private MutatorUtil() {
     }
 
     public static <T> boolean isMatchingMutatorStrategy(Strategy strategy, Class<T> clazz, boolean accessNonPublicConstructor, ConstructorType constructorType) {
         if (strategy.equals(MUTATOR) && hasAccessibleConstructor(clazz, accessNonPublicConstructor, constructorType)) {
-            return getAllDeclaredMethods(clazz, new ArrayList<>()).stream()
+            return ClassMetadata.of(clazz).memoize(HAS_MUTATOR_METHODS, null, () -> getAllDeclaredMethods(clazz).stream()
                     .filter(method -> !isWaitMethod(method))
-                    .anyMatch(method -> isMutatorMethod(method, clazz));
+                    .anyMatch(method -> isMutatorMethod(method, clazz)));
         }
         return false;
     }
 
     public static <T> List<Method> getMutatorMethods(Class<T> clazz, Set<String> blacklistedMethods) {
-        return getDeclaredMethods(clazz, blacklistedMethods).stream()
+        return ClassMetadata.of(clazz).memoize(MUTATOR_METHODS, blacklistedMethods, () -> getDeclaredMethods(clazz, blacklistedMethods).stream()
                 .filter(method -> isMutatorMethod(method, clazz))
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList()));
     }
 
     private static <T> boolean hasAccessibleConstructor(Class<T> clazz, boolean canAccessNonPublicConstructor, ConstructorType constructorType) {
@@ -59,7 +60,7 @@ public class MutatorUtil {
 
     @SuppressWarnings("unchecked")
     private static <T> Constructor<T> getSmallestConstructor(Class<T> clazz, boolean canAccessNonPublicConstructor) {
-        return (Constructor<T>) stream(clazz.getDeclaredConstructors())
+        return (Constructor<T>) ClassMetadata.of(clazz).getDeclaredConstructors().stream()
                 .filter(constructor -> canAccessNonPublicConstructor || Modifier.isPublic(constructor.getModifiers()))
                 .filter(constructor -> constructor.getParameterCount() != 0)
                 .min(comparingInt(Constructor::getParameterCount))
@@ -69,6 +70,4 @@ public class MutatorUtil {
     private static <T> boolean isMutatorMethod(Method method, Class<T> clazz) {
         return (method.getReturnType().equals(void.class) || method.getReturnType().equals(clazz)) && method.getParameterCount() > 0 && !isStatic(method);
     }
-
-
 }
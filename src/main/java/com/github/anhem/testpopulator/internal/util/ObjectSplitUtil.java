@@ -0,0 +1,196 @@
+package com.github.anhem.testpopulator.internal.util;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.github.anhem.testpopulator.internal.object.ObjectBuilder.PSF;
+import static com.github.anhem.testpopulator.internal.util.ObjectBuilderUtil.STATIC_BLOCK_END;
+import static com.github.anhem.testpopulator.internal.util.ObjectBuilderUtil.STATIC_BLOCK_START;
+
+/**
+ * Writes the objects of a generated class as methods instead of static initializers, so that large classes stay below
+ * the 64KB limit of the static initializer and of every method.
+ * <p>
+ * Objects referenced from more than one place, and the populated object itself, are kept as constants. Every constant
+ * is created by a method of the same name that returns it, with the objects only it uses as local variables. When
+ * such a method gets too long, the largest objects it uses are created by methods of their own.
+ * <p>
+ * The size of a method is counted in lines of at most {@link #LINE_LENGTH} characters, so that a statement with many
+ * arguments, which compiles into as much code as many short statements, counts as several lines.
+ */
+class ObjectSplitUtil {
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_$][A-Za-z\\d_$]*");
+    private static final String DECLARATION_PREFIX = PSF + " ";
+    private static final String ASSIGNMENT = " = ";
+    static final int LINE_LENGTH = 120;
+
+    private ObjectSplitUtil() {
+    }
+
+    /**
+     * @param objects        objects of the generated class
+     * @param maxMethodLines number of lines after which a method calls other methods for the objects it uses, see
+     *                       {@link #countLines(List)}
+     * @param writeLine      writes a line of the class
+     * @return false if objects could not be split, in which case nothing has been written
+     */
+    static boolean writeObjects(List<String> objects, int maxMethodLines, Consumer<String> writeLine) {
+        List<SplitObject> splitObjects = toSplitObjects(objects);
+        if (splitObjects == null) {
+            return false;
+        }
+        addReferences(splitObjects);
+        splitObjects.forEach(splitObject -> splitObject.split(maxMethodLines));
+
+        splitObjects.stream()
+                .filter(SplitObject::isConstant)
+                .forEach(splitObject -> writeLine.accept(String.format("\t%s %s %s = %s();", PSF, splitObject.type, splitObject.name, splitObject.name)));
+        splitObjects.stream()
+                .filter(splitObject -> splitObject.isConstant() || splitObject.ownMethod)
+                .forEach(splitObject -> {
+                    writeLine.accept("");
+                    writeLine.accept(String.format("\tprivate static %s %s() {", splitObject.type, splitObject.name));
+                    splitObject.writeBody(writeLine);
+                    writeLine.accept(String.format("\t\treturn %s;", splitObject.name));
+                    writeLine.accept("\t}");
+                });
+        return true;
+    }
+
+    /**
+     * @param objects    objects of the generated class
+     * @param methodName name of the method
+     * @return lines of a public method that creates and returns the populated object, with all other objects as local
+     * variables, or null if objects could not be split
+     */
+    static List<String> toFactoryMethod(List<String> objects, String methodName) {
+        List<SplitObject> splitObjects = toSplitObjects(objects);
+        if (splitObjects == null || splitObjects.isEmpty()) {
+            return null;
+        }
+        SplitObject populated = splitObjects.get(splitObjects.size() - 1);
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("\tpublic static %s %s() {", populated.type, methodName));
+        splitObjects.forEach(splitObject -> splitObject.lines.forEach(line -> lines.add(String.format("\t\t%s", line))));
+        lines.add(String.format("\t\treturn %s;", populated.name));
+        lines.add("\t}");
+        return lines;
+    }
+
+    /**
+     * @return number of lines, where a line longer than {@link #LINE_LENGTH} counts as one line per started
+     * {@link #LINE_LENGTH} characters
+     */
+    static int countLines(List<String> lines) {
+        return lines.stream()
+                .mapToInt(line -> 1 + Math.max(0, line.length() - 1) / LINE_LENGTH)
+                .sum();
+    }
+
+    private static List<SplitObject> toSplitObjects(List<String> objects) {
+        List<SplitObject> splitObjects = new ArrayList<>();
+        SplitObject current = null;
+        boolean staticBlock = false;
+        for (String line : objects) {
+            if (line.startsWith(DECLARATION_PREFIX) && !staticBlock) {
+                String declaration = line.substring(DECLARATION_PREFIX.length());
+                int assignment = declaration.indexOf(ASSIGNMENT);
+                if (assignment < 0) {
+                    return null;
+                }
+                String typeAndName = declaration.substring(0, assignment);
+                int nameStart = typeAndName.lastIndexOf(' ');
+                current = new SplitObject(typeAndName.substring(0, nameStart), typeAndName.substring(nameStart + 1), splitObjects.size());
+                current.lines.add(declaration);
+                splitObjects.add(current);
+            } else if (current == null) {
+                return null;
+            } else if (line.equals(STATIC_BLOCK_START)) {
+                staticBlock = true;
+            } else if (line.equals(STATIC_BLOCK_END)) {
+                staticBlock = false;
+            } else {
+                current.lines.add(line);
+            }
+        }
+        return splitObjects;
+    }
+
+    private static void addReferences(List<SplitObject> splitObjects) {
+        Map<String, SplitObject> byName = new HashMap<>();
+        for (SplitObject splitObject : splitObjects) {
+            Set<SplitObject> references = new LinkedHashSet<>();
+            for (String line : splitObject.lines) {
+                Matcher matcher = IDENTIFIER.matcher(line);
+                while (matcher.find()) {
+                    Optional.ofNullable(byName.get(matcher.group())).ifPresent(references::add);
+                }
+            }
+            references.forEach(reference -> {
+                reference.referencedBy++;
+                splitObject.references.add(reference);
+            });
+            byName.put(splitObject.name, splitObject);
+        }
+    }
+
+    private static class SplitObject {
+        private final String type;
+        private final String name;
+        private final int index;
+        private final List<String> lines = new ArrayList<>();
+        private final List<SplitObject> references = new ArrayList<>();
+        private int referencedBy;
+        private int methodLines;
+        private boolean ownMethod;
+
+        private SplitObject(String type, String name, int index) {
+            this.type = type;
+            this.name = name;
+            this.index = index;
+        }
+
+        private boolean isConstant() {
+            return referencedBy != 1;
+        }
+
+        private List<SplitObject> getLocals() {
+            List<SplitObject> locals = new ArrayList<>();
+            references.stream()
+                    .filter(reference -> !reference.isConstant())
+                    .forEach(locals::add);
+            locals.sort(Comparator.comparingInt(local -> local.index));
+            return locals;
+        }
+
+        /**
+         * Locals have already been split, since they are declared before this object.
+         */
+        private void split(int maxMethodLines) {
+            List<SplitObject> locals = getLocals();
+            methodLines = countLines(lines) + locals.stream().mapToInt(local -> local.methodLines).sum();
+            locals.sort(Comparator.comparingInt((SplitObject local) -> local.methodLines).reversed());
+            for (SplitObject local : locals) {
+                if (methodLines <= maxMethodLines || local.methodLines <= 1) {
+                    break;
+                }
+                local.ownMethod = true;
+                methodLines -= local.methodLines - 1;
+            }
+        }
+
+        private void writeBody(Consumer<String> writeLine) {
+            getLocals().forEach(local -> {
+                if (local.ownMethod) {
+                    writeLine.accept(String.format("\t\t%s %s = %s();", local.type, local.name, local.name));
+                } else {
+                    local.writeBody(writeLine);
+                }
+            });
+            lines.forEach(line -> writeLine.accept(String.format("\t\t%s", line)));
+        }
+    }
+}
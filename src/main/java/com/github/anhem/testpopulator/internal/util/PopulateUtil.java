@@ -18,7 +18,6 @@ import static java.util.Comparator.comparingInt;
 
 public class PopulateUtil {
 
-    static final String MATCH_FIRST_CHARACTER_UPPERCASE = "\\p{Lu}.*";
     public static final String NO_CONSTRUCTOR_FOUND = "Could not find public constructor for %s";
 
     private PopulateUtil() {
@@ -56,13 +55,11 @@ public class PopulateUtil {
     }
 
     public static <T> List<Field> getDeclaredFields(Class<T> clazz, Set<String> blacklistedFields) {
-        List<Field> declaredFields = getAllDeclaredFields(clazz, new ArrayList<>());
-        return removeUnwantedFields(declaredFields, blacklistedFields);
+        return ClassMetadata.of(clazz).getDeclaredFields(blacklistedFields);
     }
 
     public static <T> List<Method> getDeclaredMethods(Class<T> clazz, Set<String> blacklistedMethods) {
-        List<Method> declaredMethods = getAllDeclaredMethods(clazz, new ArrayList<>());
-        return removeUnwantedMethods(declaredMethods, blacklistedMethods);
+        return ClassMetadata.of(clazz).getDeclaredMethods(blacklistedMethods);
     }
 
     static boolean isStatic(Method method) {
@@ -184,7 +181,7 @@ public class PopulateUtil {
 
     @SuppressWarnings("unchecked")
     public static <T> Constructor<T> getLargestConstructor(Class<T> clazz, boolean canAccessNonPublicConstructor) {
-        return (Constructor<T>) stream(clazz.getDeclaredConstructors())
+        return (Constructor<T>) ClassMetadata.of(clazz).getDeclaredConstructors().stream()
                 .filter(constructor -> canAccessNonPublicConstructor || Modifier.isPublic(constructor.getModifiers()))
                 .filter(constructor -> constructor.getParameterCount() != 0)
                 .max(comparingInt(Constructor::getParameterCount))
@@ -210,22 +207,8 @@ public class PopulateUtil {
         return blacklistedFields.contains(field.getName());
     }
 
-    public static <T> void setAccessible(Constructor<T> constructor, boolean canAccessNonPublicConstructor) {
-        if (canAccessNonPublicConstructor && !constructor.canAccess(null)) {
-            constructor.setAccessible(true);
-        }
-    }
-
-    public static <T> void setAccessible(Method method, T object) {
-        if (!method.canAccess(object)) {
-            method.setAccessible(true);
-        }
-    }
-
-    public static void setAccessible(Field field, Object object) {
-        if (!field.canAccess(object)) {
-            field.setAccessible(true);
-        }
+    public static <T> T newInstance(Constructor<T> constructor, boolean canAccessNonPublicConstructor) throws ReflectiveOperationException {
+        return constructor.getDeclaringClass().cast(Invoker.of(constructor, canAccessNonPublicConstructor).invoke(null));
     }
 
     public static java.net.URL toUrl(String url) {
@@ -245,58 +228,24 @@ public class PopulateUtil {
     }
 
     static <T> boolean hasConstructorWithoutArguments(Class<T> clazz, boolean canAccessNonPublicConstructor) {
-        return stream(clazz.getDeclaredConstructors())
-                .filter(constructor -> constructor.getParameterCount() == 0)
-                .anyMatch(constructor -> isAccessible(canAccessNonPublicConstructor, constructor));
+        return ClassMetadata.of(clazz).hasConstructorWithoutArguments(canAccessNonPublicConstructor);
     }
 
     private static <T> boolean hasConstructorWithArguments(Class<T> clazz, boolean canAccessNonPublicConstructor) {
-        return stream(clazz.getDeclaredConstructors())
-                .filter(constructor -> constructor.getParameterCount() > 0)
-                .anyMatch(constructor -> isAccessible(canAccessNonPublicConstructor, constructor));
-    }
-
-    private static <T> List<Field> getAllDeclaredFields(Class<T> clazz, List<Field> declaredFields) {
-        declaredFields.addAll(Arrays.asList(clazz.getDeclaredFields()));
-        if (clazz.getSuperclass() != null) {
-            getAllDeclaredFields(clazz.getSuperclass(), declaredFields);
-        }
-        return declaredFields;
+        return ClassMetadata.of(clazz).hasConstructorWithArguments(canAccessNonPublicConstructor);
     }
 
-    static <T> List<Method> getAllDeclaredMethods(Class<T> clazz, List<Method> declaredMethods) {
-        declaredMethods.addAll(Arrays.asList(clazz.getDeclaredMethods()));
-        if (clazz.getSuperclass() != null) {
-            getAllDeclaredMethods(clazz.getSuperclass(), declaredMethods);
-        }
-        return declaredMethods;
-    }
-
-    static String getMethodFormat(String setterPrefix) {
-        return setterPrefix.isEmpty() ? "" : String.format("%s%s", setterPrefix, MATCH_FIRST_CHARACTER_UPPERCASE);
-    }
-
-    private static List<Field> removeUnwantedFields(List<Field> declaredFields, Set<String> blacklistedFields) {
-        return declaredFields.stream()
-                .filter(field -> !isBlackListed(field, blacklistedFields))
-                .collect(Collectors.toList());
+    static <T> List<Method> getAllDeclaredMethods(Class<T> clazz) {
+        return ClassMetadata.of(clazz).getAllDeclaredMethods();
     }
 
-    private static List<Method> removeUnwantedMethods(List<Method> declaredMethods, Set<String> blacklistedMethods) {
-        return declaredMethods.stream()
-                .filter(method -> {
-                    if (isBlackListed(method, blacklistedMethods)) {
-                        return false;
-                    }
-                    if (isNativeMethod(method)) {
-                        return false;
-                    }
-                    return !isWaitMethod(method);
-                }).collect(Collectors.toList());
-    }
-
-    private static boolean isNativeMethod(Method method) {
-        return Modifier.isNative(method.getModifiers());
+    /**
+     * Same as matching the name against {@code prefix\p{Lu}.*} but without compiling a regular expression for every call.
+     */
+    static boolean hasPrefixFollowedByUppercase(String name, String prefix) {
+        return name.length() > prefix.length() &&
+                name.startsWith(prefix) &&
+                Character.getType(name.codePointAt(prefix.length())) == Character.UPPERCASE_LETTER;
     }
 
     static boolean isWaitMethod(Method method) {
@@ -311,12 +260,4 @@ public class PopulateUtil {
         }
         return false;
     }
-
-    private static <T> boolean isAccessible(boolean canAccessNonPublicConstructor, Constructor<T> constructor) {
-        if (canAccessNonPublicConstructor) {
-            return true;
-        } else {
-            return Modifier.isPublic(constructor.getModifiers());
-        }
-    }
 }
@@ -1,5 +1,6 @@
 package com.github.anhem.testpopulator.internal.util;
 
+import com.github.anhem.testpopulator.config.BuilderPattern;
 import com.github.anhem.testpopulator.config.PopulateConfig;
 
 import java.lang.reflect.Method;
@@ -9,23 +10,25 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.github.anhem.testpopulator.config.BuilderPattern.PROTOBUF;
 import static com.github.anhem.testpopulator.internal.util.PopulateUtil.getDeclaredMethods;
-import static com.github.anhem.testpopulator.internal.util.PopulateUtil.getMethodFormat;
+import static com.github.anhem.testpopulator.internal.util.PopulateUtil.hasPrefixFollowedByUppercase;
 
 public class ProtobufUtil {
 
     private static final String BUILDER_PARAM_SUFFIX = "Builder";
     private static final String ADD_ALL_METHOD_PREFIX = "addAll";
-    private static final String SET_METHOD_FORMAT = getMethodFormat("set");
-    private static final String ADD_METHOD_FORMAT = getMethodFormat("add");
-    private static final String PUT_METHOD_FORMAT = getMethodFormat("put");
+    private static final String SET_PREFIX = "set";
+    private static final String ADD_PREFIX = "add";
+    private static final String PUT_PREFIX = "put";
     private static final String SET_BYTES_METHOD_SUFFIX = "Bytes";
-    private static final String SET_BYTES_METHOD_REGEX = "^(set|add)[A-Z][a-zA-Z0-9]*" + SET_BYTES_METHOD_SUFFIX + "$";
+    private static final Pattern SET_BYTES_METHOD_PATTERN = Pattern.compile("^(set|add)[A-Z][a-zA-Z0-9]*" + SET_BYTES_METHOD_SUFFIX + "$");
     private static final String SET_ENUM_VALUE_METHOD_SUFFIX = "Value";
-    private static final String SET_ENUM_VALUE_METHOD_REGEX = "^(set)[A-Z][a-zA-Z0-9]*" + SET_ENUM_VALUE_METHOD_SUFFIX + "$";
+    private static final Pattern SET_ENUM_VALUE_METHOD_PATTERN = Pattern.compile("^(set)[A-Z][a-zA-Z0-9]*" + SET_ENUM_VALUE_METHOD_SUFFIX + "$");
+    private static final String PROTOBUF_BUILDER_METHODS = "protobufBuilderMethods";
     private static final String SET_UNKNOWN_FIELDS_METHOD_NAME = "setUnknownFields";
     private static final String UNKNOWN_FIELD_SET_PARAM = "com.google.protobuf.UnknownFieldSet";
     private static final String BYTE_STRING_NAME = "com.google.protobuf.ByteString";
@@ -37,11 +40,15 @@ public class ProtobufUtil {
         return populateConfig.getBuilderPattern().equals(PROTOBUF) && parameter.getType().getName().equals(BYTE_STRING_NAME);
     }
 
-    public static <T> boolean isProtobufByteString(Class<T> clazz, PopulateConfig populateConfig) {
-        return populateConfig.getBuilderPattern().equals(PROTOBUF) && clazz.getName().equals(BYTE_STRING_NAME);
+    public static <T> boolean isProtobufByteString(Class<T> clazz, BuilderPattern builderPattern) {
+        return builderPattern.equals(PROTOBUF) && clazz.getName().equals(BYTE_STRING_NAME);
     }
 
     public static <T> List<Method> getMethodsForProtobufBuilder(Class<T> clazz, Set<String> blacklistedMethods) {
+        return ClassMetadata.of(clazz).memoize(PROTOBUF_BUILDER_METHODS, blacklistedMethods, () -> findMethodsForProtobufBuilder(clazz, blacklistedMethods));
+    }
+
+    private static <T> List<Method> findMethodsForProtobufBuilder(Class<T> clazz, Set<String> blacklistedMethods) {
         List<Method> filteredMethods = getDeclaredMethods(clazz, blacklistedMethods).stream()
                 .filter(ProtobufUtil::isPublic)
                 .filter(method -> isChainable(method, clazz))
@@ -57,7 +64,7 @@ public class ProtobufUtil {
         return filteredMethods.stream()
                 .filter(method -> !isSetBytesMethod(method, methodNames))
                 .filter(method -> !isUnsafeEnumSetter(method, methodNames))
-                .collect(Collectors.toList());
+                .collect(Collectors.toUnmodifiableList());
     }
 
     private static boolean isPublic(Method method) {
@@ -69,12 +76,12 @@ public class ProtobufUtil {
     }
 
     private static boolean isValidMutator(Method method) {
-        boolean isAdder = method.getName().matches(ADD_METHOD_FORMAT);
+        boolean isAdder = hasPrefixFollowedByUppercase(method.getName(), ADD_PREFIX);
         if (isAdder && isAddAllMethod(method)) {
             return false;
         }
-        boolean isSetter = method.getName().matches(SET_METHOD_FORMAT);
-        boolean isPutter = method.getName().matches(PUT_METHOD_FORMAT);
+        boolean isSetter = hasPrefixFollowedByUppercase(method.getName(), SET_PREFIX);
+        boolean isPutter = hasPrefixFollowedByUppercase(method.getName(), PUT_PREFIX);
         return hasValidParameterCount(method, isAdder, isSetter, isPutter);
 
     }
@@ -108,7 +115,7 @@ public class ProtobufUtil {
 
     private static boolean isSetBytesMethod(Method method, Set<String> methodNames) {
         String methodName = method.getName();
-        if (methodName.matches(SET_BYTES_METHOD_REGEX)) {
+        if (SET_BYTES_METHOD_PATTERN.matcher(methodName).matches()) {
             String regularMethodName = methodName.substring(0, methodName.length() - SET_BYTES_METHOD_SUFFIX.length());
             return methodNames.contains(regularMethodName);
         }
@@ -117,7 +124,7 @@ public class ProtobufUtil {
 
     private static boolean isUnsafeEnumSetter(Method method, Set<String> methodNames) {
         String methodName = method.getName();
-        if (method.getParameterCount() == 1 && method.getParameterTypes()[0] == int.class && methodName.matches(SET_ENUM_VALUE_METHOD_REGEX)) {
+        if (method.getParameterCount() == 1 && method.getParameterTypes()[0] == int.class && SET_ENUM_VALUE_METHOD_PATTERN.matcher(methodName).matches()) {
             String regularMethodName = methodName.substring(0, methodName.length() - SET_ENUM_VALUE_METHOD_SUFFIX.length());
             return methodNames.contains(regularMethodName);
         }
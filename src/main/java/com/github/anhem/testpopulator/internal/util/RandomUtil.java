@@ -1,11 +1,12 @@
 package com.github.anhem.testpopulator.internal.util;
 
-import java.security.SecureRandom;
+import com.github.anhem.testpopulator.config.RandomSource;
+
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
-import java.util.Random;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -16,44 +17,77 @@ public class RandomUtil {
     private static final int RIGHT_LIMIT = 122; // letter 'z'
     static final int STRING_LENGTH = 10;
     private static final int DAY_IN_SECONDS = 86400;
-    private static final Random RANDOM = new SecureRandom();
+    private static final RandomSource RANDOM = RandomSource.threadLocal();
 
     private RandomUtil() {
     }
 
     public static int getRandomInt() {
-        return RANDOM.nextInt(RANDOM_INT_MAX_VALUE);
+        return getRandomInt(RANDOM);
+    }
+
+    public static int getRandomInt(RandomSource random) {
+        return random.nextInt(RANDOM_INT_MAX_VALUE);
     }
 
     public static int getRandomInt(int bound) {
-        return RANDOM.nextInt(bound);
+        return getRandomInt(RANDOM, bound);
+    }
+
+    public static int getRandomInt(RandomSource random, int bound) {
+        return random.nextInt(bound);
     }
 
     public static int getRandomInt(int min, int max) {
-        return RANDOM.nextInt(max - min + 1) + min;
+        return getRandomInt(RANDOM, min, max);
+    }
+
+    public static int getRandomInt(RandomSource random, int min, int max) {
+        return random.nextInt(max - min + 1) + min;
     }
 
     public static long getRandomLong() {
-        return RANDOM.nextLong();
+        return getRandomLong(RANDOM);
+    }
+
+    public static long getRandomLong(RandomSource random) {
+        return random.nextLong();
     }
 
     public static short getRandomShort() {
-        return (short) RANDOM.nextInt(Short.MAX_VALUE + 1);
+        return getRandomShort(RANDOM);
+    }
+
+    public static short getRandomShort(RandomSource random) {
+        return (short) random.nextInt(Short.MAX_VALUE + 1);
     }
 
     public static Float getRandomFloat() {
-        return RANDOM.nextFloat();
+        return getRandomFloat(RANDOM);
+    }
+
+    public static Float getRandomFloat(RandomSource random) {
+        return random.nextFloat();
     }
 
     public static String getRandomString() {
-        return RANDOM.ints(LEFT_LIMIT, RIGHT_LIMIT + 1)
-                .limit(STRING_LENGTH)
-                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
-                .toString();
+        return getRandomString(RANDOM);
+    }
+
+    public static String getRandomString(RandomSource random) {
+        char[] chars = new char[STRING_LENGTH];
+        for (int i = 0; i < STRING_LENGTH; i++) {
+            chars[i] = (char) (LEFT_LIMIT + random.nextInt(RIGHT_LIMIT - LEFT_LIMIT + 1));
+        }
+        return new String(chars);
     }
 
     public static Boolean getRandomBoolean() {
-        return RANDOM.nextBoolean();
+        return getRandomBoolean(RANDOM);
+    }
+
+    public static boolean getRandomBoolean(RandomSource random) {
+        return random.nextBoolean();
     }
 
     public static LocalDate getRandomLocalDate() {
@@ -61,37 +95,135 @@ public class RandomUtil {
     }
 
     public static LocalDate getRandomLocalDate(int yearRange) {
-        return LocalDate.now().minusYears(yearRange).plusDays(RANDOM.nextInt(yearRange * 2 * 365 + yearRange));
+        return getRandomLocalDate(RANDOM, LocalDate.now(), yearRange);
+    }
+
+    /**
+     * @param today date to create random dates around, +/- yearRange years
+     */
+    public static LocalDate getRandomLocalDate(RandomSource random, LocalDate today, int yearRange) {
+        return today.minusYears(yearRange).plusDays(random.nextInt(yearRange * 2 * 365 + yearRange));
     }
 
     public static LocalDateTime getRandomLocalDateTime() {
-        return getRandomLocalDate().atTime(getRandomLocalTime());
+        return getRandomLocalDateTime(RANDOM, LocalDate.now());
+    }
+
+    public static LocalDateTime getRandomLocalDateTime(RandomSource random, LocalDate today) {
+        return getRandomLocalDate(random, today, 1).atTime(getRandomLocalTime(random));
     }
 
     public static Character getRandomCharacter() {
-        return getRandomString().charAt(0);
+        return getRandomCharacter(RANDOM);
+    }
+
+    public static Character getRandomCharacter(RandomSource random) {
+        return (char) (LEFT_LIMIT + random.nextInt(RIGHT_LIMIT - LEFT_LIMIT + 1));
     }
 
     public static <T> T getRandomEnum(Class<T> clazz, boolean removeUnrecognized) {
+        return getRandomEnum(RANDOM, clazz, removeUnrecognized);
+    }
+
+    public static <T> T getRandomEnum(RandomSource random, Class<T> clazz, boolean removeUnrecognized) {
         List<T> enumValues = Stream.of(clazz.getEnumConstants())
                 .filter(enumValue -> !removeUnrecognized || !enumValue.toString().equals("UNRECOGNIZED"))
                 .collect(Collectors.toList());
-        return enumValues.get(RANDOM.nextInt(enumValues.size()));
+        return enumValues.get(random.nextInt(enumValues.size()));
     }
 
     public static Byte getRandomByte() {
-        byte[] bytes = new byte[1];
-        RANDOM.nextBytes(bytes);
-        return bytes[0];
+        return getRandomByte(RANDOM);
+    }
+
+    public static Byte getRandomByte(RandomSource random) {
+        return (byte) random.nextInt(256);
     }
 
     public static byte[] getRandomBytes(int length) {
+        return getRandomBytes(RANDOM, length);
+    }
+
+    public static byte[] getRandomBytes(RandomSource random, int length) {
         byte[] bytes = new byte[length];
-        RANDOM.nextBytes(bytes);
+        random.nextBytes(bytes);
         return bytes;
     }
 
+    /**
+     * @return ints with the same range as {@link #getRandomInt(RandomSource)}, drawn without boxing
+     */
+    public static int[] getRandomInts(RandomSource random, int length) {
+        int[] ints = new int[length];
+        for (int i = 0; i < length; i++) {
+            ints[i] = random.nextInt(RANDOM_INT_MAX_VALUE);
+        }
+        return ints;
+    }
+
+    public static long[] getRandomLongs(RandomSource random, int length) {
+        long[] longs = new long[length];
+        for (int i = 0; i < length; i++) {
+            longs[i] = random.nextInt(RANDOM_INT_MAX_VALUE);
+        }
+        return longs;
+    }
+
+    public static double[] getRandomDoubles(RandomSource random, int length) {
+        double[] doubles = new double[length];
+        for (int i = 0; i < length; i++) {
+            doubles[i] = random.nextInt(RANDOM_INT_MAX_VALUE);
+        }
+        return doubles;
+    }
+
+    public static short[] getRandomShorts(RandomSource random, int length) {
+        short[] shorts = new short[length];
+        for (int i = 0; i < length; i++) {
+            shorts[i] = (short) random.nextInt(Short.MAX_VALUE + 1);
+        }
+        return shorts;
+    }
+
+    public static float[] getRandomFloats(RandomSource random, int length) {
+        float[] floats = new float[length];
+        for (int i = 0; i < length; i++) {
+            floats[i] = random.nextFloat();
+        }
+        return floats;
+    }
+
+    public static char[] getRandomChars(RandomSource random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) (LEFT_LIMIT + random.nextInt(RIGHT_LIMIT - LEFT_LIMIT + 1));
+        }
+        return chars;
+    }
+
+    public static boolean[] getRandomBooleans(RandomSource random, int length) {
+        boolean[] booleans = new boolean[length];
+        for (int i = 0; i < length; i++) {
+            booleans[i] = random.nextBoolean();
+        }
+        return booleans;
+    }
+
     public static LocalTime getRandomLocalTime() {
-        return LocalTime.ofSecondOfDay(RANDOM.nextInt(DAY_IN_SECONDS));
+        return getRandomLocalTime(RANDOM);
+    }
+
+    public static LocalTime getRandomLocalTime(RandomSource random) {
+        return LocalTime.ofSecondOfDay(random.nextInt(DAY_IN_SECONDS));
+    }
+
+    /**
+     * Random (version 4) UUID drawn from the given source, rather than from the SecureRandom used by
+     * {@link UUID#randomUUID()}.
+     */
+    public static UUID getRandomUUID(RandomSource random) {
+        long mostSigBits = (random.nextLong() & 0xffffffffffff0fffL) | 0x0000000000004000L;
+        long leastSigBits = (random.nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
     }
 }
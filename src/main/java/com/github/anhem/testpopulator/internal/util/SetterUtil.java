@@ -3,7 +3,6 @@ package com.github.anhem.testpopulator.internal.util;
 import com.github.anhem.testpopulator.config.Strategy;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -13,41 +12,35 @@ import static com.github.anhem.testpopulator.internal.util.PopulateUtil.*;
 
 public class SetterUtil {
 
+    private static final String HAS_SETTER_METHODS = "hasSetterMethods";
+    private static final String SETTER_METHODS = "setterMethods";
+
     private SetterUtil() {
     }
 
     public static <T> boolean isMatchingSetterStrategy(Strategy strategy, Class<T> clazz, Set<String> setterPrefixes, boolean accessNonPublicConstructor) {
         if (strategy.equals(SETTER) && hasConstructorWithoutArguments(clazz, accessNonPublicConstructor)) {
-            List<String> setterMethodFormats = getMethodFormats(setterPrefixes);
-            return getAllDeclaredMethods(clazz, new ArrayList<>()).stream()
+            return ClassMetadata.of(clazz).memoize(HAS_SETTER_METHODS, setterPrefixes, () -> getAllDeclaredMethods(clazz).stream()
                     .filter(method -> !isWaitMethod(method))
-                    .anyMatch(method -> isSetterMethod(method, setterMethodFormats));
+                    .anyMatch(method -> isSetterMethod(method, setterPrefixes)));
         }
         return false;
     }
 
     public static <T> List<Method> getSetterMethods(Class<T> clazz, Set<String> blacklistedMethods, Set<String> setterPrefixes) {
-        List<String> setterMethodFormats = getMethodFormats(setterPrefixes);
-        return getDeclaredMethods(clazz, blacklistedMethods).stream()
-                .filter(method -> !isWaitMethod(method))
-                .filter(method -> isSetterMethod(method, setterMethodFormats))
-                .collect(Collectors.toList());
-    }
-
-    private static List<String> getMethodFormats(Set<String> setterPrefixes) {
-        return setterPrefixes.stream()
-                .map(PopulateUtil::getMethodFormat)
-                .collect(Collectors.toList());
+        return ClassMetadata.of(clazz).memoize(SETTER_METHODS, List.of(blacklistedMethods, setterPrefixes), () -> getDeclaredMethods(clazz, blacklistedMethods).stream()
+                .filter(method -> isSetterMethod(method, setterPrefixes))
+                .collect(Collectors.toUnmodifiableList()));
     }
 
-    private static boolean isSetterMethod(Method method, List<String> setterMethodFormats) {
-        return setterMethodFormats.stream().anyMatch(setMethodFormat -> isSetterMethod(method, setMethodFormat));
+    private static boolean isSetterMethod(Method method, Set<String> setterPrefixes) {
+        return setterPrefixes.stream().anyMatch(setterPrefix -> isSetterMethod(method, setterPrefix));
     }
 
-    private static boolean isSetterMethod(Method method, String setMethodFormat) {
-        if (setMethodFormat.isBlank()) {
+    private static boolean isSetterMethod(Method method, String setterPrefix) {
+        if (setterPrefix.isEmpty()) {
             return method.getReturnType().equals(void.class) && method.getParameterCount() == 1;
         }
-        return method.getName().matches(setMethodFormat) && method.getReturnType().equals(void.class) && method.getParameterCount() == 1 && !isStatic(method);
+        return hasPrefixFollowedByUppercase(method.getName(), setterPrefix) && method.getReturnType().equals(void.class) && method.getParameterCount() == 1 && !isStatic(method);
     }
 }
@@ -24,13 +24,15 @@ public class StaticMethodUtil {
     private static final Comparator<Method> SIMPLEST_METHOD_COMPARATOR = comparingDouble(StaticMethodUtil::getAverageParameterComplexity)
             .thenComparingInt(Method::getParameterCount);
 
+    private static final String HAS_STATIC_METHODS = "hasStaticMethods";
+
     private StaticMethodUtil() {
     }
 
     public static <T> boolean isMatchingStaticMethodStrategy(Strategy strategy, Class<T> clazz) {
         if (strategy.equals(STATIC_METHOD)) {
-            return getDeclaredMethods(clazz, new HashSet<>()).stream()
-                    .anyMatch(method -> isMatchingStaticMethod(method, clazz));
+            return ClassMetadata.of(clazz).memoize(HAS_STATIC_METHODS, null, () -> getDeclaredMethods(clazz, Set.of()).stream()
+                    .anyMatch(method -> isMatchingStaticMethod(method, clazz)));
         }
         return false;
     }
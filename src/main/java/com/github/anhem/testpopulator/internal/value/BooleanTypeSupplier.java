@@ -0,0 +1,20 @@
+package com.github.anhem.testpopulator.internal.value;
+
+/**
+ * A {@link TypeSupplier} that can create a primitive boolean without boxing it
+ */
+@FunctionalInterface
+public interface BooleanTypeSupplier extends TypeSupplier<Boolean> {
+
+    /**
+     * An implementation that creates a primitive boolean
+     *
+     * @return boolean
+     */
+    boolean createBoolean();
+
+    @Override
+    default Boolean create() {
+        return createBoolean();
+    }
+}
@@ -0,0 +1,20 @@
+package com.github.anhem.testpopulator.internal.value;
+
+/**
+ * A {@link TypeSupplier} that can create a primitive double without boxing it
+ */
+@FunctionalInterface
+public interface DoubleTypeSupplier extends TypeSupplier<Double> {
+
+    /**
+     * An implementation that creates a primitive double
+     *
+     * @return double
+     */
+    double createDouble();
+
+    @Override
+    default Double create() {
+        return createDouble();
+    }
+}
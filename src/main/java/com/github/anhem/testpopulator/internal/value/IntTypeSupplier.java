@@ -0,0 +1,20 @@
+package com.github.anhem.testpopulator.internal.value;
+
+/**
+ * A {@link TypeSupplier} that can create a primitive int without boxing it
+ */
+@FunctionalInterface
+public interface IntTypeSupplier extends TypeSupplier<Integer> {
+
+    /**
+     * An implementation that creates a primitive int
+     *
+     * @return int
+     */
+    int createInt();
+
+    @Override
+    default Integer create() {
+        return createInt();
+    }
+}
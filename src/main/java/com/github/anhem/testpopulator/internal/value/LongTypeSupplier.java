@@ -0,0 +1,20 @@
+package com.github.anhem.testpopulator.internal.value;
+
+/**
+ * A {@link TypeSupplier} that can create a primitive long without boxing it
+ */
+@FunctionalInterface
+public interface LongTypeSupplier extends TypeSupplier<Long> {
+
+    /**
+     * An implementation that creates a primitive long
+     *
+     * @return long
+     */
+    long createLong();
+
+    @Override
+    default Long create() {
+        return createLong();
+    }
+}
@@ -0,0 +1,123 @@
+package com.github.anhem.testpopulator.internal.value;
+
+import com.github.anhem.testpopulator.config.RandomSource;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Random;
+
+import static com.github.anhem.testpopulator.internal.util.RandomUtil.*;
+
+/**
+ * Creates ByteBuffers, Strings and BitSets of a configured size, e.g. for load tests that need payloads of several
+ * megabytes. Values are created in bulk rather than a value at a time.
+ * <p>
+ * Direct ByteBuffers are filled through a small reusable chunk, so no heap array of the full size is allocated. Shared
+ * ByteBuffers are read-only slices of one region that is filled once, at a random offset if random values are enabled,
+ * so populating many objects does not allocate a new payload for each of them. With a seed the region is filled from a
+ * source of its own, so it does not consume values of whichever populate call happens to create it first.
+ */
+public class PayloadFactory {
+
+    public static final PayloadFactory NONE = new PayloadFactory(Collections.emptyMap(), false, false, null);
+    private static final int CHUNK_SIZE = 8192;
+    private static final byte FIXED_BYTE = 1;
+    private static final String FIXED_STRING = "string";
+
+    private final Map<Class<?>, Integer> payloadSizes;
+    private final boolean direct;
+    private final boolean shared;
+    private final Long seed;
+    private ByteBuffer sharedRegion;
+
+    /**
+     * @param payloadSizes size of ByteBuffers in bytes, Strings in characters and BitSets in bits, by class
+     * @param direct       allocate ByteBuffers outside of the heap
+     * @param shared       create ByteBuffers as read-only slices of one shared region
+     * @param seed         seed to fill the shared region from, or null if random values are not seeded
+     */
+    public PayloadFactory(Map<Class<?>, Integer> payloadSizes, boolean direct, boolean shared, Long seed) {
+        this.payloadSizes = payloadSizes;
+        this.direct = direct;
+        this.shared = shared;
+        this.seed = seed;
+    }
+
+    public boolean hasPayloadSize(Class<?> clazz) {
+        return payloadSizes.containsKey(clazz);
+    }
+
+    /**
+     * @param randomSource source to fill the buffer from, or null for fixed values
+     */
+    ByteBuffer createByteBuffer(RandomSource randomSource) {
+        int size = payloadSizes.get(ByteBuffer.class);
+        if (shared) {
+            ByteBuffer region = getSharedRegion(size, randomSource);
+            int offset = randomSource != null ? getRandomInt(randomSource, 0, size) : 0;
+            return region.duplicate().position(offset).limit(offset + size).slice().asReadOnlyBuffer();
+        }
+        if (!direct) {
+            if (randomSource != null) {
+                return ByteBuffer.wrap(getRandomBytes(randomSource, size));
+            }
+            byte[] bytes = new byte[size];
+            Arrays.fill(bytes, FIXED_BYTE);
+            return ByteBuffer.wrap(bytes);
+        }
+        return fill(ByteBuffer.allocateDirect(size), randomSource);
+    }
+
+    String createString(RandomSource randomSource) {
+        int size = payloadSizes.get(String.class);
+        if (randomSource != null) {
+            return new String(getRandomChars(randomSource, size));
+        }
+        return FIXED_STRING.repeat(size / FIXED_STRING.length() + 1).substring(0, size);
+    }
+
+    BitSet createBitSet(RandomSource randomSource) {
+        int size = payloadSizes.get(BitSet.class);
+        if (randomSource == null) {
+            BitSet bitSet = new BitSet(size);
+            bitSet.set(0, size);
+            return bitSet;
+        }
+        long[] words = new long[(size + Long.SIZE - 1) / Long.SIZE];
+        for (int i = 0; i < words.length; i++) {
+            words[i] = randomSource.nextLong();
+        }
+        BitSet bitSet = BitSet.valueOf(words);
+        bitSet.clear(size, words.length * Long.SIZE);
+        return bitSet;
+    }
+
+    /**
+     * The region holds twice the size of a buffer, so that slices can start anywhere in its first half.
+     */
+    private synchronized ByteBuffer getSharedRegion(int size, RandomSource randomSource) {
+        if (sharedRegion == null) {
+            int capacity = Math.multiplyExact(size, 2);
+            RandomSource regionRandomSource = randomSource != null && seed != null ? RandomSource.of(new Random(seed)) : randomSource;
+            sharedRegion = fill(direct ? ByteBuffer.allocateDirect(capacity) : ByteBuffer.allocate(capacity), regionRandomSource);
+        }
+        return sharedRegion;
+    }
+
+    private static ByteBuffer fill(ByteBuffer byteBuffer, RandomSource randomSource) {
+        byte[] chunk = new byte[Math.min(CHUNK_SIZE, byteBuffer.remaining())];
+        if (randomSource == null) {
+            Arrays.fill(chunk, FIXED_BYTE);
+        }
+        while (byteBuffer.hasRemaining()) {
+            if (randomSource != null) {
+                randomSource.nextBytes(chunk);
+            }
+            byteBuffer.put(chunk, 0, Math.min(chunk.length, byteBuffer.remaining()));
+        }
+        return byteBuffer.flip();
+    }
+}
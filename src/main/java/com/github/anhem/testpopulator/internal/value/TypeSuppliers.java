@@ -0,0 +1,44 @@
+package com.github.anhem.testpopulator.internal.value;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Suppliers of one class: a supplier by name of a field or parameter, and a supplier for the class itself that is used
+ * for any other name.
+ */
+class TypeSuppliers {
+
+    static final TypeSuppliers NONE = new TypeSuppliers(null, Collections.emptyMap());
+
+    private final TypeSupplier<?> classTypeSupplier;
+    private final Map<String, TypeSupplier<?>> nameTypeSuppliers;
+
+    TypeSuppliers(TypeSupplier<?> classTypeSupplier, Map<String, TypeSupplier<?>> nameTypeSuppliers) {
+        this.classTypeSupplier = classTypeSupplier;
+        this.nameTypeSuppliers = nameTypeSuppliers;
+    }
+
+    /**
+     * @return supplier for name, or the supplier of the class if there is none for name. Null if neither exists
+     */
+    TypeSupplier<?> get(String name) {
+        if (name != null && !nameTypeSuppliers.isEmpty()) {
+            TypeSupplier<?> nameTypeSupplier = nameTypeSuppliers.get(name);
+            if (nameTypeSupplier != null) {
+                return nameTypeSupplier;
+            }
+        }
+        return classTypeSupplier;
+    }
+
+    /**
+     * @return suppliers where the given suppliers take precedence over these
+     */
+    TypeSuppliers with(TypeSupplier<?> classTypeSupplier, Map<String, TypeSupplier<?>> nameTypeSuppliers) {
+        Map<String, TypeSupplier<?>> suppliers = new HashMap<>(this.nameTypeSuppliers);
+        suppliers.putAll(nameTypeSuppliers);
+        return new TypeSuppliers(classTypeSupplier != null ? classTypeSupplier : this.classTypeSupplier, suppliers);
+    }
+}
@@ -1,11 +1,12 @@
 package com.github.anhem.testpopulator.internal.value;
 
 import com.github.anhem.testpopulator.config.BuilderPattern;
+import com.github.anhem.testpopulator.config.CollectionSize;
 import com.github.anhem.testpopulator.config.OverridePopulate;
 import com.github.anhem.testpopulator.config.OverrideTarget;
+import com.github.anhem.testpopulator.config.RandomSource;
 import com.github.anhem.testpopulator.exception.PopulateException;
 import com.github.anhem.testpopulator.internal.util.PopulateUtil;
-import com.github.anhem.testpopulator.internal.util.RandomUtil;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -19,6 +20,8 @@ import java.sql.Time;
 import java.sql.Timestamp;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 import static com.github.anhem.testpopulator.internal.util.RandomUtil.*;
 
@@ -26,7 +29,12 @@ public class ValueFactory {
 
     static final String UNSUPPORTED_TYPE = "Failed to find type to create value for %s. Not implemented?";
 
-    private static final List<Currency> AVAILABLE_CURRENCIES = new ArrayList<>(Currency.getAvailableCurrencies());
+    /**
+     * Sorted, as Currency has an identity hash code and the order of the set it comes from would differ between runs
+     */
+    private static final List<Currency> AVAILABLE_CURRENCIES = Currency.getAvailableCurrencies().stream()
+            .sorted(Comparator.comparing(Currency::getCurrencyCode))
+            .collect(Collectors.toList());
     private static final Locale[] AVAILABLE_LOCALES = Arrays.stream(Locale.getAvailableLocales())
             .filter(l -> l.equals(Locale.forLanguageTag(l.toLanguageTag())))
             .toArray(Locale[]::new);
@@ -49,10 +57,10 @@ public class ValueFactory {
     private static final URL URL = PopulateUtil.toUrl("http://example.com");
     private static final URI URI = java.net.URI.create("http://example.com");
     private static final String STRING = "string";
-    private static final Boolean BOOLEAN = Boolean.TRUE;
-    private static final Long LONG = 1L;
-    private static final Double DOUBLE = 1D;
-    private static final Integer INTEGER = 1;
+    private static final boolean BOOLEAN = true;
+    private static final long LONG = 1L;
+    private static final double DOUBLE = 1D;
+    private static final int INTEGER = 1;
     private static final Character CHARACTER = 'c';
     private static final String UUID_STRING = "43c6e27d-c0c6-43d6-8462-34ac04c1d5f3";
     private static final BigDecimal BIG_DECIMAL = BigDecimal.ONE;
@@ -83,38 +91,138 @@ public class ValueFactory {
     private static final Inet4Address INET4_ADDRESS = (Inet4Address) PopulateUtil.toInetAddress("127.0.0.1");
     private static final Inet6Address INET6_ADDRESS = (Inet6Address) PopulateUtil.toInetAddress("::1");
     private static final InetSocketAddress INET_SOCKET_ADDRESS = new InetSocketAddress(INET_ADDRESS, 8080);
+    private static final Year LEAP_YEAR = Year.of(2000);
+    private static final int MIN_OFFSET_HOURS = -18;
+    private static final int OFFSET_HOURS = 37;
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+    private static final int PORTS = 1 << 16;
 
     private final boolean setRandomValues;
     private final Map<Class<?>, TypeSupplier<?>> classTypeSuppliers;
-    private final Map<OverrideTarget, TypeSupplier<?>> nameTypeSuppliers;
+    private final Map<Class<?>, TypeSuppliers> typeSuppliers;
+    private final Map<Class<?>, TypeSuppliers> typeSupplierOverlay;
+    private final ValueFactory base;
     private final BuilderPattern builderPattern;
+    private final RandomSource randomSource;
+    private final Clock clock;
+    private final PayloadFactory payloadFactory;
 
     public ValueFactory(
             boolean setRandomValues,
             Map<Class<?>, OverridePopulate<?>> classOverrides,
             Map<OverrideTarget, OverridePopulate<?>> nameOverrides,
             BuilderPattern builderPattern
+    ) {
+        this(setRandomValues, classOverrides, nameOverrides, builderPattern, RandomSource.threadLocal(), Clock.systemDefaultZone());
+    }
+
+    /**
+     * @param clock clock that random dates and times are created around, and the zone they are created in
+     */
+    public ValueFactory(
+            boolean setRandomValues,
+            Map<Class<?>, OverridePopulate<?>> classOverrides,
+            Map<OverrideTarget, OverridePopulate<?>> nameOverrides,
+            BuilderPattern builderPattern,
+            RandomSource randomSource,
+            Clock clock
+    ) {
+        this(setRandomValues, classOverrides, nameOverrides, builderPattern, randomSource, clock, PayloadFactory.NONE);
+    }
+
+    /**
+     * @param payloadFactory creates ByteBuffers, Strings and BitSets that have a payload size
+     */
+    public ValueFactory(
+            boolean setRandomValues,
+            Map<Class<?>, OverridePopulate<?>> classOverrides,
+            Map<OverrideTarget, OverridePopulate<?>> nameOverrides,
+            BuilderPattern builderPattern,
+            RandomSource randomSource,
+            Clock clock,
+            PayloadFactory payloadFactory
     ) {
         this.setRandomValues = setRandomValues;
+        this.payloadFactory = payloadFactory;
         this.classTypeSuppliers = setClassTypeSuppliers(classOverrides);
-        this.nameTypeSuppliers = new HashMap<>(nameOverrides);
+        this.typeSuppliers = indexTypeSuppliers(nameOverrides);
+        this.typeSupplierOverlay = Collections.emptyMap();
+        this.base = this;
         this.builderPattern = builderPattern;
+        this.randomSource = randomSource;
+        this.clock = clock;
+    }
+
+    private ValueFactory(ValueFactory valueFactory, Map<Class<?>, TypeSuppliers> typeSupplierOverlay) {
+        this.setRandomValues = valueFactory.setRandomValues;
+        this.classTypeSuppliers = valueFactory.classTypeSuppliers;
+        this.typeSuppliers = valueFactory.typeSuppliers;
+        this.typeSupplierOverlay = typeSupplierOverlay;
+        this.base = valueFactory.base;
+        this.builderPattern = valueFactory.builderPattern;
+        this.randomSource = valueFactory.randomSource;
+        this.clock = valueFactory.clock;
+        this.payloadFactory = valueFactory.payloadFactory;
+    }
+
+    /**
+     * Create a ValueFactory where the given overrides take precedence over the types of this ValueFactory. The
+     * suppliers of this ValueFactory are shared rather than rebuilt, and only the classes that are overridden are
+     * indexed again, so this is cheap enough to do for every populate call that has overrides.
+     *
+     * @return ValueFactory with overrides laid on top of this ValueFactory
+     */
+    public ValueFactory withOverrides(Map<Class<?>, OverridePopulate<?>> classOverrides, Map<OverrideTarget, OverridePopulate<?>> nameOverrides) {
+        if (classOverrides.isEmpty() && nameOverrides.isEmpty()) {
+            return this;
+        }
+        Map<Class<?>, Map<String, TypeSupplier<?>>> nameTypeSuppliers = groupByClass(nameOverrides);
+        Set<Class<?>> classes = new HashSet<>(classOverrides.keySet());
+        classes.addAll(nameTypeSuppliers.keySet());
+        Map<Class<?>, TypeSuppliers> overlay = new HashMap<>(typeSupplierOverlay);
+        for (Class<?> clazz : classes) {
+            overlay.put(clazz, getTypeSuppliers(clazz).with(classOverrides.get(clazz), nameTypeSuppliers.getOrDefault(clazz, Collections.emptyMap())));
+        }
+        return new ValueFactory(this, overlay);
+    }
+
+    /**
+     * Index the suppliers by class, with the suppliers by name of each class next to the supplier of the class, so
+     * that a value is looked up with one probe and without creating a key for it.
+     */
+    private Map<Class<?>, TypeSuppliers> indexTypeSuppliers(Map<OverrideTarget, OverridePopulate<?>> nameOverrides) {
+        Map<Class<?>, TypeSuppliers> suppliers = new ConcurrentHashMap<>();
+        classTypeSuppliers.forEach((clazz, typeSupplier) -> suppliers.put(clazz, new TypeSuppliers(typeSupplier, Collections.emptyMap())));
+        groupByClass(nameOverrides).forEach((clazz, nameTypeSuppliers) ->
+                suppliers.put(clazz, suppliers.getOrDefault(clazz, createEnumTypeSuppliers(clazz)).with(null, nameTypeSuppliers)));
+        return suppliers;
+    }
+
+    private static Map<Class<?>, Map<String, TypeSupplier<?>>> groupByClass(Map<OverrideTarget, OverridePopulate<?>> nameOverrides) {
+        Map<Class<?>, Map<String, TypeSupplier<?>>> suppliers = new HashMap<>();
+        nameOverrides.forEach((overrideTarget, overridePopulate) ->
+                suppliers.computeIfAbsent(overrideTarget.getClazz(), clazz -> new HashMap<>()).put(overrideTarget.getName(), overridePopulate));
+        return suppliers;
+    }
+
+    private TypeSuppliers createEnumTypeSuppliers(Class<?> clazz) {
+        return clazz.isEnum() ? new TypeSuppliers(() -> getEnum(clazz), Collections.emptyMap()) : TypeSuppliers.NONE;
     }
 
     private Map<Class<?>, TypeSupplier<?>> setClassTypeSuppliers(Map<Class<?>, OverridePopulate<?>> classOverrides) {
         Map<Class<?>, TypeSupplier<?>> suppliers = new HashMap<>();
-        suppliers.put(Integer.class, this::getInteger);
-        suppliers.put(int.class, this::getInteger);
-        suppliers.put(Long.class, this::getLong);
-        suppliers.put(long.class, this::getLong);
-        suppliers.put(Double.class, this::getDouble);
-        suppliers.put(double.class, this::getDouble);
+        suppliers.put(Integer.class, (IntTypeSupplier) this::getInteger);
+        suppliers.put(int.class, (IntTypeSupplier) this::getInteger);
+        suppliers.put(Long.class, (LongTypeSupplier) this::getLong);
+        suppliers.put(long.class, (LongTypeSupplier) this::getLong);
+        suppliers.put(Double.class, (DoubleTypeSupplier) this::getDouble);
+        suppliers.put(double.class, (DoubleTypeSupplier) this::getDouble);
         suppliers.put(Short.class, this::getShort);
         suppliers.put(short.class, this::getShort);
         suppliers.put(Float.class, this::getFloat);
         suppliers.put(float.class, this::getFloat);
-        suppliers.put(Boolean.class, this::getBoolean);
-        suppliers.put(boolean.class, this::getBoolean);
+        suppliers.put(Boolean.class, (BooleanTypeSupplier) this::getBoolean);
+        suppliers.put(boolean.class, (BooleanTypeSupplier) this::getBoolean);
         suppliers.put(BigDecimal.class, this::getBigDecimal);
         suppliers.put(BigInteger.class, this::getBigInteger);
         suppliers.put(String.class, this::getString);
@@ -162,6 +270,16 @@ public class ValueFactory {
         suppliers.put(Inet4Address.class, this::getInet4Address);
         suppliers.put(Inet6Address.class, this::getInet6Address);
         suppliers.put(InetSocketAddress.class, this::getInetSocketAddress);
+        if (payloadFactory.hasPayloadSize(String.class)) {
+            suppliers.put(String.class, () -> payloadFactory.createString(setRandomValues ? randomSource : null));
+            suppliers.put(CharSequence.class, () -> payloadFactory.createString(setRandomValues ? randomSource : null));
+        }
+        if (payloadFactory.hasPayloadSize(ByteBuffer.class)) {
+            suppliers.put(ByteBuffer.class, () -> payloadFactory.createByteBuffer(setRandomValues ? randomSource : null));
+        }
+        if (payloadFactory.hasPayloadSize(BitSet.class)) {
+            suppliers.put(BitSet.class, () -> payloadFactory.createBitSet(setRandomValues ? randomSource : null));
+        }
         suppliers.putAll(classOverrides);
         return suppliers;
     }
@@ -172,103 +290,419 @@ public class ValueFactory {
 
     @SuppressWarnings("unchecked")
     public <T> T createValue(Class<T> clazz, String name) {
-        if (name != null) {
-            OverrideTarget overrideTarget = OverrideTarget.of(name, clazz);
-            if (nameTypeSuppliers.containsKey(overrideTarget)) {
-                return (T) nameTypeSuppliers.get(overrideTarget).create();
-            }
+        TypeSupplier<?> typeSupplier = getTypeSupplier(clazz, name);
+        if (typeSupplier != null) {
+            return (T) typeSupplier.create();
         }
 
-        if (classTypeSuppliers.containsKey(clazz)) {
-            return (T) classTypeSuppliers.get(clazz).create();
+        throw new PopulateException(String.format(UNSUPPORTED_TYPE, clazz.getTypeName()));
+    }
+
+    /**
+     * Look up what creates values of clazz. A supplier by name takes precedence over a supplier by class, and overrides
+     * take precedence over built-in types. The lookup is one probe by class and allocates nothing, so it is cheap
+     * enough to do for every field, parameter and element.
+     *
+     * @param clazz class of the value
+     * @param name  name of the field or parameter of the value, or null
+     * @return supplier of values, or null if clazz is not a value type
+     */
+    public TypeSupplier<?> getTypeSupplier(Class<?> clazz, String name) {
+        return getTypeSuppliers(clazz).get(name);
+    }
+
+    /**
+     * @return number of elements within collectionSize, which is the smallest one unless random values are enabled
+     */
+    public int createSize(CollectionSize collectionSize) {
+        return setRandomValues ? getRandomInt(randomSource, collectionSize.getMin(), collectionSize.getMax()) : collectionSize.getMin();
+    }
+
+    /**
+     * Values are the same every time unless random values are enabled, and random values can repeat, so the values
+     * within elements of sets and keys of maps are derived from the index of the element, e.g. string, string1, string2,
+     * the next day or the next enum constant. Values of classes with few values, see {@link #countDistinctValues(Class)},
+     * wrap around.
+     *
+     * @param value value created within the element
+     * @param index index of the element
+     * @return value derived from index, or value itself if index is 0 or its class is compared by identity
+     */
+    public Object toDistinctValue(Object value, int index) {
+        if (index == 0 || value == null) {
+            return value;
+        }
+        if (value instanceof String) {
+            return value + String.valueOf(index);
+        } else if (value instanceof Integer) {
+            return (Integer) value + index;
+        } else if (value instanceof Long) {
+            return (Long) value + index;
+        } else if (value instanceof Double) {
+            return (Double) value + index;
+        } else if (value instanceof Float) {
+            return (Float) value + index;
+        } else if (value instanceof Short) {
+            return (short) ((Short) value + index);
+        } else if (value instanceof Byte) {
+            return (byte) ((Byte) value + index);
+        } else if (value instanceof Character) {
+            return (char) ((Character) value + index);
+        } else if (value instanceof Boolean) {
+            return index % 2 == 0 ? value : !((Boolean) value);
+        } else if (value instanceof BigDecimal) {
+            return ((BigDecimal) value).add(BigDecimal.valueOf(index));
+        } else if (value instanceof BigInteger) {
+            return ((BigInteger) value).add(BigInteger.valueOf(index));
+        } else if (value instanceof Enum) {
+            return next(getEnumValues(((Enum<?>) value).getDeclaringClass()), value, index);
+        } else if (value instanceof UUID) {
+            UUID uuid = (UUID) value;
+            return new UUID(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits() + index);
+        } else if (value instanceof LocalDate) {
+            return ((LocalDate) value).plusDays(index);
+        } else if (value instanceof LocalDateTime) {
+            return ((LocalDateTime) value).plusDays(index);
+        } else if (value instanceof ZonedDateTime) {
+            return ((ZonedDateTime) value).plusDays(index);
+        } else if (value instanceof OffsetDateTime) {
+            return ((OffsetDateTime) value).plusDays(index);
+        } else if (value instanceof Instant) {
+            return ((Instant) value).plus(Duration.ofDays(index));
+        } else if (value instanceof LocalTime) {
+            return ((LocalTime) value).plusSeconds(index);
+        } else if (value instanceof OffsetTime) {
+            return ((OffsetTime) value).plusSeconds(index);
+        } else if (value instanceof Duration) {
+            return ((Duration) value).plusSeconds(index);
+        } else if (value instanceof Period) {
+            return ((Period) value).plusDays(index);
+        } else if (value instanceof Year) {
+            return ((Year) value).plusYears(index);
+        } else if (value instanceof YearMonth) {
+            return ((YearMonth) value).plusMonths(index);
+        } else if (value instanceof MonthDay) {
+            MonthDay monthDay = (MonthDay) value;
+            return MonthDay.from(LEAP_YEAR.atMonthDay(monthDay).plusDays(index % LEAP_YEAR.length()));
+        } else if (value instanceof Timestamp) {
+            return Timestamp.from(((Timestamp) value).toInstant().plus(Duration.ofDays(index)));
+        } else if (value instanceof java.sql.Date) {
+            return java.sql.Date.valueOf(((java.sql.Date) value).toLocalDate().plusDays(index));
+        } else if (value instanceof Time) {
+            return Time.valueOf(((Time) value).toLocalTime().plusSeconds(index));
+        } else if (value instanceof Date) {
+            return Date.from(((Date) value).toInstant().plus(Duration.ofDays(index)));
+        } else if (value instanceof Calendar) {
+            Calendar calendar = (Calendar) ((Calendar) value).clone();
+            calendar.add(Calendar.DAY_OF_YEAR, index);
+            return calendar;
+        } else if (value instanceof Currency) {
+            return next(AVAILABLE_CURRENCIES, value, index);
+        } else if (value instanceof Locale) {
+            return next(Arrays.asList(AVAILABLE_LOCALES), value, index);
+        } else if (value instanceof TimeZone) {
+            return TimeZone.getTimeZone((String) next(Arrays.asList(AVAILABLE_TIMEZONE_IDS), ((TimeZone) value).getID(), index));
+        } else if (value instanceof ZoneOffset) {
+            int hours = ((ZoneOffset) value).getTotalSeconds() / 3600;
+            return ZoneOffset.ofHours(Math.floorMod(hours - MIN_OFFSET_HOURS + index, OFFSET_HOURS) + MIN_OFFSET_HOURS);
+        } else if (value instanceof ZoneId) {
+            return ZoneId.of((String) next(AVAILABLE_ZONE_IDS, ((ZoneId) value).getId(), index));
+        } else if (value instanceof Charset) {
+            return next(AVAILABLE_CHARSETS, value, index);
+        } else if (value instanceof Path) {
+            return Paths.get(value + String.valueOf(index));
+        } else if (value instanceof URL) {
+            return PopulateUtil.toUrl(value + "/" + index);
+        } else if (value instanceof URI) {
+            return java.net.URI.create(value + "/" + index);
+        } else if (value instanceof BitSet) {
+            BitSet bitSet = (BitSet) ((BitSet) value).clone();
+            bitSet.set(bitSet.length() + index - 1);
+            return bitSet;
+        } else if (value instanceof ByteBuffer) {
+            ByteBuffer byteBuffer = ByteBuffer.allocate(((ByteBuffer) value).remaining()).put(((ByteBuffer) value).duplicate());
+            return ByteBuffer.wrap(xorIndex(byteBuffer.array(), index));
+        } else if (value instanceof InetAddress) {
+            return toInetAddress(xorIndex(((InetAddress) value).getAddress(), index));
+        } else if (value instanceof InetSocketAddress) {
+            InetSocketAddress inetSocketAddress = (InetSocketAddress) value;
+            return new InetSocketAddress(inetSocketAddress.getAddress(), (inetSocketAddress.getPort() + index) % PORTS);
         }
+        return value;
+    }
 
+    /**
+     * @return number of distinct values created for clazz, or {@link Integer#MAX_VALUE} if there are more than a set or
+     * map can hold
+     */
+    public int countDistinctValues(Class<?> clazz) {
         if (clazz.isEnum()) {
-            return getEnum(clazz);
+            return getEnumValues(clazz).size();
+        } else if (clazz == Boolean.class || clazz == boolean.class) {
+            return 2;
+        } else if (clazz == Byte.class || clazz == byte.class) {
+            return 1 << Byte.SIZE;
+        } else if (clazz == Short.class || clazz == short.class || clazz == Character.class || clazz == char.class) {
+            return 1 << Short.SIZE;
+        } else if (clazz == LocalTime.class || clazz == OffsetTime.class || clazz == Time.class) {
+            return SECONDS_PER_DAY;
+        } else if (clazz == MonthDay.class) {
+            return LEAP_YEAR.length();
+        } else if (clazz == Currency.class) {
+            return AVAILABLE_CURRENCIES.size();
+        } else if (clazz == Locale.class) {
+            return AVAILABLE_LOCALES.length;
+        } else if (clazz == TimeZone.class) {
+            return AVAILABLE_TIMEZONE_IDS.length;
+        } else if (clazz == ZoneOffset.class) {
+            return OFFSET_HOURS;
+        } else if (clazz == ZoneId.class) {
+            return AVAILABLE_ZONE_IDS.size();
+        } else if (clazz == Charset.class) {
+            return AVAILABLE_CHARSETS.size();
+        } else if (clazz == InetSocketAddress.class) {
+            return PORTS;
         }
+        return Integer.MAX_VALUE;
+    }
 
-        throw new PopulateException(String.format(UNSUPPORTED_TYPE, clazz.getTypeName()));
+    private List<?> getEnumValues(Class<?> enumClass) {
+        boolean removeUnrecognized = builderPattern.equals(BuilderPattern.PROTOBUF);
+        return Arrays.stream(enumClass.getEnumConstants())
+                .filter(enumValue -> !removeUnrecognized || !enumValue.toString().equals("UNRECOGNIZED"))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @return value index places after value in values, starting over from the first value after the last one
+     */
+    private static Object next(List<?> values, Object value, int index) {
+        int position = values.indexOf(value);
+        return position < 0 ? value : values.get((position + index) % values.size());
+    }
+
+    /**
+     * @return bytes with index xor:ed into its last bytes
+     */
+    private static byte[] xorIndex(byte[] bytes, int index) {
+        for (int i = 0; i < Integer.BYTES && i < bytes.length; i++) {
+            bytes[bytes.length - 1 - i] ^= (byte) (index >>> (Byte.SIZE * i));
+        }
+        return bytes;
+    }
+
+    private static InetAddress toInetAddress(byte[] address) {
+        try {
+            return InetAddress.getByAddress(address);
+        } catch (UnknownHostException e) {
+            throw new PopulateException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Create an array of a primitive type that is filled directly, without a boxed value per element.
+     *
+     * @param componentType primitive type of the elements
+     * @param name          name of the field or parameter of the array, used to look up overrides
+     * @param length        number of elements
+     * @return array, or null if componentType is not primitive or its values are overridden
+     */
+    public Object createPrimitiveArray(Class<?> componentType, String name, int length) {
+        if (!componentType.isPrimitive() || isOverridden(componentType, name)) {
+            return null;
+        }
+        if (componentType.equals(int.class)) {
+            return createIntArray(length);
+        } else if (componentType.equals(long.class)) {
+            return createLongArray(length);
+        } else if (componentType.equals(double.class)) {
+            return createDoubleArray(length);
+        } else if (componentType.equals(byte.class)) {
+            return createByteArray(length);
+        } else if (componentType.equals(char.class)) {
+            return createCharArray(length);
+        } else if (componentType.equals(boolean.class)) {
+            return createBooleanArray(length);
+        } else if (componentType.equals(short.class)) {
+            return createShortArray(length);
+        } else if (componentType.equals(float.class)) {
+            return createFloatArray(length);
+        }
+        return null;
     }
 
     public boolean hasType(Class<?> clazz, String name) {
-        return clazz.isEnum() ||
-                classTypeSuppliers.containsKey(clazz) ||
-                (name != null && nameTypeSuppliers.containsKey(OverrideTarget.of(name, clazz)));
+        return getTypeSupplier(clazz, name) != null;
+    }
+
+    private boolean isOverridden(Class<?> clazz, String name) {
+        return getTypeSupplier(clazz, name) instanceof OverridePopulate;
+    }
+
+    /**
+     * Enums are indexed when they are first looked up, as they are not known up front. The shared index outlives any
+     * ValueFactory with overrides, so the supplier of an enum is always created by the base ValueFactory.
+     */
+    private TypeSuppliers getTypeSuppliers(Class<?> clazz) {
+        TypeSuppliers suppliers = typeSupplierOverlay.get(clazz);
+        if (suppliers == null) {
+            suppliers = typeSuppliers.get(clazz);
+        }
+        if (suppliers == null) {
+            return clazz.isEnum() ? typeSuppliers.computeIfAbsent(clazz, base::createEnumTypeSuppliers) : TypeSuppliers.NONE;
+        }
+        return suppliers;
     }
 
     Set<Class<?>> getRegisteredTypes() {
         return classTypeSuppliers.keySet();
     }
 
+    private LocalDate today() {
+        return LocalDate.now(clock);
+    }
+
     private <T> T getEnum(Class<T> clazz) {
         if (setRandomValues) {
-            return getRandomEnum(clazz, builderPattern.equals(BuilderPattern.PROTOBUF));
+            return getRandomEnum(randomSource, clazz, builderPattern.equals(BuilderPattern.PROTOBUF));
         }
         return clazz.getEnumConstants()[0];
     }
 
-    private Integer getInteger() {
-        return setRandomValues ? Integer.valueOf(getRandomInt()) : INTEGER;
+    private int getInteger() {
+        return setRandomValues ? getRandomInt(randomSource) : INTEGER;
     }
 
-    private Long getLong() {
-        return setRandomValues ? Long.valueOf(getRandomInt()) : LONG;
+    private long getLong() {
+        return setRandomValues ? getRandomInt(randomSource) : LONG;
     }
 
-    private Double getDouble() {
-        return setRandomValues ? Double.valueOf(getRandomInt()) : DOUBLE;
+    private double getDouble() {
+        return setRandomValues ? getRandomInt(randomSource) : DOUBLE;
     }
 
     private Short getShort() {
-        return setRandomValues ? RandomUtil.getRandomShort() : SHORT;
+        return setRandomValues ? getRandomShort(randomSource) : SHORT;
     }
 
     private Float getFloat() {
-        return setRandomValues ? RandomUtil.getRandomFloat() : FLOAT;
+        return setRandomValues ? getRandomFloat(randomSource) : FLOAT;
     }
 
-    private Boolean getBoolean() {
-        return setRandomValues ? getRandomBoolean() : BOOLEAN;
+    private boolean getBoolean() {
+        return setRandomValues ? getRandomBoolean(randomSource) : BOOLEAN;
+    }
+
+    private int[] createIntArray(int length) {
+        if (setRandomValues) {
+            return getRandomInts(randomSource, length);
+        }
+        int[] ints = new int[length];
+        Arrays.fill(ints, INTEGER);
+        return ints;
+    }
+
+    private long[] createLongArray(int length) {
+        if (setRandomValues) {
+            return getRandomLongs(randomSource, length);
+        }
+        long[] longs = new long[length];
+        Arrays.fill(longs, LONG);
+        return longs;
+    }
+
+    private double[] createDoubleArray(int length) {
+        if (setRandomValues) {
+            return getRandomDoubles(randomSource, length);
+        }
+        double[] doubles = new double[length];
+        Arrays.fill(doubles, DOUBLE);
+        return doubles;
+    }
+
+    private byte[] createByteArray(int length) {
+        if (setRandomValues) {
+            return getRandomBytes(randomSource, length);
+        }
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, BYTE);
+        return bytes;
+    }
+
+    private char[] createCharArray(int length) {
+        if (setRandomValues) {
+            return getRandomChars(randomSource, length);
+        }
+        char[] chars = new char[length];
+        Arrays.fill(chars, CHARACTER);
+        return chars;
+    }
+
+    private boolean[] createBooleanArray(int length) {
+        if (setRandomValues) {
+            return getRandomBooleans(randomSource, length);
+        }
+        boolean[] booleans = new boolean[length];
+        Arrays.fill(booleans, BOOLEAN);
+        return booleans;
+    }
+
+    private short[] createShortArray(int length) {
+        if (setRandomValues) {
+            return getRandomShorts(randomSource, length);
+        }
+        short[] shorts = new short[length];
+        Arrays.fill(shorts, SHORT);
+        return shorts;
+    }
+
+    private float[] createFloatArray(int length) {
+        if (setRandomValues) {
+            return getRandomFloats(randomSource, length);
+        }
+        float[] floats = new float[length];
+        Arrays.fill(floats, FLOAT);
+        return floats;
     }
 
     private BigDecimal getBigDecimal() {
-        return setRandomValues ? BigDecimal.valueOf(getRandomInt()) : BIG_DECIMAL;
+        return setRandomValues ? BigDecimal.valueOf(getRandomInt(randomSource)) : BIG_DECIMAL;
     }
 
     private String getString() {
-        return setRandomValues ? getRandomString() : STRING;
+        return setRandomValues ? getRandomString(randomSource) : STRING;
     }
 
     private LocalDateTime getLocalDateTime() {
-        return setRandomValues ? getRandomLocalDateTime() : LOCAL_DATE_TIME;
+        return setRandomValues ? getRandomLocalDateTime(randomSource, today()) : LOCAL_DATE_TIME;
     }
 
     private ZonedDateTime getZonedDateTime() {
-        return setRandomValues ? getRandomLocalDateTime().atZone(ZoneId.systemDefault()) : ZONED_DATE_TIME;
+        return setRandomValues ? getRandomLocalDateTime(randomSource, today()).atZone(clock.getZone()) : ZONED_DATE_TIME;
     }
 
     private Instant getInstant() {
-        return setRandomValues ? getRandomLocalDateTime().atZone(ZoneId.systemDefault()).toInstant() : INSTANT;
+        return setRandomValues ? getRandomLocalDateTime(randomSource, today()).atZone(clock.getZone()).toInstant() : INSTANT;
     }
 
     private Date getDate() {
-        return setRandomValues ? Date.from(getRandomLocalDateTime().atZone(ZoneId.systemDefault()).toInstant()) : DATE;
+        return setRandomValues ? Date.from(getRandomLocalDateTime(randomSource, today()).atZone(clock.getZone()).toInstant()) : DATE;
     }
 
     private LocalDate getLocalDate() {
-        return setRandomValues ? getRandomLocalDateTime().toLocalDate() : LOCAL_DATE;
+        return setRandomValues ? getRandomLocalDateTime(randomSource, today()).toLocalDate() : LOCAL_DATE;
     }
 
     private Character getChar() {
-        return setRandomValues ? getRandomCharacter() : CHARACTER;
+        return setRandomValues ? getRandomCharacter(randomSource) : CHARACTER;
     }
 
     private UUID getUUID() {
-        return setRandomValues ? UUID.randomUUID() : UUID.fromString(UUID_STRING);
+        return setRandomValues ? getRandomUUID(randomSource) : UUID.fromString(UUID_STRING);
     }
 
     private Byte getByte() {
-        return setRandomValues ? getRandomByte() : BYTE;
+        return setRandomValues ? getRandomByte(randomSource) : BYTE;
     }
 
     private BigInteger getBigInteger() {
@@ -276,7 +710,7 @@ public class ValueFactory {
     }
 
     private LocalTime getLocalTime() {
-        return setRandomValues ? getRandomLocalTime() : LOCAL_TIME;
+        return setRandomValues ? getRandomLocalTime(randomSource) : LOCAL_TIME;
     }
 
     private OffsetDateTime getOffsetDateTime() {
@@ -292,7 +726,7 @@ public class ValueFactory {
     }
 
     private Period getPeriod() {
-        return setRandomValues ? Period.ofDays(getRandomInt()) : PERIOD;
+        return setRandomValues ? Period.ofDays(getRandomInt(randomSource)) : PERIOD;
     }
 
     private java.sql.Date getSqlDate() {
@@ -300,7 +734,7 @@ public class ValueFactory {
     }
 
     private Time getSqlTime() {
-        return setRandomValues ? Time.valueOf(getRandomLocalTime()) : SQL_TIME;
+        return setRandomValues ? Time.valueOf(getRandomLocalTime(randomSource)) : SQL_TIME;
     }
 
     private Timestamp getSqlTimestamp() {
@@ -308,67 +742,67 @@ public class ValueFactory {
     }
 
     private Currency getCurrency() {
-        return setRandomValues ? AVAILABLE_CURRENCIES.get(getRandomInt(AVAILABLE_CURRENCIES.size())) : CURRENCY;
+        return setRandomValues ? AVAILABLE_CURRENCIES.get(getRandomInt(randomSource, AVAILABLE_CURRENCIES.size())) : CURRENCY;
     }
 
     private Locale getLocale() {
-        return setRandomValues ? AVAILABLE_LOCALES[getRandomInt(AVAILABLE_LOCALES.length)] : LOCALE;
+        return setRandomValues ? AVAILABLE_LOCALES[getRandomInt(randomSource, AVAILABLE_LOCALES.length)] : LOCALE;
     }
 
     private TimeZone getTimeZone() {
-        return setRandomValues ? TimeZone.getTimeZone(AVAILABLE_TIMEZONE_IDS[getRandomInt(AVAILABLE_TIMEZONE_IDS.length)]) : TimeZone.getTimeZone("UTC");
+        return setRandomValues ? TimeZone.getTimeZone(AVAILABLE_TIMEZONE_IDS[getRandomInt(randomSource, AVAILABLE_TIMEZONE_IDS.length)]) : TimeZone.getTimeZone("UTC");
     }
 
     private ZoneId getZoneId() {
-        return setRandomValues ? ZoneId.of(AVAILABLE_ZONE_IDS.get(getRandomInt(AVAILABLE_ZONE_IDS.size()))) : ZONE_ID;
+        return setRandomValues ? ZoneId.of(AVAILABLE_ZONE_IDS.get(getRandomInt(randomSource, AVAILABLE_ZONE_IDS.size()))) : ZONE_ID;
     }
 
     private ZoneOffset getZoneOffset() {
-        return setRandomValues ? ZoneOffset.ofHours(getRandomInt(37) - 18) : ZONE_OFFSET;
+        return setRandomValues ? ZoneOffset.ofHours(getRandomInt(randomSource, OFFSET_HOURS) + MIN_OFFSET_HOURS) : ZONE_OFFSET;
     }
 
     private Year getYear() {
-        return setRandomValues ? Year.from(getRandomLocalDate(5)) : YEAR;
+        return setRandomValues ? Year.from(getRandomLocalDate(randomSource, today(), 5)) : YEAR;
     }
 
     private YearMonth getYearMonth() {
-        return setRandomValues ? YearMonth.from(getRandomLocalDate(5)) : YEAR_MONTH;
+        return setRandomValues ? YearMonth.from(getRandomLocalDate(randomSource, today(), 5)) : YEAR_MONTH;
     }
 
     private MonthDay getMonthDay() {
-        return setRandomValues ? MonthDay.from(getRandomLocalDate(5)) : MONTH_DAY;
+        return setRandomValues ? MonthDay.from(getRandomLocalDate(randomSource, today(), 5)) : MONTH_DAY;
     }
 
     private Month getMonth() {
-        return setRandomValues ? getRandomEnum(Month.class, false) : MONTH;
+        return setRandomValues ? getRandomEnum(randomSource, Month.class, false) : MONTH;
     }
 
     private DayOfWeek getDayOfWeek() {
-        return setRandomValues ? getRandomEnum(DayOfWeek.class, false) : DAY_OF_WEEK;
+        return setRandomValues ? getRandomEnum(randomSource, DayOfWeek.class, false) : DAY_OF_WEEK;
     }
 
     private Path getPath() {
-        return setRandomValues ? Paths.get(getRandomString()) : PATH;
+        return setRandomValues ? Paths.get(getRandomString(randomSource)) : PATH;
     }
 
     private URL getUrl() {
-        return setRandomValues ? PopulateUtil.toUrl("http://example.com/" + getRandomString()) : URL;
+        return setRandomValues ? PopulateUtil.toUrl("http://example.com/" + getRandomString(randomSource)) : URL;
     }
 
     private URI getUri() {
-        return setRandomValues ? java.net.URI.create("http://example.com/" + getRandomString()) : URI;
+        return setRandomValues ? java.net.URI.create("http://example.com/" + getRandomString(randomSource)) : URI;
     }
 
     private Charset getCharset() {
-        return setRandomValues ? AVAILABLE_CHARSETS.get(getRandomInt(AVAILABLE_CHARSETS.size())) : CHARSET;
+        return setRandomValues ? AVAILABLE_CHARSETS.get(getRandomInt(randomSource, AVAILABLE_CHARSETS.size())) : CHARSET;
     }
 
     private Calendar getCalendar() {
-        return setRandomValues ? new Calendar.Builder().setInstant(RandomUtil.getRandomLong()).build() : new GregorianCalendar(1970, Calendar.JANUARY, 1);
+        return setRandomValues ? new Calendar.Builder().setInstant(getRandomLong(randomSource)).build() : new GregorianCalendar(1970, Calendar.JANUARY, 1);
     }
 
     private BitSet getBitSet() {
-        return setRandomValues ? BitSet.valueOf(new long[]{RandomUtil.getRandomLong()}) : BitSet.valueOf(new long[]{1L});
+        return setRandomValues ? BitSet.valueOf(new long[]{getRandomLong(randomSource)}) : BitSet.valueOf(new long[]{1L});
     }
 
     private Throwable getThrowable() {
@@ -388,7 +822,7 @@ public class ValueFactory {
     }
 
     private ByteBuffer getByteBuffer() {
-        return setRandomValues ? ByteBuffer.wrap(getRandomBytes(10)) : BYTE_BUFFER;
+        return setRandomValues ? ByteBuffer.wrap(getRandomBytes(randomSource, 10)) : BYTE_BUFFER;
     }
 
     private InetAddress getInetAddress() {
@@ -398,7 +832,7 @@ public class ValueFactory {
     private Inet4Address getInet4Address() {
         if (setRandomValues) {
             try {
-                return (Inet4Address) InetAddress.getByAddress(getRandomBytes(4));
+                return (Inet4Address) InetAddress.getByAddress(getRandomBytes(randomSource, 4));
             } catch (UnknownHostException e) {
                 throw new PopulateException(e.getMessage(), e);
             }
@@ -409,7 +843,7 @@ public class ValueFactory {
     private Inet6Address getInet6Address() {
         if (setRandomValues) {
             try {
-                return (Inet6Address) InetAddress.getByAddress(getRandomBytes(16));
+                return (Inet6Address) InetAddress.getByAddress(getRandomBytes(randomSource, 16));
             } catch (UnknownHostException e) {
                 throw new PopulateException(e.getMessage(), e);
             }
@@ -418,6 +852,6 @@ public class ValueFactory {
     }
 
     private InetSocketAddress getInetSocketAddress() {
-        return setRandomValues ? new InetSocketAddress(getInetAddress(), getRandomInt(65535)) : INET_SOCKET_ADDRESS;
+        return setRandomValues ? new InetSocketAddress(getInetAddress(), getRandomInt(randomSource, 65535)) : INET_SOCKET_ADDRESS;
     }
 }
@@ -30,4 +30,21 @@ class ObjectFactoryPathOverrideTest {
         assertThat(Path.of(customPath)).isDirectory();
         assertGeneratedCode(pojo, populateConfig);
     }
+
+    @Test
+    void generatedFileIsWrittenInBackground() {
+        String customPath = tempDir.resolve("background-generated-sources").toString();
+        PopulateConfig populateConfig = PopulateConfig.builder()
+                .objectFactory(true)
+                .path(customPath)
+                .backgroundWrites(true)
+                .and()
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        Pojo pojo = populateFactory.populate(Pojo.class);
+        populateFactory.flush();
+
+        assertGeneratedCode(pojo, populateConfig);
+    }
 }
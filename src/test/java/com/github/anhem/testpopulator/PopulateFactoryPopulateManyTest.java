@@ -0,0 +1,119 @@
+package com.github.anhem.testpopulator;
+
+import com.github.anhem.testpopulator.config.PopulateConfig;
+import com.github.anhem.testpopulator.exception.PopulateException;
+import com.github.anhem.testpopulator.model.java.setter.Pojo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.github.anhem.testpopulator.PopulateFactory.INVALID_COUNT;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PopulateFactoryPopulateManyTest {
+
+    private static final PopulateConfig SEEDED_POPULATE_CONFIG = PopulateConfig.builder()
+            .seed(42)
+            .build();
+
+    @Test
+    void populateManyCreatesDifferentObjects() {
+        List<Pojo> pojos = new PopulateFactory().populateMany(Pojo.class, 100);
+
+        assertThat(pojos).hasSize(100).doesNotContainNull();
+        assertThat(pojos.stream().map(Pojo::getStringValue).collect(Collectors.toSet())).hasSize(100);
+    }
+
+    @Test
+    void seededPopulateManyCreatesSameObjectsAsPopulate() {
+        PopulateFactory populateFactory = new PopulateFactory(SEEDED_POPULATE_CONFIG);
+        List<Pojo> expected = IntStream.range(0, 10)
+                .mapToObj(i -> populateFactory.populate(Pojo.class))
+                .collect(Collectors.toList());
+
+        List<Pojo> pojos = new PopulateFactory(SEEDED_POPULATE_CONFIG).populateMany(Pojo.class, 10);
+
+        assertThat(pojos).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void seededPopulateManyOnExecutorCreatesSameObjectsInSameOrder() throws InterruptedException {
+        List<Pojo> expected = new PopulateFactory(SEEDED_POPULATE_CONFIG).populateMany(Pojo.class, 20);
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+
+        List<Pojo> pojos = new PopulateFactory(SEEDED_POPULATE_CONFIG).populateMany(Pojo.class, 20, executorService);
+
+        assertThat(pojos).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(expected);
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+    }
+
+    @Test
+    void populateManyOnExecutorRethrowsPopulateException() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+        assertThatThrownBy(() -> new PopulateFactory().populateMany(Runnable.class, 10, executorService))
+                .isInstanceOf(PopulateException.class);
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+    }
+
+    @Test
+    void seededParallelStreamCreatesSameObjectsAsSequentialStream() {
+        List<Pojo> expected = new PopulateFactory(SEEDED_POPULATE_CONFIG).stream(Pojo.class)
+                .limit(20)
+                .collect(Collectors.toList());
+
+        List<Pojo> pojos = new PopulateFactory(SEEDED_POPULATE_CONFIG).stream(Pojo.class)
+                .parallel()
+                .limit(20)
+                .collect(Collectors.toList());
+
+        assertThat(pojos).usingRecursiveFieldByFieldElementComparator().containsExactlyElementsOf(expected);
+    }
+
+    @Test
+    void seededStreamsDoNotRepeatObjectsOfEarlierCalls() {
+        PopulateFactory populateFactory = new PopulateFactory(SEEDED_POPULATE_CONFIG);
+        Pojo pojo = populateFactory.populate(Pojo.class);
+
+        Pojo firstStreamPojo = populateFactory.stream(Pojo.class).findFirst().orElseThrow();
+        Pojo secondStreamPojo = populateFactory.stream(Pojo.class).findFirst().orElseThrow();
+
+        assertThat(firstStreamPojo.getStringValue()).isNotEqualTo(pojo.getStringValue());
+        assertThat(secondStreamPojo.getStringValue()).isNotEqualTo(firstStreamPojo.getStringValue());
+        assertThat(new PopulateFactory(SEEDED_POPULATE_CONFIG).stream(Pojo.class).findFirst().orElseThrow())
+                .usingRecursiveComparison()
+                .isEqualTo(new PopulateFactory(SEEDED_POPULATE_CONFIG).populate(Pojo.class));
+    }
+
+    @Test
+    void negativeCountThrowsException() {
+        PopulateFactory populateFactory = new PopulateFactory();
+
+        assertThatThrownBy(() -> populateFactory.populateMany(Pojo.class, -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(INVALID_COUNT, -1));
+        assertThatThrownBy(() -> populateFactory.populateMany(Pojo.class, -1, Runnable::run))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(INVALID_COUNT, -1));
+    }
+
+    @Test
+    void parallelStreamCreatesDifferentObjects() {
+        Set<String> stringValues = new PopulateFactory().stream(Pojo.class)
+                .parallel()
+                .limit(200)
+                .map(Pojo::getStringValue)
+                .collect(Collectors.toSet());
+
+        assertThat(stringValues).hasSize(200);
+    }
+}
@@ -0,0 +1,92 @@
+package com.github.anhem.testpopulator;
+
+import com.github.anhem.testpopulator.config.PopulateConfig;
+import com.github.anhem.testpopulator.model.java.ArbitraryEnum;
+import com.github.anhem.testpopulator.model.java.constructor.NestedCollections;
+import com.github.anhem.testpopulator.model.java.setter.Pojo;
+import com.github.anhem.testpopulator.model.lombok.LombokImmutable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static com.github.anhem.testpopulator.config.BuilderPattern.LOMBOK;
+import static com.github.anhem.testpopulator.config.Strategy.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class PopulateFactoryWarmUpTest {
+
+    @Test
+    void reachableClassesAreResolved() {
+        PopulateFactory populateFactory = new PopulateFactory(PopulateConfig.builder()
+                .constructorStrategy()
+                .and()
+                .setterStrategy()
+                .and()
+                .build());
+
+        WarmUpReport warmUpReport = populateFactory.warmUp(Pojo.class, NestedCollections.class);
+
+        assertThat(warmUpReport.getStrategies()).contains(
+                entry(Pojo.class, SETTER.name()),
+                entry(NestedCollections.class, CONSTRUCTOR.name()),
+                entry(NestedCollections.SimpleClass.class, CONSTRUCTOR.name()),
+                entry(ArrayList.class, "COLLECTION_LIKE"),
+                entry(List.class, "COLLECTION_LIKE"),
+                entry(ArbitraryEnum.class, WarmUpReport.VALUE),
+                entry(int[].class, "ARRAY"),
+                entry(int.class, WarmUpReport.VALUE),
+                entry(String.class, WarmUpReport.VALUE)
+        );
+        assertThat(warmUpReport.getDuration()).isPositive();
+        assertThat(populateFactory.populate(NestedCollections.class).getListOfSimpleClass()).isNotEmpty();
+    }
+
+    @Test
+    void builderMethodsAreFollowed() {
+        PopulateFactory populateFactory = new PopulateFactory(PopulateConfig.builder()
+                .builderStrategy()
+                .pattern(LOMBOK)
+                .and()
+                .build());
+
+        WarmUpReport warmUpReport = populateFactory.warmUp(LombokImmutable.class);
+
+        assertThat(warmUpReport.getStrategies()).contains(
+                entry(LombokImmutable.class, BUILDER.name()),
+                entry(Optional.class, "COLLECTION_LIKE"),
+                entry(Integer.class, WarmUpReport.VALUE)
+        );
+    }
+
+    @Test
+    void parallelWarmUpResolvesTheSameClasses() {
+        PopulateFactory populateFactory = new PopulateFactory();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            WarmUpReport parallel = populateFactory.warmUp(executor, Pojo.class, NestedCollections.class);
+            WarmUpReport sequential = populateFactory.warmUp(Pojo.class, NestedCollections.class);
+
+            assertThat(parallel.getStrategies()).isEqualTo(sequential.getStrategies());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void unsupportedClassesAreReported() {
+        PopulateFactory populateFactory = new PopulateFactory(PopulateConfig.builder()
+                .setterStrategy()
+                .and()
+                .build());
+
+        WarmUpReport warmUpReport = populateFactory.warmUp(NestedCollections.class);
+
+        assertThat(warmUpReport.getUnsupportedClasses()).containsExactly(NestedCollections.class);
+        assertThat(warmUpReport).hasToString(String.format("Resolved 1 classes in %d ms, 1 unsupported", warmUpReport.getDuration().toMillis()));
+    }
+}
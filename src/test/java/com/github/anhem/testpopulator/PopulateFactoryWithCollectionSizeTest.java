@@ -0,0 +1,315 @@
+package com.github.anhem.testpopulator;
+
+import com.github.anhem.testpopulator.config.CollectionSize;
+import com.github.anhem.testpopulator.config.PopulateConfig;
+import com.github.anhem.testpopulator.exception.PopulateException;
+import com.github.anhem.testpopulator.model.java.ArbitraryEnum;
+import com.github.anhem.testpopulator.model.java.constructor.NestedCollections;
+import com.github.anhem.testpopulator.model.java.constructor.ValueTypeSetsAndMaps;
+import com.github.anhem.testpopulator.model.java.setter.Pojo;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.github.anhem.testpopulator.config.CollectionSize.INVALID_COLLECTION_SIZE;
+import static com.github.anhem.testpopulator.internal.populate.PopulatorExceptionMessages.FAILED_TO_POPULATE_DISTINCT_ELEMENTS;
+import static com.github.anhem.testpopulator.testutil.GeneratedCodeUtil.assertGeneratedCode;
+import static com.github.anhem.testpopulator.testutil.GeneratedCodeUtil.assertGeneratedCodeContains;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PopulateFactoryWithCollectionSizeTest {
+
+    @Test
+    void collectionsMapsAndArraysGetConfiguredSize() {
+        PopulateConfig populateConfig = createPopulateConfig()
+                .collectionSize(CollectionSize.of(5))
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        Pojo pojo = populateFactory.populate(Pojo.class);
+
+        assertThat(pojo.getListOfStrings()).hasSize(5);
+        assertThat(pojo.getQueue()).hasSize(5);
+        assertThat(pojo.getCopyOnWriteArrayList()).hasSize(5);
+        assertThat(pojo.getSetOfStrings()).hasSize(5);
+        assertThat(pojo.getSortedSet()).hasSize(5);
+        assertThat(pojo.getMapOfStringsToIntegers()).hasSize(5);
+        assertThat(pojo.getConcurrentMap()).hasSize(5);
+        assertThat(pojo.getArrayOfStrings()).hasSize(5);
+        assertThat(pojo.getArrayOfInts()).hasSize(5);
+        assertThat(pojo.getEnumSet()).hasSize(5);
+    }
+
+    @Test
+    void sizesAreWithinRange() {
+        PopulateConfig populateConfig = createPopulateConfig()
+                .collectionSize(CollectionSize.of(2, 4))
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        List<Pojo> pojos = populateFactory.populateMany(Pojo.class, 20);
+
+        assertThat(pojos).allSatisfy(pojo -> {
+            assertThat(pojo.getListOfStrings()).hasSizeBetween(2, 4);
+            assertThat(pojo.getArrayOfStrings()).hasSizeBetween(2, 4);
+        });
+    }
+
+    @Test
+    void nameSizeTakesPrecedenceOverClassSizeAndClassSizeOverDefaultSize() {
+        PopulateConfig populateConfig = createPopulateConfig()
+                .collectionSize(CollectionSize.of(2))
+                .collectionSize(List.class, CollectionSize.of(3))
+                .collectionSize("setListOfStrings", List.class, CollectionSize.of(0))
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        Pojo pojo = populateFactory.populate(Pojo.class);
+
+        assertThat(pojo.getListOfStrings()).isEmpty();
+        assertThat(pojo.getListOfEnums()).hasSize(3);
+        assertThat(pojo.getSetOfStrings()).hasSize(2);
+    }
+
+    @Test
+    void setsAndMapsGetConfiguredSizeWithFixedValues() {
+        PopulateConfig populateConfig = createPopulateConfig()
+                .randomValues(false)
+                .collectionSize(CollectionSize.of(5))
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        Pojo pojo = populateFactory.populate(Pojo.class);
+
+        assertThat(pojo.getListOfStrings()).hasSize(5);
+        assertThat(pojo.getSetOfStrings()).hasSize(5).contains("string", "string1", "string4");
+        assertThat(pojo.getEnumSet()).hasSize(5);
+        assertThat(pojo.getMapOfIntegersToStrings()).hasSize(5).containsKeys(1, 2, 5);
+        assertThat(pojo.getMapOfStringsToIntegers()).hasSize(5);
+        assertThat(pojo.getEnumMap()).hasSize(5);
+        assertThat(pojo.getNestedSet()).hasSize(5).allSatisfy(set -> assertThat(set).hasSize(5));
+    }
+
+    @Test
+    void setsAndMapsGetConfiguredSizeWithRandomValues() {
+        PopulateConfig populateConfig = createPopulateConfig()
+                .randomValues(true)
+                .collectionSize(CollectionSize.of(5))
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        List<Pojo> pojos = populateFactory.populateMany(Pojo.class, 20);
+
+        assertThat(pojos).allSatisfy(pojo -> {
+            assertThat(pojo.getSetOfStrings()).hasSize(5);
+            assertThat(pojo.getEnumSet()).hasSize(5);
+            assertThat(pojo.getMapOfIntegersToStrings()).hasSize(5);
+            assertThat(pojo.getMapOfStringsToEnums()).hasSize(5);
+            assertThat(pojo.getEnumMap()).hasSize(5);
+        });
+    }
+
+    @Test
+    void setsAndMapsOfValueTypesGetConfiguredSizeWithFixedValues() {
+        PopulateConfig populateConfig = PopulateConfig.builder()
+                .randomValues(false)
+                .collectionSize(CollectionSize.of(3))
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        ValueTypeSetsAndMaps valueTypeSetsAndMaps = populateFactory.populate(ValueTypeSetsAndMaps.class);
+
+        assertValueTypeSetsAndMapsHaveSize(valueTypeSetsAndMaps, 3);
+    }
+
+    @Test
+    void setsAndMapsOfValueTypesGetConfiguredSizeWithRandomValues() {
+        PopulateConfig populateConfig = PopulateConfig.builder()
+                .randomValues(true)
+                .collectionSize(CollectionSize.of(3))
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        List<ValueTypeSetsAndMaps> valueTypeSetsAndMaps = populateFactory.populateMany(ValueTypeSetsAndMaps.class, 20);
+
+        assertThat(valueTypeSetsAndMaps).allSatisfy(value -> assertValueTypeSetsAndMapsHaveSize(value, 3));
+    }
+
+    @Test
+    void setsAndMapsOfValueTypesWithFewValuesGetAllOfThem() {
+        PopulateConfig populateConfig = PopulateConfig.builder()
+                .collectionSize(CollectionSize.of(10))
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        ValueTypeSetsAndMaps valueTypeSetsAndMaps = populateFactory.populate(ValueTypeSetsAndMaps.class);
+        Pojo pojo = populateFactory.populate(Pojo.class);
+
+        assertThat(valueTypeSetsAndMaps.getSetOfBooleans()).containsExactlyInAnyOrder(true, false);
+        assertThat(valueTypeSetsAndMaps.getMapOfBooleansToStrings()).hasSize(2);
+        assertThat(valueTypeSetsAndMaps.getSetOfCharsets()).hasSize(6);
+        assertThat(valueTypeSetsAndMaps.getSetOfUuids()).hasSize(10);
+        assertThat(pojo.getEnumSet()).containsExactlyInAnyOrder(ArbitraryEnum.values());
+        assertThat(pojo.getEnumMap()).containsOnlyKeys(ArbitraryEnum.values());
+    }
+
+    @Test
+    void generatedCodeOfSetsAndMapsOfValueTypesHasConfiguredSize() {
+        PopulateConfig populateConfig = PopulateConfig.builder()
+                .randomValues(false)
+                .collectionSize(CollectionSize.of(3))
+                .objectFactory(true)
+                .and()
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        ValueTypeSetsAndMaps valueTypeSetsAndMaps = populateFactory.populate(ValueTypeSetsAndMaps.class);
+
+        assertValueTypeSetsAndMapsHaveSize(valueTypeSetsAndMaps, 3);
+        assertGeneratedCode(valueTypeSetsAndMaps, populateConfig);
+    }
+
+    @Test
+    void setsThatCanNotReachConfiguredSizeThrowException() {
+        UUID uuid = UUID.randomUUID();
+        PopulateConfig populateConfig = PopulateConfig.builder()
+                .collectionSize(CollectionSize.of(3))
+                .addOverride(UUID.class, () -> uuid)
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        assertThatThrownBy(() -> populateFactory.populate(ValueTypeSetsAndMaps.class))
+                .isInstanceOf(PopulateException.class)
+                .hasRootCauseMessage(String.format(FAILED_TO_POPULATE_DISTINCT_ELEMENTS, 3, Set.class.getTypeName(), 1, 102));
+    }
+
+    @Test
+    void generatedCodeHasConfiguredSize() {
+        PopulateConfig populateConfig = createPopulateConfig()
+                .collectionSize(CollectionSize.of(0, 3))
+                .objectFactory(true)
+                .and()
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        Pojo pojo = populateFactory.populate(Pojo.class);
+
+        assertGeneratedCode(pojo, populateConfig);
+    }
+
+    @Test
+    void generatedCodeOfSetsAndMapsHasConfiguredSizeWithFixedValues() {
+        PopulateConfig populateConfig = createPopulateConfig()
+                .randomValues(false)
+                .collectionSize(CollectionSize.of(5))
+                .objectFactory(true)
+                .and()
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        Pojo pojo = populateFactory.populate(Pojo.class);
+
+        assertThat(pojo.getSetOfStrings()).hasSize(5);
+        assertGeneratedCode(pojo, populateConfig);
+    }
+
+    @Test
+    void generatedCodeOfSetsAndMapsHasConfiguredSizeWithRandomValues() {
+        PopulateConfig populateConfig = createPopulateConfig()
+                .collectionSize(CollectionSize.of(5))
+                .objectFactory(true)
+                .and()
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        Pojo pojo = populateFactory.populate(Pojo.class);
+
+        assertThat(pojo.getEnumSet()).hasSize(5);
+        assertGeneratedCode(pojo, populateConfig);
+    }
+
+    @Test
+    void generatedCodeOfNestedCollectionsHasConfiguredSize() {
+        PopulateConfig populateConfig = PopulateConfig.builder()
+                .collectionSize(CollectionSize.of(0, 3))
+                .objectFactory(true)
+                .and()
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        NestedCollections nestedCollections = populateFactory.populate(NestedCollections.class);
+
+        assertGeneratedCode(nestedCollections, populateConfig);
+    }
+
+    @Test
+    void largeGeneratedCodeIsSplitIntoMethodsThatCompile() {
+        PopulateConfig populateConfig = PopulateConfig.builder()
+                .collectionSize(CollectionSize.of(20))
+                .objectFactory(true)
+                .and()
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        NestedCollections nestedCollections = populateFactory.populate(NestedCollections.class);
+
+        assertGeneratedCodeContains(nestedCollections, populateConfig, "public static final NestedCollections nestedCollections_0 = nestedCollections_0();");
+        assertGeneratedCode(nestedCollections, populateConfig);
+    }
+
+    @Test
+    void multidimensionalArraysGetConfiguredSizePerDimension() {
+        PopulateConfig populateConfig = PopulateConfig.builder()
+                .collectionSize(int[][].class, CollectionSize.of(2))
+                .collectionSize(int[].class, CollectionSize.of(4))
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        int[][] ints = populateFactory.populate(int[][].class);
+
+        assertThat(ints).hasDimensions(2, 4);
+    }
+
+    @Test
+    void invalidCollectionSizeThrowsException() {
+        assertThatThrownBy(() -> CollectionSize.of(3, 2))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(INVALID_COLLECTION_SIZE, 3, 2));
+        assertThatThrownBy(() -> CollectionSize.of(-1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void assertValueTypeSetsAndMapsHaveSize(ValueTypeSetsAndMaps valueTypeSetsAndMaps, int size) {
+        assertThat(valueTypeSetsAndMaps.getSetOfUuids()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getMapOfLocalDatesToStrings()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getMapOfUuidsToIntegers()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getSetOfBooleans()).hasSize(2);
+        assertThat(valueTypeSetsAndMaps.getMapOfBooleansToStrings()).hasSize(2);
+        assertThat(valueTypeSetsAndMaps.getSetOfLocalDateTimes()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getSetOfInstants()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getSetOfLocalTimes()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getSetOfDurations()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getSetOfYears()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getSetOfMonthDays()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getSetOfDates()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getSetOfCurrencies()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getSetOfLocales()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getSetOfZoneIds()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getSetOfZoneOffsets()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getSetOfCharsets()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getSetOfUris()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getSetOfPaths()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getSetOfBitSets()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getSetOfByteBuffers()).hasSize(size);
+        assertThat(valueTypeSetsAndMaps.getSetOfInetAddresses()).hasSize(size);
+    }
+
+    private PopulateConfig.PopulateConfigBuilder createPopulateConfig() {
+        return PopulateConfig.builder()
+                .setterStrategy()
+                .and();
+    }
+}
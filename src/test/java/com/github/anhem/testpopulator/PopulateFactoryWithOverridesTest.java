@@ -4,6 +4,7 @@ import com.github.anhem.testpopulator.config.OverridePopulate;
 import com.github.anhem.testpopulator.config.OverrideTarget;
 import com.github.anhem.testpopulator.config.PopulateConfig;
 import com.github.anhem.testpopulator.model.java.constructor.AllArgsConstructor;
+import com.github.anhem.testpopulator.model.java.field.Fields;
 import com.github.anhem.testpopulator.model.java.setter.Pojo;
 import com.github.anhem.testpopulator.readme.model.MyUUID;
 import org.junit.jupiter.api.Test;
@@ -46,6 +47,21 @@ class PopulateFactoryWithOverridesTest {
         assertThat(result.getIntegerValue()).isEqualTo(localInteger);
     }
 
+    @Test
+    void primitiveOverridesArePassedToSettersAndFields() {
+        Pojo pojo = new PopulateFactory(createPrimitiveOverrides().setterStrategy().and().build()).populate(Pojo.class);
+        Fields fields = new PopulateFactory(createPrimitiveOverrides().fieldStrategy().and().build()).populate(Fields.class);
+
+        assertThat(pojo.getPrimitiveIntegerValue()).isEqualTo(7);
+        assertThat(pojo.getPrimitiveLongValue()).isEqualTo(8L);
+        assertThat(pojo.getPrimitiveDoubleValue()).isEqualTo(9D);
+        assertThat(pojo.isPrimitiveBooleanValue()).isTrue();
+        assertThat(fields.getPrimitiveIntegerValue()).isEqualTo(7);
+        assertThat(fields.getPrimitiveLongValue()).isEqualTo(8L);
+        assertThat(fields.getPrimitiveDoubleValue()).isEqualTo(9D);
+        assertThat(fields.isPrimitiveBooleanValue()).isTrue();
+    }
+
     @Test
     void singleLocalOverride() {
         String localValue = "local";
@@ -136,4 +152,13 @@ class PopulateFactoryWithOverridesTest {
         Pojo value = populateFactory.populate(Pojo.class);
         assertThat(value).isNotNull();
     }
+
+    private static PopulateConfig.PopulateConfigBuilder createPrimitiveOverrides() {
+        return PopulateConfig.builder()
+                .addOverride(int.class, (OverridePopulate.OfInt) () -> 7)
+                .addOverride("primitiveLongValue", long.class, (OverridePopulate.OfLong) () -> 8L)
+                .addOverride("setPrimitiveLongValue", long.class, (OverridePopulate.OfLong) () -> 8L)
+                .addOverride(double.class, (OverridePopulate.OfDouble) () -> 9D)
+                .addOverride(boolean.class, (OverridePopulate.OfBoolean) () -> true);
+    }
 }
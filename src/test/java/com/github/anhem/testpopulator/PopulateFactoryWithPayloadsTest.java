@@ -0,0 +1,158 @@
+package com.github.anhem.testpopulator;
+
+import com.github.anhem.testpopulator.config.PopulateConfig;
+import com.github.anhem.testpopulator.model.java.setter.Pojo;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.BitSet;
+import java.util.List;
+
+import static com.github.anhem.testpopulator.config.PopulateConfig.*;
+import static com.github.anhem.testpopulator.testutil.GeneratedCodeUtil.assertGeneratedCode;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PopulateFactoryWithPayloadsTest {
+
+    private static final int SIZE = 1 << 20;
+
+    @Test
+    void payloadsGetConfiguredSize() {
+        PopulateConfig populateConfig = createPopulateConfig()
+                .payloads()
+                .size(byte[].class, SIZE)
+                .size(ByteBuffer.class, SIZE)
+                .size(String.class, 100)
+                .size(BitSet.class, 1000)
+                .and()
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        Pojo pojo = populateFactory.populate(Pojo.class);
+
+        assertThat(pojo.getArrayOfBytes()).hasSize(SIZE);
+        assertThat(pojo.getByteBuffer().remaining()).isEqualTo(SIZE);
+        assertThat(pojo.getByteBuffer().isDirect()).isFalse();
+        assertThat(pojo.getStringValue()).hasSize(100);
+        assertThat(pojo.getBitSet().length()).isLessThanOrEqualTo(1000).isPositive();
+    }
+
+    @Test
+    void fixedPayloadsAreFilledWithFixedValues() {
+        PopulateConfig populateConfig = createPopulateConfig()
+                .randomValues(false)
+                .payloads()
+                .size(ByteBuffer.class, 10)
+                .size(String.class, 10)
+                .size(BitSet.class, 100)
+                .and()
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        Pojo pojo = populateFactory.populate(Pojo.class);
+
+        assertThat(pojo.getByteBuffer()).isEqualTo(ByteBuffer.wrap(new byte[]{1, 1, 1, 1, 1, 1, 1, 1, 1, 1}));
+        assertThat(pojo.getStringValue()).isEqualTo("stringstri");
+        assertThat(pojo.getBitSet().cardinality()).isEqualTo(100);
+    }
+
+    @Test
+    void directByteBuffersAreAllocatedOutsideOfHeap() {
+        PopulateConfig populateConfig = createPopulateConfig()
+                .payloads()
+                .size(ByteBuffer.class, SIZE)
+                .direct(true)
+                .and()
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        ByteBuffer byteBuffer = populateFactory.populate(Pojo.class).getByteBuffer();
+
+        assertThat(byteBuffer.isDirect()).isTrue();
+        assertThat(byteBuffer.remaining()).isEqualTo(SIZE);
+    }
+
+    @Test
+    void sharedByteBuffersAreReadOnlySlicesOfOneRegion() {
+        PopulateConfig populateConfig = createPopulateConfig()
+                .payloads()
+                .size(ByteBuffer.class, SIZE)
+                .direct(true)
+                .shared(true)
+                .and()
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        List<Pojo> pojos = populateFactory.populateMany(Pojo.class, 10);
+
+        assertThat(pojos).allSatisfy(pojo -> {
+            assertThat(pojo.getByteBuffer().isReadOnly()).isTrue();
+            assertThat(pojo.getByteBuffer().isDirect()).isTrue();
+            assertThat(pojo.getByteBuffer().remaining()).isEqualTo(SIZE);
+        });
+        assertThat(pojos).extracting(Pojo::getByteBuffer).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void seededSharedByteBuffersDoNotDependOnWhichCallFillsTheRegion() {
+        PopulateConfig populateConfig = createPopulateConfig()
+                .seed(42)
+                .payloads()
+                .size(ByteBuffer.class, 64)
+                .shared(true)
+                .and()
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+        PopulateFactory otherPopulateFactory = new PopulateFactory(populateConfig);
+
+        Pojo pojo = populateFactory.populate(Pojo.class);
+        otherPopulateFactory.populate(ByteBuffer.class);
+
+        assertThat(otherPopulateFactory.populate(Pojo.class)).usingRecursiveComparison().isEqualTo(pojo);
+    }
+
+    @Test
+    void generatedCodeHasPayloads() {
+        PopulateConfig populateConfig = createPopulateConfig()
+                .payloads()
+                .size(ByteBuffer.class, 16)
+                .size(BitSet.class, 200)
+                .direct(true)
+                .shared(true)
+                .and()
+                .objectFactory(true)
+                .and()
+                .build();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        Pojo pojo = populateFactory.populate(Pojo.class);
+
+        assertGeneratedCode(pojo, populateConfig);
+    }
+
+    @Test
+    void invalidPayloadThrowsException() {
+        PopulateConfig.PayloadConfig payloadConfig = PopulateConfig.builder().payloads();
+
+        assertThatThrownBy(() -> payloadConfig.size(Integer.class, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(INVALID_PAYLOAD_CLASS, Integer.class.getTypeName()));
+        assertThatThrownBy(() -> payloadConfig.size(String.class, -1))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(INVALID_PAYLOAD_SIZE, -1));
+        assertThatThrownBy(() -> PopulateConfig.builder()
+                .payloads()
+                .size(ByteBuffer.class, MAX_SHARED_PAYLOAD_SIZE + 1)
+                .shared(true)
+                .build())
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(INVALID_SHARED_PAYLOAD_SIZE, MAX_SHARED_PAYLOAD_SIZE, MAX_SHARED_PAYLOAD_SIZE + 1));
+    }
+
+    private PopulateConfig.PopulateConfigBuilder createPopulateConfig() {
+        return PopulateConfig.builder()
+                .setterStrategy()
+                .and();
+    }
+}
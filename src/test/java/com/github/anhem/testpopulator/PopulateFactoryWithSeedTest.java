@@ -0,0 +1,117 @@
+package com.github.anhem.testpopulator;
+
+import com.github.anhem.testpopulator.config.PopulateConfig;
+import com.github.anhem.testpopulator.config.RandomSource;
+import com.github.anhem.testpopulator.model.java.constructor.AllArgsConstructor;
+import com.github.anhem.testpopulator.model.java.setter.Pojo;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Currency;
+import java.util.concurrent.*;
+
+import static com.github.anhem.testpopulator.config.PopulateConfig.INVALID_CONFIG_SEED_AND_RANDOM_SOURCE;
+import static com.github.anhem.testpopulator.config.PopulateConfig.SEEDED_REFERENCE_DATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PopulateFactoryWithSeedTest {
+
+    private static final PopulateConfig SEEDED_POPULATE_CONFIG = PopulateConfig.builder()
+            .seed(42)
+            .build();
+
+    @Test
+    void sameSeedCreatesSameValues() {
+        PopulateFactory populateFactory = new PopulateFactory(SEEDED_POPULATE_CONFIG);
+        PopulateFactory otherPopulateFactory = new PopulateFactory(SEEDED_POPULATE_CONFIG);
+
+        Pojo value1 = populateFactory.populate(Pojo.class);
+        Pojo value2 = populateFactory.populate(Pojo.class);
+
+        assertThat(otherPopulateFactory.populate(Pojo.class)).usingRecursiveComparison().isEqualTo(value1);
+        assertThat(otherPopulateFactory.populate(Pojo.class)).usingRecursiveComparison().isEqualTo(value2);
+        assertThat(value1.getStringValue()).isNotEqualTo(value2.getStringValue());
+    }
+
+    @Test
+    void differentSeedCreatesDifferentValues() {
+        Pojo value1 = new PopulateFactory(SEEDED_POPULATE_CONFIG).populate(Pojo.class);
+        Pojo value2 = new PopulateFactory(SEEDED_POPULATE_CONFIG.toBuilder().seed(43).build()).populate(Pojo.class);
+
+        assertThat(value1.getStringValue()).isNotEqualTo(value2.getStringValue());
+    }
+
+    @Test
+    void seededValuesDoNotDependOnOtherConcurrentCalls() throws InterruptedException, ExecutionException {
+        PopulateFactory populateFactory = new PopulateFactory(SEEDED_POPULATE_CONFIG);
+        Pojo expectedPojo = populateFactory.populate(Pojo.class);
+        AllArgsConstructor expectedAllArgsConstructor = populateFactory.populate(AllArgsConstructor.class);
+
+        PopulateFactory concurrentPopulateFactory = new PopulateFactory(SEEDED_POPULATE_CONFIG);
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        Future<AllArgsConstructor> allArgsConstructor = executorService.submit(() -> concurrentPopulateFactory.populate(AllArgsConstructor.class));
+        Future<Pojo> pojo = executorService.submit(() -> concurrentPopulateFactory.populate(Pojo.class));
+
+        assertThat(pojo.get()).usingRecursiveComparison().isEqualTo(expectedPojo);
+        assertThat(allArgsConstructor.get()).usingRecursiveComparison().isEqualTo(expectedAllArgsConstructor);
+        executorService.shutdown();
+        assertThat(executorService.awaitTermination(1, TimeUnit.MINUTES)).isTrue();
+    }
+
+    @Test
+    void seededDatesAreCreatedAroundReferenceDate() {
+        Pojo pojo = new PopulateFactory(SEEDED_POPULATE_CONFIG).populate(Pojo.class);
+
+        assertThat(pojo.getLocalDate()).isBetween(SEEDED_REFERENCE_DATE.minusYears(1), SEEDED_REFERENCE_DATE.plusYears(1));
+        assertThat(pojo.getLocalDate()).isBefore(LocalDate.now().minusYears(1));
+    }
+
+    @Test
+    void seededValuesDoNotDependOnIdentityHashCodes() throws IOException, InterruptedException {
+        String currency = new PopulateFactory(SEEDED_POPULATE_CONFIG).populate(Currency.class).getCurrencyCode();
+
+        assertThat(populateCurrencyInNewJvm(0)).isEqualTo(currency);
+        assertThat(populateCurrencyInNewJvm(7)).isEqualTo(currency);
+        assertThat(populateCurrencyInNewJvm(100)).isEqualTo(currency);
+    }
+
+    @Test
+    void seedCanNotBeCombinedWithRandomSource() {
+        PopulateConfig.PopulateConfigBuilder populateConfigBuilder = PopulateConfig.builder()
+                .seed(42)
+                .randomSource(RandomSource.secure());
+
+        assertThatThrownBy(populateConfigBuilder::build)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(INVALID_CONFIG_SEED_AND_RANDOM_SOURCE);
+    }
+
+    /**
+     * Identity hash codes are handed out in sequence per thread, so creating some before populating changes the hash
+     * codes of the objects populating creates
+     */
+    private static String populateCurrencyInNewJvm(int identityHashCodes) throws IOException, InterruptedException {
+        Process process = new ProcessBuilder(Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-cp", System.getProperty("java.class.path"),
+                SeededCurrency.class.getName(), String.valueOf(identityHashCodes))
+                .redirectErrorStream(true)
+                .start();
+        String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+        assertThat(process.waitFor()).as(output).isZero();
+        return output;
+    }
+
+    static class SeededCurrency {
+
+        public static void main(String[] args) {
+            for (int i = 0; i < Integer.parseInt(args[0]); i++) {
+                new Object().hashCode();
+            }
+            System.out.print(new PopulateFactory(SEEDED_POPULATE_CONFIG).populate(Currency.class).getCurrencyCode());
+        }
+    }
+}
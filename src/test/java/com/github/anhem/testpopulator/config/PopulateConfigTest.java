@@ -2,6 +2,7 @@ package com.github.anhem.testpopulator.config;
 
 import org.junit.jupiter.api.Test;
 
+import java.nio.ByteBuffer;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -12,6 +13,7 @@ import static com.github.anhem.testpopulator.config.PopulateConfig.*;
 import static com.github.anhem.testpopulator.config.Strategy.*;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 class PopulateConfigTest {
 
@@ -23,12 +25,18 @@ class PopulateConfigTest {
         assertThat(DEFAULT_POPULATE_CONFIG.getStrategyOrder()).containsExactly(CONSTRUCTOR, SETTER, STATIC_METHOD);
         assertThat(DEFAULT_POPULATE_CONFIG.getClassOverrides()).isEmpty();
         assertThat(DEFAULT_POPULATE_CONFIG.isRandomValues()).isTrue();
+        assertThat(DEFAULT_POPULATE_CONFIG.getRandomSource()).isSameAs(RandomSource.threadLocal());
         assertThat(DEFAULT_POPULATE_CONFIG.isAccessNonPublicConstructors()).isFalse();
         assertThat(DEFAULT_POPULATE_CONFIG.getSetterPrefixes()).containsExactly("set");
         assertThat(DEFAULT_POPULATE_CONFIG.getBuilderPattern()).isEqualTo(CUSTOM);
         assertThat(DEFAULT_POPULATE_CONFIG.getBlacklistedMethods()).isNotEmpty();
         assertThat(DEFAULT_POPULATE_CONFIG.getBlacklistedFields()).isNotEmpty();
         assertThat(DEFAULT_POPULATE_CONFIG.isObjectFactoryEnabled()).isFalse();
+        assertThat(DEFAULT_POPULATE_CONFIG.isObjectFactoryBackgroundWrites()).isFalse();
+        assertThat(DEFAULT_POPULATE_CONFIG.isObjectFactoryAggregate()).isFalse();
+        assertThat(DEFAULT_POPULATE_CONFIG.getPayloadSizes()).isEmpty();
+        assertThat(DEFAULT_POPULATE_CONFIG.isDirectByteBuffers()).isFalse();
+        assertThat(DEFAULT_POPULATE_CONFIG.isSharedPayloads()).isFalse();
         assertThat(DEFAULT_POPULATE_CONFIG.getObjectFactoryPath()).isNull();
         assertThat(DEFAULT_POPULATE_CONFIG.isNullOnCircularDependency()).isFalse();
         assertThat(DEFAULT_POPULATE_CONFIG.getMethodType()).isEqualTo(MethodType.LARGEST);
@@ -374,6 +382,17 @@ class PopulateConfigTest {
         assertThat(populateConfig.getBuildMethod()).isEqualTo(DEFAULT_BUILD_METHOD);
     }
 
+    @Test
+    void randomSourceIsKeptByToBuilder() {
+        RandomSource randomSource = RandomSource.secure();
+        PopulateConfig populateConfig = PopulateConfig.builder()
+                .randomSource(randomSource)
+                .build();
+
+        assertThat(populateConfig.getRandomSource()).isSameAs(randomSource);
+        assertThat(populateConfig.toBuilder().build().getRandomSource()).isSameAs(randomSource);
+    }
+
     @Test
     void toStringContainsAllFields() {
         String toString = DEFAULT_POPULATE_CONFIG.toString();
@@ -447,11 +466,59 @@ class PopulateConfigTest {
         PopulateConfig populateConfig = PopulateConfig.builder()
                 .objectFactory(true)
                 .path("custom/path")
+                .backgroundWrites(true)
+                .aggregate(true)
                 .and()
                 .build();
 
         assertThat(populateConfig.isObjectFactoryEnabled()).isTrue();
         assertThat(populateConfig.getObjectFactoryPath()).isEqualTo("custom/path");
+        assertThat(populateConfig.isObjectFactoryBackgroundWrites()).isTrue();
+        assertThat(populateConfig.toBuilder().build().isObjectFactoryBackgroundWrites()).isTrue();
+        assertThat(populateConfig.isObjectFactoryAggregate()).isTrue();
+        assertThat(populateConfig.toBuilder().build().isObjectFactoryAggregate()).isTrue();
+    }
+
+    @Test
+    void validateThrowsExceptionWhenLargePayloadsAndObjectFactoryEnabled() {
+        PopulateConfig.PopulateConfigBuilder byteBufferConfig = PopulateConfig.builder()
+                .payloads()
+                .size(ByteBuffer.class, MAX_OBJECT_FACTORY_PAYLOAD_SIZE + 1)
+                .and()
+                .objectFactory(true)
+                .and();
+        PopulateConfig.PopulateConfigBuilder byteArrayConfig = PopulateConfig.builder()
+                .payloads()
+                .size(byte[].class, MAX_OBJECT_FACTORY_PAYLOAD_SIZE + 1)
+                .and()
+                .objectFactory(true)
+                .and();
+
+        assertThatThrownBy(byteBufferConfig::build)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(INVALID_CONFIG_PAYLOAD_SIZE_AND_OBJECT_FACTORY, ByteBuffer.class.getTypeName(), MAX_OBJECT_FACTORY_PAYLOAD_SIZE, MAX_OBJECT_FACTORY_PAYLOAD_SIZE + 1));
+        assertThatThrownBy(byteArrayConfig::build)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(String.format(INVALID_CONFIG_PAYLOAD_SIZE_AND_OBJECT_FACTORY, byte[].class.getTypeName(), MAX_OBJECT_FACTORY_PAYLOAD_SIZE, MAX_OBJECT_FACTORY_PAYLOAD_SIZE + 1));
+        assertThat(byteBufferConfig.objectFactory(false).and().build().getPayloadSizes()).containsEntry(ByteBuffer.class, MAX_OBJECT_FACTORY_PAYLOAD_SIZE + 1);
+    }
+
+    @Test
+    void payloadConfigWorks() {
+        PopulateConfig populateConfig = PopulateConfig.builder()
+                .payloads()
+                .size(ByteBuffer.class, 1024)
+                .size(byte[].class, 2048)
+                .direct(true)
+                .shared(true)
+                .and()
+                .build();
+
+        assertThat(populateConfig.getPayloadSizes()).containsExactly(entry(ByteBuffer.class, 1024));
+        assertThat(populateConfig.getCollectionSize(byte[].class, null)).isEqualTo(CollectionSize.of(2048));
+        assertThat(populateConfig.isDirectByteBuffers()).isTrue();
+        assertThat(populateConfig.isSharedPayloads()).isTrue();
+        assertEqual(populateConfig.toBuilder().build(), populateConfig);
     }
 
     @Test
@@ -464,6 +531,20 @@ class PopulateConfigTest {
         assertThat(populateConfig.getObjectFactoryPath()).isNull();
     }
 
+    @Test
+    void persistentPlansConfigWorks() {
+        PopulateConfig populateConfig = PopulateConfig.builder()
+                .persistentPlans(true)
+                .path("custom/plans")
+                .build();
+
+        assertThat(populateConfig.isPersistentPlansEnabled()).isTrue();
+        assertThat(populateConfig.getPersistentPlansPath()).isEqualTo("custom/plans");
+        assertEqual(populateConfig.toBuilder().build(), populateConfig);
+        assertThat(PopulateConfig.builder().persistentPlans(true).build().getPersistentPlansPath()).endsWith("test-populator");
+        assertThat(PopulateConfig.builder().build().getPersistentPlansPath()).isNull();
+    }
+
     @Test
     void testClearMethods() {
         PopulateConfig baseConfig = PopulateConfig.builder()
@@ -3,6 +3,7 @@ package com.github.anhem.testpopulator.internal.carrier;
 import com.github.anhem.testpopulator.config.PopulateConfig;
 import com.github.anhem.testpopulator.internal.object.ObjectFactoryVoid;
 import com.github.anhem.testpopulator.model.circular.A;
+import com.github.anhem.testpopulator.model.circular.B;
 import com.github.anhem.testpopulator.model.java.constructor.AllArgsConstructor;
 import org.junit.jupiter.api.Test;
 
@@ -28,12 +29,12 @@ class ClassCarrierTest {
 
     @Test
     void hasConstructorsReturnsTrue() {
-        assertThat(new CollectionCarrier<>(HashMap.class, getArbitraryParameter(), new ObjectFactoryVoid(), new ArrayList<>(), CONFIG_NULL_ON_CIRCULAR).hasConstructors()).isTrue();
+        assertThat(new CollectionCarrier<>(HashMap.class, getArbitraryParameter(), new ObjectFactoryVoid(), new VisitedClasses(), CONFIG_NULL_ON_CIRCULAR).hasConstructors()).isTrue();
     }
 
     @Test
     void hasConstructorsReturnsFalse() {
-        assertThat(new CollectionCarrier<>(Map.class, getArbitraryParameter(), new ObjectFactoryVoid(), new ArrayList<>(), CONFIG_NULL_ON_CIRCULAR).hasConstructors()).isFalse();
+        assertThat(new CollectionCarrier<>(Map.class, getArbitraryParameter(), new ObjectFactoryVoid(), new VisitedClasses(), CONFIG_NULL_ON_CIRCULAR).hasConstructors()).isFalse();
     }
 
     @Test
@@ -47,6 +48,19 @@ class ClassCarrierTest {
         assertThat(classCarrier.alreadyVisited()).isTrue();
     }
 
+    @Test
+    void alreadyVisitedReturnsFalseWhenSiblingHasBeenVisited() {
+        ClassCarrier<A> classCarrier = ClassCarrier.initialize(A.class, new ObjectFactoryVoid(), CONFIG_NULL_ON_CIRCULAR);
+        assertThat(classCarrier.alreadyVisited()).isFalse();
+
+        ClassCarrier<B> sibling = classCarrier.toClassCarrier(B.class);
+        assertThat(sibling.alreadyVisited()).isFalse();
+        sibling.removeVisited();
+
+        assertThat(classCarrier.toClassCarrier(B.class).alreadyVisited()).isFalse();
+        assertThat(classCarrier.toClassCarrier(A.class).alreadyVisited()).isTrue();
+    }
+
     @Test
     void alreadyVisitedReturnsFalseWhenNullOnCircularDependencyIsFalse() {
         ClassCarrier<A> classCarrier = ClassCarrier.initialize(A.class, new ObjectFactoryVoid(), CONFIG_NO_NULL_ON_CIRCULAR);
@@ -0,0 +1,71 @@
+package com.github.anhem.testpopulator.internal.event;
+
+import com.github.anhem.testpopulator.PopulateFactory;
+import com.github.anhem.testpopulator.config.PopulateConfig;
+import com.github.anhem.testpopulator.model.java.constructor.AllArgsConstructor;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PopulateEventsTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void eventsAreRecordedWhenEnabled() throws IOException {
+        PopulateFactory populateFactory = new PopulateFactory(PopulateConfig.builder()
+                .constructorStrategy()
+                .and()
+                .objectFactory(true)
+                .path(tempDir.toString())
+                .and()
+                .build());
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(PopulateEvent.class);
+            recording.enable(WriteToFileEvent.class);
+            recording.start();
+            populateFactory.populate(AllArgsConstructor.class);
+            recording.stop();
+            Path file = tempDir.resolve("recording.jfr");
+            recording.dump(file);
+            events = RecordingFile.readAllEvents(file);
+        }
+
+        List<RecordedEvent> populateEvents = getEvents(events, "com.github.anhem.testpopulator.Populate");
+        RecordedEvent topPopulateEvent = populateEvents.stream()
+                .filter(event -> event.getInt("depth") == 0)
+                .findFirst()
+                .orElseThrow();
+        assertThat(topPopulateEvent.getClass("populatedClass").getName()).isEqualTo(AllArgsConstructor.class.getName());
+        assertThat(topPopulateEvent.getString("strategy")).isEqualTo("CONSTRUCTOR");
+        assertThat(topPopulateEvent.getLong("reflectiveCalls")).isPositive();
+        assertThat(populateEvents).anyMatch(event -> event.getInt("depth") == 1 && event.getString("strategy").equals("COLLECTION"));
+        assertThat(getEvents(events, "com.github.anhem.testpopulator.WriteToFile")).hasSize(1)
+                .allMatch(event -> event.getString("path").startsWith(tempDir.toString()));
+    }
+
+    @Test
+    void eventsAreDisabledByDefault() {
+        assertThat(new PopulateEvent().isEnabled()).isFalse();
+        assertThat(PopulateEvents.beginPopulate()).isSameAs(PopulateEvents.beginPopulate());
+        assertThat(PopulateEvents.beginWriteToFile()).isSameAs(PopulateEvents.beginWriteToFile());
+    }
+
+    private static List<RecordedEvent> getEvents(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+}
@@ -106,8 +106,9 @@ class ObjectFactoryImplTest {
     @Test
     void createSet() {
         objectFactoryImpl.constructor(MyClass.class, 1);
-        objectFactoryImpl.set(HashSet.class);
+        objectFactoryImpl.set(HashSet.class, 1);
         objectFactoryImpl.value("myString", String.class, null);
+        objectFactoryImpl.endElements();
 
         ObjectResult objectResult = objectFactoryImpl.build();
         assertThat(objectResult.getPackageName()).isEqualTo(PACKAGE);
@@ -149,9 +150,10 @@ class ObjectFactoryImplTest {
     @Test
     void createMap() {
         objectFactoryImpl.constructor(MyClass.class, 1);
-        objectFactoryImpl.map(HashMap.class);
+        objectFactoryImpl.map(HashMap.class, 1);
         objectFactoryImpl.value("myKey", String.class, null);
         objectFactoryImpl.value("myValue", String.class, null);
+        objectFactoryImpl.endElements();
         ObjectResult objectResult = objectFactoryImpl.build();
         assertThat(objectResult.getPackageName()).isEqualTo(PACKAGE);
         assertThat(objectResult.getClassName()).isEqualTo("MyClass_TestData");
@@ -190,7 +192,7 @@ class ObjectFactoryImplTest {
     @Test
     void createList() {
         objectFactoryImpl.constructor(MyClass.class, 1);
-        objectFactoryImpl.list(ArrayList.class);
+        objectFactoryImpl.list(ArrayList.class, 1);
         objectFactoryImpl.value("myString", String.class, null);
 
         ObjectResult objectResult = objectFactoryImpl.build();
@@ -209,10 +211,125 @@ class ObjectFactoryImplTest {
         ));
     }
 
+    @Test
+    void createNestedListFromReleasedObjects() {
+        objectFactoryImpl.constructor(MyClass.class, 1);
+        objectFactoryImpl.list(ArrayList.class, 1);
+        objectFactoryImpl.list(ArrayList.class, 1);
+        objectFactoryImpl.value("myString", String.class, null);
+
+        ObjectResult objectResult = objectFactoryImpl.build();
+        assertThat(objectResult.getImports()).isEqualTo(Set.of(
+                "java.util.ArrayList"
+        ));
+        assertThat(objectResult.getObjects()).isEqualTo(List.of(
+                "public static final ArrayList<String> arrayList_1 = new ArrayList<>();",
+                "static {",
+                "arrayList_1.add(\"myString\");",
+                "}",
+                "public static final ArrayList<ArrayList<String>> arrayList_0 = new ArrayList<>();",
+                "static {",
+                "arrayList_0.add(arrayList_1);",
+                "}",
+                "public static final MyClass myClass_0 = new MyClass(arrayList_0);"
+        ));
+        assertThat(objectFactoryImpl.build().getObjects()).isEqualTo(objectResult.getObjects());
+    }
+
+    @Test
+    void createObjectWithMissingChildrenKeepsReleasedObjects() {
+        objectFactoryImpl.constructor(MyClass.class, 2);
+        objectFactoryImpl.list(ArrayList.class, 1);
+        objectFactoryImpl.value("myString", String.class, null);
+
+        ObjectResult objectResult = objectFactoryImpl.build();
+        assertThat(objectResult.getObjects()).isEqualTo(List.of(
+                "public static final ArrayList<String> arrayList_0 = new ArrayList<>();",
+                "static {",
+                "arrayList_0.add(\"myString\");",
+                "}",
+                "public static final MyClass myClass_0 = new MyClass(arrayList_0);"
+        ));
+    }
+
+    @Test
+    void createObjectWithEqualChildrenSharesConstant() {
+        objectFactoryImpl.constructor(MyClass.class, 2);
+        objectFactoryImpl.list(ArrayList.class, 1);
+        objectFactoryImpl.value("myString", String.class, null);
+        objectFactoryImpl.list(ArrayList.class, 1);
+        objectFactoryImpl.value("myString", String.class, null);
+
+        ObjectResult objectResult = objectFactoryImpl.build();
+        assertThat(objectResult.getObjects()).isEqualTo(List.of(
+                "public static final ArrayList<String> arrayList_0 = new ArrayList<>();",
+                "static {",
+                "arrayList_0.add(\"myString\");",
+                "}",
+                "public static final MyClass myClass_0 = new MyClass(arrayList_0, arrayList_0);"
+        ));
+    }
+
+    @Test
+    void createObjectWithChildrenThatOnlyHaveTheirOwnNameInStringsDoesNotShareConstant() {
+        objectFactoryImpl.constructor(MyClass.class, 2);
+        objectFactoryImpl.list(ArrayList.class, 1);
+        objectFactoryImpl.value("arrayList_0", String.class, null);
+        objectFactoryImpl.list(ArrayList.class, 1);
+        objectFactoryImpl.value("arrayList_1", String.class, null);
+
+        ObjectResult objectResult = objectFactoryImpl.build();
+        assertThat(objectResult.getObjects()).isEqualTo(List.of(
+                "public static final ArrayList<String> arrayList_0 = new ArrayList<>();",
+                "static {",
+                "arrayList_0.add(\"arrayList_0\");",
+                "}",
+                "public static final ArrayList<String> arrayList_1 = new ArrayList<>();",
+                "static {",
+                "arrayList_1.add(\"arrayList_1\");",
+                "}",
+                "public static final MyClass myClass_0 = new MyClass(arrayList_0, arrayList_1);"
+        ));
+    }
+
+    @Test
+    void createObjectWithEqualSetElementsDoesNotShareConstant() {
+        objectFactoryImpl.constructor(MyClass.class, 2);
+        objectFactoryImpl.set(HashSet.class, 1);
+        objectFactoryImpl.list(ArrayList.class, 1);
+        objectFactoryImpl.value("myString", String.class, null);
+        objectFactoryImpl.endElements();
+        objectFactoryImpl.set(HashSet.class, 1);
+        objectFactoryImpl.list(ArrayList.class, 1);
+        objectFactoryImpl.value("myString", String.class, null);
+        objectFactoryImpl.endElements();
+
+        ObjectResult objectResult = objectFactoryImpl.build();
+        assertThat(objectResult.getObjects()).isEqualTo(List.of(
+                "public static final ArrayList<String> arrayList_0 = new ArrayList<>();",
+                "static {",
+                "arrayList_0.add(\"myString\");",
+                "}",
+                "public static final HashSet<ArrayList<String>> hashSet_0 = new HashSet<>();",
+                "static {",
+                "hashSet_0.add(arrayList_0);",
+                "}",
+                "public static final ArrayList<String> arrayList_1 = new ArrayList<>();",
+                "static {",
+                "arrayList_1.add(\"myString\");",
+                "}",
+                "public static final HashSet<ArrayList<String>> hashSet_1 = new HashSet<>();",
+                "static {",
+                "hashSet_1.add(arrayList_1);",
+                "}",
+                "public static final MyClass myClass_0 = new MyClass(hashSet_0, hashSet_1);"
+        ));
+    }
+
     @Test
     void createArray() {
         objectFactoryImpl.constructor(MyClass.class, 1);
-        objectFactoryImpl.array(Boolean.class);
+        objectFactoryImpl.array(Boolean.class, 1);
         objectFactoryImpl.value(true, Boolean.class, null);
 
         ObjectResult objectResult = objectFactoryImpl.build();
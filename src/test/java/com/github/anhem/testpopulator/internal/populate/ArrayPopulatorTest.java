@@ -3,13 +3,13 @@ package com.github.anhem.testpopulator.internal.populate;
 import com.github.anhem.testpopulator.config.PopulateConfig;
 import com.github.anhem.testpopulator.internal.carrier.ClassCarrier;
 import com.github.anhem.testpopulator.internal.carrier.CollectionCarrier;
+import com.github.anhem.testpopulator.internal.carrier.VisitedClasses;
 import com.github.anhem.testpopulator.internal.object.ObjectFactoryVoid;
 import com.github.anhem.testpopulator.internal.value.ValueFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.lang.reflect.Type;
-import java.util.Collections;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -28,13 +28,13 @@ class ArrayPopulatorTest {
                 config.getNameOverrides(),
                 config.getBuilderPattern()
         );
-        populator = new Populator(valueFactory);
+        populator = new Populator(valueFactory, config);
     }
 
     @Test
     void populateWithClassCarrier() {
         Class<String[]> clazz = String[].class;
-        ClassCarrier<String[]> classCarrier = new ClassCarrier<>(clazz, new ObjectFactoryVoid(), Collections.emptyList(), PopulateConfig.builder().build());
+        ClassCarrier<String[]> classCarrier = new ClassCarrier<>(clazz, new ObjectFactoryVoid(), new VisitedClasses(), PopulateConfig.builder().build());
 
         String[] result = arrayPopulator.populate(classCarrier, populator);
 
@@ -47,7 +47,7 @@ class ArrayPopulatorTest {
     void populateWithCollectionCarrier() {
         Class<String[]> clazz = String[].class;
         Type[] typeArguments = new Type[]{String.class};
-        CollectionCarrier<String[]> collectionCarrier = new CollectionCarrier<>(clazz, typeArguments, new ObjectFactoryVoid(), Collections.emptyList(), PopulateConfig.builder().build());
+        CollectionCarrier<String[]> collectionCarrier = new CollectionCarrier<>(clazz, typeArguments, new ObjectFactoryVoid(), new VisitedClasses(), PopulateConfig.builder().build());
 
         String[] result = arrayPopulator.populate(collectionCarrier, populator);
 
@@ -59,7 +59,7 @@ class ArrayPopulatorTest {
     @Test
     void populateWithPrimitiveArray() {
         Class<int[]> clazz = int[].class;
-        ClassCarrier<int[]> classCarrier = new ClassCarrier<>(clazz, new ObjectFactoryVoid(), Collections.emptyList(), PopulateConfig.builder().build());
+        ClassCarrier<int[]> classCarrier = new ClassCarrier<>(clazz, new ObjectFactoryVoid(), new VisitedClasses(), PopulateConfig.builder().build());
 
         int[] result = arrayPopulator.populate(classCarrier, populator);
 
@@ -0,0 +1,81 @@
+package com.github.anhem.testpopulator.internal.populate;
+
+import com.github.anhem.testpopulator.config.PopulateConfig;
+import com.github.anhem.testpopulator.config.Strategy;
+import com.github.anhem.testpopulator.model.java.constructor.AllArgsConstructor;
+import com.github.anhem.testpopulator.model.java.setter.Pojo;
+import com.github.anhem.testpopulator.model.java.stc.MultipleStaticMethods;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static com.github.anhem.testpopulator.internal.util.PopulateUtil.getLargestConstructor;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlanCacheTest {
+
+    @Test
+    void samePlanIsReturnedForConfigurationsWithSameStrategySettings() {
+        PlanCache planCache = PlanCache.getPlanCache(PopulateConfig.builder().build());
+        PlanCache otherPlanCache = PlanCache.getPlanCache(PopulateConfig.builder()
+                .randomValues(false)
+                .addOverride(String.class, () -> "override")
+                .build());
+
+        assertThat(otherPlanCache).isSameAs(planCache);
+        assertThat(otherPlanCache.getPopulatePlan(AllArgsConstructor.class)).isSameAs(planCache.getPopulatePlan(AllArgsConstructor.class));
+    }
+
+    @Test
+    void differentPlanIsReturnedForConfigurationsWithDifferentStrategySettings() {
+        PlanCache planCache = PlanCache.getPlanCache(PopulateConfig.builder().build());
+        PlanCache otherPlanCache = PlanCache.getPlanCache(PopulateConfig.builder()
+                .reorderStrategies(Strategy.SETTER)
+                .build());
+
+        assertThat(otherPlanCache).isNotSameAs(planCache);
+        assertThat(otherPlanCache.getPopulatePlan(Pojo.class)).isNotSameAs(planCache.getPopulatePlan(Pojo.class));
+    }
+
+    @Test
+    void planIsResolvedForConstructorStrategy() {
+        PopulatePlan populatePlan = PlanCache.getPlanCache(PopulateConfig.builder().build()).getPopulatePlan(AllArgsConstructor.class);
+
+        assertThat(populatePlan.getTypeCategory()).isEqualTo(TypeCategory.STRATEGY);
+        assertThat(populatePlan.getStrategy()).isEqualTo(Strategy.CONSTRUCTOR);
+        assertThat(populatePlan.getPopulatingStrategy()).isInstanceOf(ConstructorPopulator.class);
+        assertThat(populatePlan.<AllArgsConstructor>getConstructor()).isEqualTo(getLargestConstructor(AllArgsConstructor.class, false));
+    }
+
+    @Test
+    void planIsResolvedForSetterStrategy() {
+        PopulatePlan populatePlan = PlanCache.getPlanCache(PopulateConfig.builder()
+                .reorderStrategies(Strategy.SETTER)
+                .build()).getPopulatePlan(Pojo.class);
+
+        assertThat(populatePlan.getStrategy()).isEqualTo(Strategy.SETTER);
+        assertThat(populatePlan.getPopulatingStrategy()).isInstanceOf(SetterPopulator.class);
+        assertThat(populatePlan.<Pojo>getConstructor().getParameterCount()).isZero();
+        assertThat(populatePlan.getMethods()).isNotEmpty();
+    }
+
+    @Test
+    void planIsResolvedForStaticMethodStrategy() {
+        PopulatePlan populatePlan = PlanCache.getPlanCache(PopulateConfig.builder()
+                .reorderStrategies(Strategy.STATIC_METHOD)
+                .build()).getPopulatePlan(MultipleStaticMethods.class);
+
+        assertThat(populatePlan.getStrategy()).isEqualTo(Strategy.STATIC_METHOD);
+        assertThat(populatePlan.getMethod()).isNotNull();
+        assertThat(populatePlan.getMethod().getReturnType()).isEqualTo(MultipleStaticMethods.class);
+    }
+
+    @Test
+    void planIsResolvedForTypeCategories() {
+        PlanCache planCache = PlanCache.getPlanCache(PopulateConfig.builder().build());
+
+        assertThat(planCache.getPopulatePlan(String[].class).getTypeCategory()).isEqualTo(TypeCategory.ARRAY);
+        assertThat(planCache.getPopulatePlan(Map.class).getTypeCategory()).isEqualTo(TypeCategory.COLLECTION_LIKE);
+        assertThat(planCache.getPopulatePlan(Runnable.class).getTypeCategory()).isEqualTo(TypeCategory.UNSUPPORTED);
+    }
+}
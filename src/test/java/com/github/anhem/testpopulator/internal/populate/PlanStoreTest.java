@@ -0,0 +1,124 @@
+package com.github.anhem.testpopulator.internal.populate;
+
+import com.github.anhem.testpopulator.PopulateFactory;
+import com.github.anhem.testpopulator.config.PopulateConfig;
+import com.github.anhem.testpopulator.config.Strategy;
+import com.github.anhem.testpopulator.model.java.constructor.AllArgsConstructor;
+import com.github.anhem.testpopulator.model.java.field.Fields;
+import com.github.anhem.testpopulator.model.java.setter.Pojo;
+import com.github.anhem.testpopulator.model.java.setter.PojoExtendsPojoAbstract;
+import com.github.anhem.testpopulator.model.lombok.LombokImmutable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static com.github.anhem.testpopulator.config.BuilderPattern.LOMBOK;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlanStoreTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void storedPlansAreLoadedInLaterRuns() {
+        PlanKey planKey = PlanKey.of(PopulateConfig.builder()
+                .reorderStrategies(Strategy.CONSTRUCTOR, Strategy.SETTER)
+                .build());
+        PlanStore planStore = new PlanStore(getPath());
+        storePlans(planStore, planKey, AllArgsConstructor.class, PojoExtendsPojoAbstract.class, Runnable.class);
+
+        PlanStore laterPlanStore = new PlanStore(getPath());
+
+        assertSamePlan(laterPlanStore.load(AllArgsConstructor.class, planKey), Populator.resolvePlan(AllArgsConstructor.class, planKey));
+        assertSamePlan(laterPlanStore.load(PojoExtendsPojoAbstract.class, planKey), Populator.resolvePlan(PojoExtendsPojoAbstract.class, planKey));
+        assertThat(laterPlanStore.load(Runnable.class, planKey)).isNull();
+    }
+
+    @Test
+    void storedPlansOfBuildersAndFieldsAreLoadedInLaterRuns() {
+        PlanKey planKey = PlanKey.of(PopulateConfig.builder()
+                .builderStrategy()
+                .pattern(LOMBOK)
+                .and()
+                .reorderStrategies(Strategy.BUILDER, Strategy.FIELD)
+                .build());
+        storePlans(new PlanStore(getPath()), planKey, LombokImmutable.class, Fields.class);
+
+        PlanStore laterPlanStore = new PlanStore(getPath());
+
+        assertSamePlan(laterPlanStore.load(LombokImmutable.class, planKey), Populator.resolvePlan(LombokImmutable.class, planKey));
+        assertSamePlan(laterPlanStore.load(Fields.class, planKey), Populator.resolvePlan(Fields.class, planKey));
+    }
+
+    @Test
+    void plansAreNotLoadedForOtherConfigurations() {
+        storePlans(new PlanStore(getPath()), PlanKey.of(PopulateConfig.builder().build()), Pojo.class);
+
+        PlanKey otherPlanKey = PlanKey.of(PopulateConfig.builder()
+                .reorderStrategies(Strategy.SETTER)
+                .build());
+
+        assertThat(new PlanStore(getPath()).load(Pojo.class, otherPlanKey)).isNull();
+    }
+
+    @Test
+    void plansOfChangedClassesAreNotLoaded() throws IOException {
+        PlanKey planKey = PlanKey.of(PopulateConfig.builder().build());
+        storePlans(new PlanStore(getPath()), planKey, AllArgsConstructor.class);
+        String line = Files.readString(getPath());
+        String[] values = line.split("\t", 4);
+        Files.writeString(getPath(), String.join("\t", values[0], values[1], "changed", values[3]));
+
+        assertThat(new PlanStore(getPath()).load(AllArgsConstructor.class, planKey)).isNull();
+    }
+
+    @Test
+    void replacedAndBrokenLinesAreCompacted() throws IOException {
+        PlanKey planKey = PlanKey.of(PopulateConfig.builder().build());
+        storePlans(new PlanStore(getPath()), planKey, AllArgsConstructor.class);
+        String line = Files.readString(getPath());
+        Files.writeString(getPath(), line + line + line.substring(0, line.length() / 2) + System.lineSeparator());
+
+        PlanStore planStore = new PlanStore(getPath());
+
+        assertThat(Files.readAllLines(getPath())).hasSize(1);
+        assertThat(planStore.load(AllArgsConstructor.class, planKey)).isNotNull();
+    }
+
+    @Test
+    void populateFactoryStoresPlansWhenEnabled() {
+        PopulateFactory populateFactory = new PopulateFactory(PopulateConfig.builder()
+                .persistentPlans(true)
+                .path(tempDir.toString())
+                .build());
+
+        AllArgsConstructor allArgsConstructor = populateFactory.populate(AllArgsConstructor.class);
+
+        assertThat(allArgsConstructor).hasNoNullFieldsOrProperties();
+        assertThat(getPath()).content().contains(AllArgsConstructor.class.getName());
+    }
+
+    private Path getPath() {
+        return tempDir.resolve(PlanStore.PLANS_FILE_NAME);
+    }
+
+    private static void storePlans(PlanStore planStore, PlanKey planKey, Class<?>... classes) {
+        List.of(classes).forEach(clazz -> planStore.store(clazz, planKey, Populator.resolvePlan(clazz, planKey)));
+    }
+
+    private static void assertSamePlan(PopulatePlan populatePlan, PopulatePlan expectedPopulatePlan) {
+        assertThat(populatePlan).isNotNull();
+        assertThat(populatePlan.getTypeCategory()).isEqualTo(expectedPopulatePlan.getTypeCategory());
+        assertThat(populatePlan.getStrategy()).isEqualTo(expectedPopulatePlan.getStrategy());
+        assertThat(populatePlan.getPopulatingStrategy()).isSameAs(expectedPopulatePlan.getPopulatingStrategy());
+        assertThat(populatePlan.<Object>getConstructor()).isEqualTo(expectedPopulatePlan.getConstructor());
+        assertThat(populatePlan.getMethod()).isEqualTo(expectedPopulatePlan.getMethod());
+        assertThat(populatePlan.getMethods()).isEqualTo(expectedPopulatePlan.getMethods());
+        assertThat(populatePlan.getFields()).isEqualTo(expectedPopulatePlan.getFields());
+    }
+}
@@ -0,0 +1,74 @@
+package com.github.anhem.testpopulator.internal.util;
+
+import com.github.anhem.testpopulator.PopulateFactory;
+import com.github.anhem.testpopulator.config.PopulateConfig;
+import com.github.anhem.testpopulator.model.java.constructor.AllArgsConstructor;
+import com.github.anhem.testpopulator.model.java.constructor.NestedCollections;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.github.anhem.testpopulator.internal.util.AggregatedFileWriter.AGGREGATED_CLASS_NAME;
+import static com.github.anhem.testpopulator.internal.util.AggregatedFileWriter.toFactoryMethodName;
+import static com.github.anhem.testpopulator.internal.util.FileWriterUtil.getPath;
+import static com.github.anhem.testpopulator.internal.util.ObjectBuilderUtil.formatClassName;
+import static com.github.anhem.testpopulator.internal.util.ObjectBuilderUtil.getPackageName;
+import static com.github.anhem.testpopulator.testutil.GeneratedCodeUtil.assertAggregatedCode;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AggregatedFileWriterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void populatedClassesAreWrittenToOneAggregatedClass() {
+        PopulateConfig populateConfig = createPopulateConfig();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+        String packageName = getPackageName(AllArgsConstructor.class);
+        Path path = getPath(packageName, AGGREGATED_CLASS_NAME, populateConfig);
+
+        AllArgsConstructor allArgsConstructor = populateFactory.populate(AllArgsConstructor.class);
+        NestedCollections nestedCollections = populateFactory.populate(NestedCollections.class);
+        assertThat(path).doesNotExist();
+        populateFactory.flush();
+
+        assertThat(getPath(packageName, formatClassName(AllArgsConstructor.class), populateConfig)).doesNotExist();
+        assertThat(getPath(packageName, formatClassName(NestedCollections.class), populateConfig)).doesNotExist();
+        assertAggregatedCode(path, packageName, toFactoryMethodName(AllArgsConstructor.class), allArgsConstructor, populateConfig);
+        assertAggregatedCode(path, packageName, toFactoryMethodName(NestedCollections.class), nestedCollections, populateConfig);
+    }
+
+    @Test
+    void populatingClassAgainReplacesItsFactoryMethod() throws IOException {
+        PopulateConfig populateConfig = createPopulateConfig();
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+        String packageName = getPackageName(AllArgsConstructor.class);
+        Path path = getPath(packageName, AGGREGATED_CLASS_NAME, populateConfig);
+
+        populateFactory.populate(AllArgsConstructor.class);
+        populateFactory.flush();
+        AllArgsConstructor allArgsConstructor = populateFactory.populate(AllArgsConstructor.class);
+        populateFactory.flush();
+
+        assertThat(Files.readString(path)).containsOnlyOnce(toFactoryMethodName(AllArgsConstructor.class));
+        assertAggregatedCode(path, packageName, toFactoryMethodName(AllArgsConstructor.class), allArgsConstructor, populateConfig);
+    }
+
+    @Test
+    void factoryMethodNameIsValidForArrays() {
+        assertThat(toFactoryMethodName(AllArgsConstructor[].class)).isEqualTo("createAllArgsConstructorArray");
+    }
+
+    private PopulateConfig createPopulateConfig() {
+        return PopulateConfig.builder()
+                .objectFactory(true)
+                .path(tempDir.toString())
+                .aggregate(true)
+                .and()
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package com.github.anhem.testpopulator.internal.util;
+
+import com.github.anhem.testpopulator.exception.ObjectException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BackgroundFileWriterTest {
+
+    private static final Path PATH_A = Path.of("a");
+    private static final Path PATH_B = Path.of("b");
+
+    @Test
+    void writesToSamePathAreCoalesced() throws InterruptedException {
+        BackgroundFileWriter backgroundFileWriter = new BackgroundFileWriter(10);
+        List<String> written = new CopyOnWriteArrayList<>();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        backgroundFileWriter.write(PATH_B, () -> {
+            started.countDown();
+            awaitUninterruptibly(release);
+            written.add("b1");
+        });
+        assertThat(started.await(1, TimeUnit.MINUTES)).isTrue();
+        backgroundFileWriter.write(PATH_A, () -> written.add("a1"));
+        backgroundFileWriter.write(PATH_A, () -> written.add("a2"));
+        backgroundFileWriter.write(PATH_B, () -> written.add("b2"));
+        release.countDown();
+        backgroundFileWriter.flush();
+
+        assertThat(written).containsExactly("b1", "a2", "b2");
+    }
+
+    @Test
+    void flushRethrowsFailedWriteOnce() {
+        BackgroundFileWriter backgroundFileWriter = new BackgroundFileWriter(10);
+        List<String> written = new CopyOnWriteArrayList<>();
+
+        backgroundFileWriter.write(PATH_A, () -> {
+            throw new ObjectException("failed");
+        });
+        backgroundFileWriter.write(PATH_B, () -> written.add("b"));
+
+        assertThatThrownBy(backgroundFileWriter::flush)
+                .isInstanceOf(ObjectException.class)
+                .hasMessage("failed");
+        assertThat(written).containsExactly("b");
+        backgroundFileWriter.flush();
+    }
+
+    @Test
+    void flushReportsErrorsAndWriterKeepsWriting() {
+        BackgroundFileWriter backgroundFileWriter = new BackgroundFileWriter(10);
+        List<String> written = new CopyOnWriteArrayList<>();
+        StackOverflowError error = new StackOverflowError();
+
+        backgroundFileWriter.write(PATH_A, () -> {
+            throw error;
+        });
+
+        assertThatThrownBy(backgroundFileWriter::flush)
+                .isInstanceOf(ObjectException.class)
+                .hasMessage(String.format(BackgroundFileWriter.FAILED_TO_WRITE, error))
+                .hasCause(error);
+        backgroundFileWriter.write(PATH_B, () -> written.add("b"));
+        backgroundFileWriter.flush();
+        assertThat(written).containsExactly("b");
+    }
+
+    @Test
+    void writeWaitsWhileQueueIsFull() {
+        BackgroundFileWriter backgroundFileWriter = new BackgroundFileWriter(1);
+        List<Integer> written = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < 20; i++) {
+            int value = i;
+            backgroundFileWriter.write(Path.of(String.valueOf(i)), () -> written.add(value));
+        }
+        backgroundFileWriter.flush();
+
+        assertThat(written).hasSize(20).isSorted();
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
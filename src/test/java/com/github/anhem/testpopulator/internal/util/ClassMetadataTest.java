@@ -0,0 +1,82 @@
+package com.github.anhem.testpopulator.internal.util;
+
+import com.github.anhem.testpopulator.model.java.HasBlackListed;
+import com.github.anhem.testpopulator.model.java.setter.PojoExtendsPojoAbstract;
+import com.github.anhem.testpopulator.model.java.setter.PojoPrivateConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ClassMetadataTest {
+
+    @Test
+    void metadataIsCreatedOncePerClass() {
+        assertThat(ClassMetadata.of(PojoExtendsPojoAbstract.class)).isSameAs(ClassMetadata.of(PojoExtendsPojoAbstract.class));
+    }
+
+    @Test
+    void declaredMembersIncludeSuperclasses() {
+        ClassMetadata classMetadata = ClassMetadata.of(PojoExtendsPojoAbstract.class);
+
+        assertThat(classMetadata.getAllDeclaredFields()).extracting(Field::getName).contains("anotherString", "stringValue");
+        assertThat(classMetadata.getAllDeclaredMethods()).extracting(Method::getName).contains("setAnotherString", "setStringValue", "wait");
+        assertThat(classMetadata.getDeclaredMethods(Set.of())).extracting(Method::getName).doesNotContain("wait");
+    }
+
+    @Test
+    void declaredMethodsAreSortedByName() {
+        List<String> methodNames = ClassMetadata.of(PojoExtendsPojoAbstract.class).getAllDeclaredMethods().stream()
+                .filter(method -> method.getDeclaringClass().equals(PojoExtendsPojoAbstract.class))
+                .map(Method::getName)
+                .collect(Collectors.toList());
+
+        assertThat(methodNames).isSorted();
+    }
+
+    @Test
+    void filteredMembersAreCachedPerBlacklist() {
+        ClassMetadata classMetadata = ClassMetadata.of(HasBlackListed.class);
+        Set<String> blacklistedFields = new HashSet<>(Set.of("__$lineHits$__"));
+
+        List<Field> fields = classMetadata.getDeclaredFields(blacklistedFields);
+        blacklistedFields.clear();
+
+        assertThat(fields).extracting(Field::getName).doesNotContain("__$lineHits$__");
+        assertThat(classMetadata.getDeclaredFields(Set.of("__$lineHits$__"))).isSameAs(fields);
+        assertThat(classMetadata.getDeclaredFields(Set.of())).extracting(Field::getName).contains("__$lineHits$__");
+    }
+
+    @Test
+    void cachedListsCanNotBeModified() {
+        List<Field> fields = ClassMetadata.of(PojoExtendsPojoAbstract.class).getDeclaredFields(Set.of());
+
+        assertThatThrownBy(fields::clear).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void hasConstructorRespectsAccessToNonPublicConstructors() {
+        ClassMetadata classMetadata = ClassMetadata.of(PojoPrivateConstructor.class);
+
+        assertThat(classMetadata.hasConstructorWithoutArguments(false)).isFalse();
+        assertThat(classMetadata.hasConstructorWithoutArguments(true)).isTrue();
+    }
+
+    @Test
+    void memoizeComputesValueOncePerKindAndArgument() {
+        ClassMetadata classMetadata = ClassMetadata.of(PojoExtendsPojoAbstract.class);
+
+        Object value = classMetadata.memoize("test", Set.of("a"), Object::new);
+
+        assertThat(classMetadata.memoize("test", Set.of("a"), Object::new)).isSameAs(value);
+        assertThat(classMetadata.memoize("test", Set.of("b"), Object::new)).isNotSameAs(value);
+        assertThat(classMetadata.memoize("other", Set.of("a"), Object::new)).isNotSameAs(value);
+    }
+}
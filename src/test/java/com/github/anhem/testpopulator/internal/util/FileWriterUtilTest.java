@@ -1,18 +1,29 @@
 package com.github.anhem.testpopulator.internal.util;
 
 import com.github.anhem.testpopulator.config.PopulateConfig;
+import com.github.anhem.testpopulator.config.RandomSource;
 import com.github.anhem.testpopulator.internal.object.ObjectResult;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 import java.util.List;
+import java.util.Random;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static com.github.anhem.testpopulator.internal.util.FileWriterUtil.*;
 import static com.github.anhem.testpopulator.testutil.PopulateConfigTestUtil.DEFAULT_POPULATE_CONFIG;
 import static java.io.File.createTempFile;
-import static java.nio.file.Files.readAllLines;
+import static java.nio.file.Files.*;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 
 class FileWriterUtilTest {
@@ -47,76 +58,165 @@ class FileWriterUtilTest {
     }
 
     @Test
-    void createOrOverwriteFileRunsWithoutExceptions() throws IOException {
-        createOrOverwriteFile(getTempPath());
+    void writeIfChangedCreatesFile(@TempDir Path tempDir) throws IOException {
+        Path path = tempDir.resolve("package").resolve("File.java");
 
-        assertThat(getTempPath().toFile()).exists();
+        assertThat(writeIfChanged(path, "content")).isTrue();
+
+        assertThat(readString(path)).isEqualTo("content");
     }
 
     @Test
-    void writePackageAddsPackageToFile() throws IOException {
+    void writeIfChangedOverwritesFileWithOtherContent() throws IOException {
         Path path = getTempPath();
+        writeIfChanged(path, "content");
+
+        assertThat(writeIfChanged(path, "other")).isTrue();
+
+        assertThat(readString(path)).isEqualTo("other");
+    }
+
+    @Test
+    void writeIfChangedSkipsFileWithSameContent() throws IOException {
+        Path path = getTempPath();
+        writeIfChanged(path, "content");
+        FileTime lastModifiedTime = FileTime.fromMillis(0);
+        setLastModifiedTime(path, lastModifiedTime);
+
+        assertThat(writeIfChanged(path, "content")).isFalse();
+
+        assertThat(getLastModifiedTime(path)).isEqualTo(lastModifiedTime);
+    }
+
+    @Test
+    void writeIfChangedFromConcurrentThreadsLeavesWholeFile(@TempDir Path tempDir) throws Exception {
+        Path path = tempDir.resolve("File.java");
+        String content = IntStream.range(0, 10_000)
+                .mapToObj(String::valueOf)
+                .collect(Collectors.joining(System.lineSeparator()));
+        ExecutorService executorService = Executors.newFixedThreadPool(8);
+
+        List<Future<Boolean>> writes = executorService.invokeAll(IntStream.range(0, 32)
+                .mapToObj(i -> (Callable<Boolean>) () -> writeIfChanged(path, content))
+                .collect(Collectors.toList()));
+        executorService.shutdown();
+
+        long created = 0;
+        for (Future<Boolean> write : writes) {
+            created += write.get() ? 1 : 0;
+        }
+        assertThat(created).isEqualTo(1);
+        assertThat(readString(path)).isEqualTo(content);
+        try (Stream<Path> files = list(tempDir)) {
+            assertThat(files.count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    void renderCreatesWholeClass() {
+        String content = render(OBJECT_RESULT, DEFAULT_POPULATE_CONFIG);
+
+        assertThat(content.lines().collect(Collectors.toList())).isEqualTo(List.of(
+                "package com.github.anhem.testpopulator.internal.util;",
+                "",
+                "import java.util.ArrayList;",
+                "",
+                "import static com.github.anhem.testpopulator.model.java.ArbitraryEnum.A;",
+                "",
+                String.format("public class %s_%s {", this.getClass().getName(), FileWriterUtil.encode(DEFAULT_POPULATE_CONFIG)),
+                "",
+                "	public static final ArrayList<ArbitraryEnum> arrayList0 = new ArrayList<>();",
+                "",
+                "	static {",
+                "		arrayList0.add(\"A\")",
+                "	}",
+                "",
+                "private static void myMethod() {",
+                "}",
+                "}"
+        ));
+    }
+
+    @Test
+    void encodeReturnsSameValueForSameConfig() {
+        assertThat(encode(DEFAULT_POPULATE_CONFIG)).isSameAs(encode(DEFAULT_POPULATE_CONFIG));
+    }
 
-        writePackage(OBJECT_RESULT, path);
+    @Test
+    void encodeDoesNotDependOnRandomSourceInstance() {
+        PopulateConfig randomValuesConfig = PopulateConfig.builder().randomSource(RandomSource.of(new Random(1))).build();
+        PopulateConfig otherRandomValuesConfig = PopulateConfig.builder().randomSource(RandomSource.of(new Random(2))).build();
+        PopulateConfig fixedValuesConfig = PopulateConfig.builder().randomValues(false).randomSource(RandomSource.secure()).build();
+
+        assertThat(encode(randomValuesConfig)).isEqualTo(encode(otherRandomValuesConfig));
+        assertThat(encode(randomValuesConfig)).isNotEqualTo(encode(DEFAULT_POPULATE_CONFIG));
+        assertThat(encode(fixedValuesConfig)).isEqualTo(encode(PopulateConfig.builder().randomValues(false).build()));
+    }
 
-        assertThat(readAllLines(path)).isEqualTo(List.of(
+    @Test
+    void writePackageAddsPackageToContent() throws IOException {
+        StringBuilder content = new StringBuilder();
+
+        writePackage(OBJECT_RESULT, content);
+
+        assertThat(toLines(content)).isEqualTo(List.of(
                 "package com.github.anhem.testpopulator.internal.util;",
                 ""
         ));
     }
 
     @Test
-    void writeImportAddsImportsToFile() throws IOException {
-        Path path = getTempPath();
+    void writeImportAddsImportsToContent() throws IOException {
+        StringBuilder content = new StringBuilder();
 
-        writeImports(OBJECT_RESULT, path);
+        writeImports(OBJECT_RESULT, content);
 
-        assertThat(readAllLines(path)).isEqualTo(List.of(
+        assertThat(toLines(content)).isEqualTo(List.of(
                 "import java.util.ArrayList;",
                 ""
         ));
     }
 
     @Test
-    void writeStaticImportAddsStaticImportsToFile() throws IOException {
-        Path path = getTempPath();
+    void writeStaticImportAddsStaticImportsToContent() throws IOException {
+        StringBuilder content = new StringBuilder();
 
-        writeStaticImports(OBJECT_RESULT, path);
+        writeStaticImports(OBJECT_RESULT, content);
 
-        assertThat(readAllLines(path)).isEqualTo(List.of(
+        assertThat(toLines(content)).isEqualTo(List.of(
                 "import static com.github.anhem.testpopulator.model.java.ArbitraryEnum.A;",
                 ""
         ));
     }
 
     @Test
-    void writeStartClassAddsClassToFile() throws IOException {
-        Path path = getTempPath();
+    void writeStartClassAddsClassToContent() throws IOException {
+        StringBuilder content = new StringBuilder();
 
-        writeStartClass(OBJECT_RESULT, path, DEFAULT_POPULATE_CONFIG);
+        writeStartClass(OBJECT_RESULT, content, DEFAULT_POPULATE_CONFIG);
 
-        assertThat(readAllLines(path)).isEqualTo(List.of(
+        assertThat(toLines(content)).isEqualTo(List.of(
                 String.format("public class %s_%s {", this.getClass().getName(), FileWriterUtil.encode(DEFAULT_POPULATE_CONFIG)),
                 ""
         ));
     }
 
     @Test
-    void writeEndClassAddsEndClassToFile() throws IOException {
-        Path path = getTempPath();
+    void writeEndClassAddsEndClassToContent() throws IOException {
+        StringBuilder content = new StringBuilder();
 
-        writeEndClass(path);
+        writeEndClass(content);
 
-        assertThat(readAllLines(path)).isEqualTo(List.of("}"));
+        assertThat(toLines(content)).isEqualTo(List.of("}"));
     }
 
     @Test
-    void writeMethodsAddsMethodsToFile() throws IOException {
-        Path path = getTempPath();
+    void writeMethodsAddsMethodsToContent() throws IOException {
+        StringBuilder content = new StringBuilder();
 
-        writeMethods(OBJECT_RESULT, path);
+        writeMethods(OBJECT_RESULT, content);
 
-        assertThat(readAllLines(path)).isEqualTo(List.of(
+        assertThat(toLines(content)).isEqualTo(List.of(
                 "",
                 "private static void myMethod() {",
                 "}"
@@ -124,12 +224,12 @@ class FileWriterUtilTest {
     }
 
     @Test
-    void writeObjectsAddsObjectsToFile() throws IOException {
-        Path path = getTempPath();
+    void writeObjectsAddsObjectsToContent() throws IOException {
+        StringBuilder content = new StringBuilder();
 
-        writeObjects(OBJECT_RESULT, path);
+        writeObjects(OBJECT_RESULT, content);
 
-        assertThat(readAllLines(path)).isEqualTo(List.of(
+        assertThat(toLines(content)).isEqualTo(List.of(
                 "	public static final ArrayList<ArbitraryEnum> arrayList0 = new ArrayList<>();",
                 "",
                 "	static {",
@@ -137,8 +237,109 @@ class FileWriterUtilTest {
                 "	}"));
     }
 
+    @Test
+    void writeObjectsSplitsObjectsIntoMethodsWhenThereAreTooManyLines() {
+        ObjectResult objectResult = new ObjectResult(FileWriterUtilTest.class.getPackageName(), FileWriterUtilTest.class.getName(), IMPORTS, STATIC_IMPORTS, List.of(
+                "public static final ArrayList<String> arrayList_0 = new ArrayList<>();",
+                "static {",
+                "arrayList_0.add(\"a\");",
+                "}",
+                "public static final ArrayList<String> arrayList_1 = new ArrayList<>();",
+                "static {",
+                "arrayList_1.add(\"b\");",
+                "}",
+                "public static final MyClass myClass_1 = new MyClass(arrayList_0, arrayList_1);",
+                "public static final MyClass myClass_0 = new MyClass(myClass_1, arrayList_0);"
+        ), METHODS);
+        StringBuilder content = new StringBuilder();
+
+        writeObjects(objectResult, content, 0, 2);
+
+        assertThat(toLines(content)).isEqualTo(List.of(
+                "	public static final ArrayList<String> arrayList_0 = arrayList_0();",
+                "	public static final MyClass myClass_0 = myClass_0();",
+                "",
+                "	private static ArrayList<String> arrayList_0() {",
+                "		ArrayList<String> arrayList_0 = new ArrayList<>();",
+                "		arrayList_0.add(\"a\");",
+                "		return arrayList_0;",
+                "	}",
+                "",
+                "	private static ArrayList<String> arrayList_1() {",
+                "		ArrayList<String> arrayList_1 = new ArrayList<>();",
+                "		arrayList_1.add(\"b\");",
+                "		return arrayList_1;",
+                "	}",
+                "",
+                "	private static MyClass myClass_1() {",
+                "		ArrayList<String> arrayList_1 = arrayList_1();",
+                "		MyClass myClass_1 = new MyClass(arrayList_0, arrayList_1);",
+                "		return myClass_1;",
+                "	}",
+                "",
+                "	private static MyClass myClass_0() {",
+                "		MyClass myClass_1 = myClass_1();",
+                "		MyClass myClass_0 = new MyClass(myClass_1, arrayList_0);",
+                "		return myClass_0;",
+                "	}"));
+    }
+
+    @Test
+    void writeObjectsKeepsLocalsInOneMethodBelowMaxMethodLines() {
+        ObjectResult objectResult = new ObjectResult(FileWriterUtilTest.class.getPackageName(), FileWriterUtilTest.class.getName(), IMPORTS, STATIC_IMPORTS, List.of(
+                "public static final ArrayList<String> arrayList_0 = new ArrayList<>();",
+                "static {",
+                "arrayList_0.add(\"a\");",
+                "}",
+                "public static final MyClass myClass_0 = new MyClass(arrayList_0);"
+        ), METHODS);
+        StringBuilder content = new StringBuilder();
+
+        writeObjects(objectResult, content, 0, 10);
+
+        assertThat(toLines(content)).isEqualTo(List.of(
+                "	public static final MyClass myClass_0 = myClass_0();",
+                "",
+                "	private static MyClass myClass_0() {",
+                "		ArrayList<String> arrayList_0 = new ArrayList<>();",
+                "		arrayList_0.add(\"a\");",
+                "		MyClass myClass_0 = new MyClass(arrayList_0);",
+                "		return myClass_0;",
+                "	}"));
+    }
+
+    @Test
+    void writeObjectsCountsLongStatementsAsSeveralLines() {
+        String longArgument = "a".repeat(ObjectSplitUtil.LINE_LENGTH * 2);
+        ObjectResult objectResult = new ObjectResult(FileWriterUtilTest.class.getPackageName(), FileWriterUtilTest.class.getName(), IMPORTS, STATIC_IMPORTS, List.of(
+                String.format("public static final MyClass myClass_1 = new MyClass(\"%s\");", longArgument),
+                "public static final MyClass myClass_0 = new MyClass(myClass_1);"
+        ), METHODS);
+        StringBuilder content = new StringBuilder();
+
+        writeObjects(objectResult, content, 2, 2);
+
+        assertThat(toLines(content)).isEqualTo(List.of(
+                "	public static final MyClass myClass_0 = myClass_0();",
+                "",
+                "	private static MyClass myClass_1() {",
+                String.format("		MyClass myClass_1 = new MyClass(\"%s\");", longArgument),
+                "		return myClass_1;",
+                "	}",
+                "",
+                "	private static MyClass myClass_0() {",
+                "		MyClass myClass_1 = myClass_1();",
+                "		MyClass myClass_0 = new MyClass(myClass_1);",
+                "		return myClass_0;",
+                "	}"));
+    }
+
     private static Path getTempPath() throws IOException {
         return createTempFile("temp_", ".tmp").toPath();
     }
 
+    private static List<String> toLines(StringBuilder content) {
+        return content.toString().lines().collect(Collectors.toList());
+    }
+
 }
\ No newline at end of file
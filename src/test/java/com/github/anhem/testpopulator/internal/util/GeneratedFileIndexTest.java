@@ -0,0 +1,82 @@
+package com.github.anhem.testpopulator.internal.util;
+
+import com.github.anhem.testpopulator.PopulateFactory;
+import com.github.anhem.testpopulator.config.PopulateConfig;
+import com.github.anhem.testpopulator.model.java.setter.Pojo;
+import com.github.anhem.testpopulator.model.java.setter.PojoExtendsPojoAbstract;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static com.github.anhem.testpopulator.internal.util.FileWriterUtil.getPath;
+import static com.github.anhem.testpopulator.internal.util.ObjectBuilderUtil.formatClassName;
+import static com.github.anhem.testpopulator.internal.util.ObjectBuilderUtil.getPackageName;
+import static com.github.anhem.testpopulator.testutil.GeneratedCodeUtil.assertGeneratedCode;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GeneratedFileIndexTest {
+
+    private static final String STALE_CONTENT = "stale";
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void populateSkipsGeneratingCodeWhenFileIsUpToDate() throws IOException {
+        PopulateConfig populateConfig = createPopulateConfig(false);
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+        Path path = getPath(getPackageName(Pojo.class), formatClassName(Pojo.class), populateConfig);
+
+        populateFactory.populate(Pojo.class);
+        assertThat(GeneratedFileIndex.isUpToDate(Pojo.class, populateConfig)).isTrue();
+        assertThat(tempDir.resolve(GeneratedFileIndex.INDEX_FILE_NAME)).isRegularFile();
+        Files.writeString(path, STALE_CONTENT);
+        populateFactory.populate(Pojo.class);
+
+        assertThat(path).hasContent(STALE_CONTENT);
+    }
+
+    @Test
+    void populateGeneratesCodeWhenFileIsMissing() {
+        PopulateConfig populateConfig = createPopulateConfig(false);
+        PopulateFactory populateFactory = new PopulateFactory(populateConfig);
+
+        populateFactory.populate(Pojo.class);
+        assertGeneratedCode(populateFactory.populate(Pojo.class), populateConfig);
+
+        Pojo pojo = populateFactory.populate(Pojo.class);
+
+        assertThat(GeneratedFileIndex.isUpToDate(Pojo.class, populateConfig)).isTrue();
+        assertGeneratedCode(pojo, populateConfig);
+    }
+
+    @Test
+    void randomValuesHaveNoFingerprint() {
+        assertThat(GeneratedFileIndex.toFingerprint(Pojo.class, createPopulateConfig(true))).isNull();
+    }
+
+    @Test
+    void fingerprintDependsOnClassAndConfiguration() {
+        PopulateConfig populateConfig = createPopulateConfig(false);
+
+        assertThat(GeneratedFileIndex.toFingerprint(Pojo.class, populateConfig))
+                .isNotNull()
+                .isEqualTo(GeneratedFileIndex.toFingerprint(Pojo.class, populateConfig))
+                .isNotEqualTo(GeneratedFileIndex.toFingerprint(PojoExtendsPojoAbstract.class, populateConfig))
+                .isNotEqualTo(GeneratedFileIndex.toFingerprint(Pojo.class, populateConfig.toBuilder().nullOnCircularDependency(true).build()));
+    }
+
+    private PopulateConfig createPopulateConfig(boolean randomValues) {
+        return PopulateConfig.builder()
+                .setterStrategy()
+                .and()
+                .randomValues(randomValues)
+                .objectFactory(true)
+                .path(tempDir.toString())
+                .and()
+                .build();
+    }
+}
@@ -0,0 +1,104 @@
+package com.github.anhem.testpopulator.internal.util;
+
+import com.github.anhem.testpopulator.model.java.setter.Pojo;
+import com.github.anhem.testpopulator.model.java.setter.PojoPrivateConstructor;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InvokerTest {
+
+    @Test
+    void invokerIsCreatedOncePerMember() throws NoSuchMethodException {
+        Method method = Pojo.class.getDeclaredMethod("setStringValue", String.class);
+
+        assertThat(Invoker.of(method)).isSameAs(Invoker.of(Pojo.class.getDeclaredMethod("setStringValue", String.class)));
+        assertThat(Invoker.of(method, true)).isNotSameAs(Invoker.of(method));
+    }
+
+    @Test
+    void constructorMethodAndFieldCanBeInvoked() throws ReflectiveOperationException {
+        Pojo pojo = (Pojo) Invoker.of(Pojo.class.getDeclaredConstructor(), false).invoke(null);
+        Invoker.of(Pojo.class.getDeclaredMethod("setPrimitiveIntegerValue", int.class)).invoke(pojo, 42);
+        Invoker.of(Pojo.class.getDeclaredField("stringValue")).invoke(pojo, "value");
+
+        assertThat(pojo.getPrimitiveIntegerValue()).isEqualTo(42);
+        assertThat(pojo.getStringValue()).isEqualTo("value");
+    }
+
+    @Test
+    void primitivesCanBePassedWithoutBoxing() throws ReflectiveOperationException {
+        Pojo pojo = new Pojo();
+
+        Invoker.of(Pojo.class.getDeclaredMethod("setPrimitiveIntegerValue", int.class)).invokeInt(pojo, 42);
+        Invoker.of(Pojo.class.getDeclaredMethod("setPrimitiveLongValue", long.class)).invokeLong(pojo, 43L);
+        Invoker.of(Pojo.class.getDeclaredMethod("setPrimitiveDoubleValue", double.class)).invokeDouble(pojo, 44D);
+        Invoker.of(Pojo.class.getDeclaredField("primitiveBooleanValue")).invokeBoolean(pojo, true);
+        Invoker.of(Pojo.class.getDeclaredMethod("setIntegerValue", Integer.class)).invokeInt(pojo, 45);
+
+        assertThat(pojo.getPrimitiveIntegerValue()).isEqualTo(42);
+        assertThat(pojo.getPrimitiveLongValue()).isEqualTo(43L);
+        assertThat(pojo.getPrimitiveDoubleValue()).isEqualTo(44D);
+        assertThat(pojo.isPrimitiveBooleanValue()).isTrue();
+        assertThat(pojo.getIntegerValue()).isEqualTo(45);
+    }
+
+    @Test
+    void methodsTakingAtMostOneArgumentReturnTheirResult() throws ReflectiveOperationException {
+        Pojo pojo = new Pojo();
+
+        assertThat(Invoker.of(Pojo.class.getDeclaredMethod("setStringValue", String.class)).invoke(pojo, "value")).isNull();
+        assertThat(Invoker.of(Pojo.class.getDeclaredMethod("setPrimitiveIntegerValue", int.class)).invoke(pojo, 42)).isNull();
+        assertThat(Invoker.of(Pojo.class.getDeclaredMethod("getStringValue")).invoke(pojo)).isEqualTo("value");
+        assertThat(Invoker.of(Pojo.class.getDeclaredMethod("getPrimitiveIntegerValue")).invoke(pojo)).isEqualTo(42);
+    }
+
+    @Test
+    void nonPublicConstructorRequiresAccessToNonPublicConstructors() throws ReflectiveOperationException {
+        Constructor<PojoPrivateConstructor> constructor = PojoPrivateConstructor.class.getDeclaredConstructor();
+
+        assertThat(Invoker.of(constructor, true).invoke(null)).isInstanceOf(PojoPrivateConstructor.class);
+        assertThatThrownBy(() -> Invoker.of(constructor, false).invoke(null)).isInstanceOf(IllegalAccessException.class);
+        assertThat(constructor.canAccess(null)).isFalse();
+    }
+
+    @Test
+    void privateFieldIsSetWithoutChangingSharedField() throws ReflectiveOperationException {
+        Field field = ClassMetadata.of(Pojo.class).getAllDeclaredFields().get(0);
+        Pojo pojo = new Pojo();
+
+        Invoker.of(field).invoke(pojo, "value");
+
+        assertThat(pojo.getStringValue()).isEqualTo("value");
+        assertThat(field.canAccess(pojo)).isFalse();
+    }
+
+    @Test
+    void exceptionThrownByMemberIsWrapped() throws NoSuchMethodException {
+        Invoker invoker = Invoker.of(Integer.class.getDeclaredMethod("parseInt", String.class));
+
+        assertThatThrownBy(() -> invoker.invoke(null, "notAnInteger"))
+                .isInstanceOf(InvocationTargetException.class)
+                .hasCauseInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void argumentsThatDoNotMatchTheMemberAreNotWrapped() throws ReflectiveOperationException {
+        Invoker setter = Invoker.of(Pojo.class.getDeclaredMethod("setPrimitiveIntegerValue", int.class));
+        Invoker field = Invoker.of(Pojo.class.getDeclaredField("stringValue"));
+        Pojo pojo = new Pojo();
+
+        assertThatThrownBy(() -> setter.invoke(pojo, "notAnInteger")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> setter.invoke(pojo, (Object) null)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> setter.invoke(pojo)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> setter.invoke(null, 42)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> setter.invokeInt("notAPojo", 42)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> field.invoke(pojo, 42)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -3,6 +3,7 @@ package com.github.anhem.testpopulator.internal.util;
 import com.github.anhem.testpopulator.internal.carrier.Carrier;
 import com.github.anhem.testpopulator.internal.carrier.ClassCarrier;
 import com.github.anhem.testpopulator.internal.carrier.CollectionCarrier;
+import com.github.anhem.testpopulator.internal.carrier.VisitedClasses;
 import com.github.anhem.testpopulator.internal.object.ObjectFactoryVoid;
 import com.github.anhem.testpopulator.model.java.HasBlackListed;
 import com.github.anhem.testpopulator.model.java.constructor.AllArgsConstructor;
@@ -217,7 +218,7 @@ class PopulateUtilTest {
     }
 
     private static <T> CollectionCarrier<T> createCollectionCarrier(Class<T> clazz) {
-        return new CollectionCarrier<>(clazz, getArbitraryParameter(), new ObjectFactoryVoid(), new ArrayList<>(), null);
+        return new CollectionCarrier<>(clazz, getArbitraryParameter(), new ObjectFactoryVoid(), new VisitedClasses(), null);
     }
 
     private static Method getArbitraryMethod() {
@@ -1,11 +1,14 @@
 package com.github.anhem.testpopulator.internal.util;
 
+import com.github.anhem.testpopulator.config.RandomSource;
 import com.github.anhem.testpopulator.model.java.ArbitraryEnum;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Random;
+import java.util.UUID;
 
 import static com.github.anhem.testpopulator.internal.util.RandomUtil.*;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -179,6 +182,25 @@ class RandomUtilTest {
         assertThat(random1).isNotEqualTo(random2);
     }
 
+    @Test
+    void getRandomUUIDIsVersion4() {
+        UUID random = getRandomUUID(RandomSource.threadLocal());
+
+        assertThat(random.version()).isEqualTo(4);
+        assertThat(random.variant()).isEqualTo(2);
+        assertThat(random).isNotEqualTo(getRandomUUID(RandomSource.threadLocal()));
+    }
+
+    @Test
+    void valuesAreDrawnFromGivenRandomSource() {
+        RandomSource random1 = RandomSource.of(new Random(1));
+        RandomSource random2 = RandomSource.of(new Random(1));
+
+        assertThat(getRandomString(random1)).isEqualTo(getRandomString(random2));
+        assertThat(getRandomInt(random1, 10, 20)).isEqualTo(getRandomInt(random2, 10, 20));
+        assertThat(getRandomLocalTime(random1)).isEqualTo(getRandomLocalTime(random2));
+    }
+
     @Test
     void getRandomLocalTimeIsDifferentEachTime() {
         LocalTime random1 = getRandomLocalTime();
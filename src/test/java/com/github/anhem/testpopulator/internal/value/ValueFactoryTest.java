@@ -1,9 +1,12 @@
 package com.github.anhem.testpopulator.internal.value;
 
+import com.github.anhem.testpopulator.config.OverrideTarget;
+import com.github.anhem.testpopulator.config.RandomSource;
 import com.github.anhem.testpopulator.model.java.ArbitraryEnum;
 import com.github.anhem.testpopulator.model.java.setter.Pojo;
 import org.junit.jupiter.api.Test;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.math.BigDecimal;
@@ -11,6 +14,9 @@ import java.math.BigInteger;
 import java.net.InetSocketAddress;
 import java.sql.Time;
 import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -77,6 +83,8 @@ class ValueFactoryTest {
             Error.class
     );
 
+    private static final Clock CLOCK = Clock.fixed(Instant.EPOCH, ZoneOffset.UTC);
+
     private ValueFactory valueFactory;
 
     @Test
@@ -107,6 +115,103 @@ class ValueFactoryTest {
         createAndAssertFixedByteValues();
     }
 
+    @Test
+    void randomValuesAreDrawnFromConfiguredRandomSource() {
+        valueFactory = new ValueFactory(true, Map.of(), Map.of(), CUSTOM, RandomSource.of(new Random(1)), CLOCK);
+        ValueFactory otherValueFactory = new ValueFactory(true, Map.of(), Map.of(), CUSTOM, RandomSource.of(new Random(1)), CLOCK);
+
+        getTestableTypes().stream()
+                .filter(clazz -> !Throwable.class.isAssignableFrom(clazz))
+                .forEach(clazz -> assertThat(valueFactory.createValue(clazz)).isEqualTo(otherValueFactory.createValue(clazz)));
+    }
+
+    @Test
+    void overridesTakePrecedenceWithoutChangingValueFactory() {
+        valueFactory = new ValueFactory(false, Map.of(Integer.class, () -> 2), Map.of(OverrideTarget.of("name", String.class), () -> "name"), CUSTOM);
+
+        ValueFactory overriddenValueFactory = valueFactory.withOverrides(
+                Map.of(Integer.class, () -> 3, Pojo.class, Pojo::new),
+                Map.of(OverrideTarget.of("name", String.class), () -> "overridden")
+        );
+
+        assertThat(overriddenValueFactory.createValue(Integer.class)).isEqualTo(3);
+        assertThat(overriddenValueFactory.createValue(String.class, "name")).isEqualTo("overridden");
+        assertThat(overriddenValueFactory.createValue(String.class, "other")).isEqualTo("string");
+        assertThat(overriddenValueFactory.hasType(Pojo.class, null)).isTrue();
+        assertThat(overriddenValueFactory.withOverrides(Map.of(Long.class, () -> 4L), Map.of()).createValue(Integer.class)).isEqualTo(3);
+        assertThat(valueFactory.createValue(Integer.class)).isEqualTo(2);
+        assertThat(valueFactory.createValue(String.class, "name")).isEqualTo("name");
+        assertThat(valueFactory.hasType(Pojo.class, null)).isFalse();
+        assertThat(valueFactory.withOverrides(Map.of(), Map.of())).isSameAs(valueFactory);
+    }
+
+    @Test
+    void enumLookedUpThroughOverridesDoesNotKeepOverrides() {
+        valueFactory = new ValueFactory(false, Map.of(), Map.of(), CUSTOM);
+        WeakReference<ValueFactory> overriddenValueFactory = lookUpEnumWithOverrides(valueFactory);
+
+        for (int i = 0; i < 10 && overriddenValueFactory.get() != null; i++) {
+            System.gc();
+        }
+
+        assertThat(overriddenValueFactory.get()).isNull();
+        assertThat(valueFactory.getTypeSupplier(ArbitraryEnum.class, null).create()).isEqualTo(ArbitraryEnum.A);
+    }
+
+    @Test
+    void typeSuppliersAreLookedUpByNameBeforeClass() {
+        valueFactory = new ValueFactory(false, Map.of(), Map.of(OverrideTarget.of("name", ArbitraryEnum.class), () -> ArbitraryEnum.B), CUSTOM);
+        ValueFactory overriddenValueFactory = valueFactory.withOverrides(
+                Map.of(String.class, () -> "overridden"),
+                Map.of(OverrideTarget.of("name", Pojo.class), Pojo::new)
+        );
+
+        assertThat(valueFactory.getTypeSupplier(ArbitraryEnum.class, "name").create()).isEqualTo(ArbitraryEnum.B);
+        assertThat(valueFactory.getTypeSupplier(ArbitraryEnum.class, "other").create()).isEqualTo(ArbitraryEnum.A);
+        assertThat(valueFactory.getTypeSupplier(ArbitraryEnum.class, null)).isSameAs(valueFactory.getTypeSupplier(ArbitraryEnum.class, null));
+        assertThat(valueFactory.getTypeSupplier(Pojo.class, "name")).isNull();
+        assertThat(overriddenValueFactory.getTypeSupplier(ArbitraryEnum.class, "name").create()).isEqualTo(ArbitraryEnum.B);
+        assertThat(overriddenValueFactory.getTypeSupplier(String.class, "name").create()).isEqualTo("overridden");
+        assertThat(overriddenValueFactory.getTypeSupplier(Pojo.class, "name").create()).isInstanceOf(Pojo.class);
+        assertThat(overriddenValueFactory.getTypeSupplier(Pojo.class, "other")).isNull();
+    }
+
+    @Test
+    void fixedPrimitiveArraysAreCreated() {
+        valueFactory = new ValueFactory(false, Map.of(), Map.of(), CUSTOM);
+
+        assertThat((int[]) valueFactory.createPrimitiveArray(int.class, null, 3)).containsExactly(1, 1, 1);
+        assertThat((long[]) valueFactory.createPrimitiveArray(long.class, null, 3)).containsExactly(1L, 1L, 1L);
+        assertThat((double[]) valueFactory.createPrimitiveArray(double.class, null, 3)).containsExactly(1D, 1D, 1D);
+        assertThat((byte[]) valueFactory.createPrimitiveArray(byte.class, null, 3)).containsExactly(1, 1, 1);
+        assertThat((char[]) valueFactory.createPrimitiveArray(char.class, null, 3)).containsExactly('c', 'c', 'c');
+        assertThat((boolean[]) valueFactory.createPrimitiveArray(boolean.class, null, 3)).containsExactly(true, true, true);
+        assertThat((short[]) valueFactory.createPrimitiveArray(short.class, null, 3)).containsExactly(1, 1, 1);
+        assertThat((float[]) valueFactory.createPrimitiveArray(float.class, null, 3)).containsExactly(1F, 1F, 1F);
+        assertThat((int[]) valueFactory.createPrimitiveArray(int.class, null, 0)).isEmpty();
+    }
+
+    @Test
+    void randomPrimitiveArraysAreDrawnFromConfiguredRandomSource() {
+        valueFactory = new ValueFactory(true, Map.of(), Map.of(), CUSTOM, RandomSource.of(new Random(1)), CLOCK);
+        ValueFactory otherValueFactory = new ValueFactory(true, Map.of(), Map.of(), CUSTOM, RandomSource.of(new Random(1)), CLOCK);
+
+        List.of(int.class, long.class, double.class, byte.class, char.class, boolean.class, short.class, float.class)
+                .forEach(clazz -> assertThat(valueFactory.createPrimitiveArray(clazz, null, 5))
+                        .isEqualTo(otherValueFactory.createPrimitiveArray(clazz, null, 5)));
+        assertThat((int[]) valueFactory.createPrimitiveArray(int.class, null, 100)).doesNotHaveDuplicates();
+    }
+
+    @Test
+    void primitiveArraysAreNotCreatedForOverriddenOrNonPrimitiveTypes() {
+        valueFactory = new ValueFactory(false, Map.of(), Map.of(), CUSTOM);
+
+        assertThat(valueFactory.createPrimitiveArray(Integer.class, null, 3)).isNull();
+        assertThat(valueFactory.withOverrides(Map.of(int.class, () -> 2), Map.of()).createPrimitiveArray(int.class, null, 3)).isNull();
+        assertThat(valueFactory.withOverrides(Map.of(), Map.of(OverrideTarget.of("ints", int.class), () -> 2)).createPrimitiveArray(int.class, "ints", 3)).isNull();
+        assertThat(new ValueFactory(false, Map.of(long.class, () -> 2L), Map.of(), CUSTOM).createPrimitiveArray(long.class, null, 3)).isNull();
+    }
+
     @Test
     void attemptingToCreateValueOfUnsupportedTypeThrowsException() {
         valueFactory = new ValueFactory(true, Map.of(), Map.of(), CUSTOM);
@@ -277,4 +382,10 @@ class ValueFactoryTest {
             return false;
         }
     }
+
+    private static WeakReference<ValueFactory> lookUpEnumWithOverrides(ValueFactory valueFactory) {
+        ValueFactory overriddenValueFactory = valueFactory.withOverrides(Map.of(Integer.class, () -> 3), Map.of());
+        overriddenValueFactory.getTypeSupplier(ArbitraryEnum.class, null);
+        return new WeakReference<>(overriddenValueFactory);
+    }
 }
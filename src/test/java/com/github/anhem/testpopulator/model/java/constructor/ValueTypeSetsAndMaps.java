@@ -0,0 +1,42 @@
+package com.github.anhem.testpopulator.model.java.constructor;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+import java.net.InetAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.time.*;
+import java.util.*;
+
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public class ValueTypeSetsAndMaps {
+
+    private Set<UUID> setOfUuids;
+    private Map<LocalDate, String> mapOfLocalDatesToStrings;
+    private Map<UUID, Integer> mapOfUuidsToIntegers;
+    private Set<Boolean> setOfBooleans;
+    private Map<Boolean, String> mapOfBooleansToStrings;
+    private Set<LocalDateTime> setOfLocalDateTimes;
+    private Set<Instant> setOfInstants;
+    private Set<LocalTime> setOfLocalTimes;
+    private Set<Duration> setOfDurations;
+    private Set<Year> setOfYears;
+    private Set<MonthDay> setOfMonthDays;
+    private Set<Date> setOfDates;
+    private Set<Currency> setOfCurrencies;
+    private Set<Locale> setOfLocales;
+    private Set<ZoneId> setOfZoneIds;
+    private Set<ZoneOffset> setOfZoneOffsets;
+    private Set<Charset> setOfCharsets;
+    private Set<URI> setOfUris;
+    private Set<Path> setOfPaths;
+    private Set<BitSet> setOfBitSets;
+    private Set<ByteBuffer> setOfByteBuffers;
+    private Set<InetAddress> setOfInetAddresses;
+}
@@ -54,31 +54,44 @@ public class GeneratedCodeUtil {
         }
     }
 
+    public static <T> void assertAggregatedCode(Path path, String packageName, String methodName, T object, PopulateConfig populateConfig) {
+        compileGeneratedFile(path);
+        Class<?> clazz = loadClass(path, packageName, path.getFileName().toString().replace(JAVA, ""), populateConfig);
+        try {
+            assertSameObject(clazz.getDeclaredMethod(methodName).invoke(null), object);
+        } catch (ReflectiveOperationException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     private static <T> void assertGeneratedCode(T object, Path path, String packageName, String simpleName, PopulateConfig populateConfig) {
         try {
             compileGeneratedFile(path);
             Class<T> clazz = loadClass(path, packageName, path.getFileName().toString().replace(JAVA, ""), populateConfig);
-            T value = getStaticObjectFromClass(clazz, simpleName);
-            assertThat(value).usingRecursiveComparison()
-                    .withEqualsForType((a, b) -> a.toString().contentEquals(b), StringBuilder.class)
-                    .withEqualsForType((a, b) -> a.toString().contentEquals(b), StringBuffer.class)
-                    .withEqualsForType((a, b) -> a.getMessage().equals(b.getMessage()) && a.getClass().equals(b.getClass()), Throwable.class)
-                    .withEqualsForType((a, b) -> a.get() == b.get(), AtomicInteger.class)
-                    .withEqualsForType((a, b) -> a.get() == b.get(), AtomicLong.class)
-                    .withEqualsForType((a, b) -> a.get() == b.get(), AtomicBoolean.class)
-                    .withEqualsForType((a, b) -> true, Stream.class)
-                    .withEqualsForType((a, b) -> true, IntStream.class)
-                    .withEqualsForType((a, b) -> true, LongStream.class)
-                    .withEqualsForType((a, b) -> true, DoubleStream.class)
-                    .withEqualsForType((a, b) -> true, Future.class)
-                    .withEqualsForType((a, b) -> true, Scanner.class)
-                    .withEqualsForType((a, b) -> true, Iterator.class)
-                    .isEqualTo(object);
+            assertSameObject(getStaticObjectFromClass(clazz, simpleName), object);
         } finally {
             removeGeneratedFiles(path);
         }
     }
 
+    private static <T> void assertSameObject(Object value, T object) {
+        assertThat(value).usingRecursiveComparison()
+                .withEqualsForType((a, b) -> a.toString().contentEquals(b), StringBuilder.class)
+                .withEqualsForType((a, b) -> a.toString().contentEquals(b), StringBuffer.class)
+                .withEqualsForType((a, b) -> a.getMessage().equals(b.getMessage()) && a.getClass().equals(b.getClass()), Throwable.class)
+                .withEqualsForType((a, b) -> a.get() == b.get(), AtomicInteger.class)
+                .withEqualsForType((a, b) -> a.get() == b.get(), AtomicLong.class)
+                .withEqualsForType((a, b) -> a.get() == b.get(), AtomicBoolean.class)
+                .withEqualsForType((a, b) -> true, Stream.class)
+                .withEqualsForType((a, b) -> true, IntStream.class)
+                .withEqualsForType((a, b) -> true, LongStream.class)
+                .withEqualsForType((a, b) -> true, DoubleStream.class)
+                .withEqualsForType((a, b) -> true, Future.class)
+                .withEqualsForType((a, b) -> true, Scanner.class)
+                .withEqualsForType((a, b) -> true, Iterator.class)
+                .isEqualTo(object);
+    }
+
     @SuppressWarnings("unchecked")
     private static <T> Class<T> loadClass(Path path, String packageName, String className, PopulateConfig populateConfig) {
         assertThat(path.toFile()).exists();